@@ -0,0 +1,62 @@
+// 비밀번호 재설정 요청 폭주 중 약물 목록 조회 지연 시간 확인
+//
+// 실행:
+//   k6 run -e BASE_URL=http://localhost:8080 -e ACCESS_TOKEN=<액세스 토큰> loadtest/password-reset-flood.js
+//
+// reset_flood 시나리오가 초당 RESET_RATE(기본 300)건의 재설정 요청을 보내는 동안
+// medications 시나리오가 /api/v1/medications 를 조회한다.
+// 재설정 응답 지연(1.5~2초)이 워커 스레드를 점유하면 medications 의 p95 임계값을 넘겨 실패한다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+const RESET_RATE = Number(__ENV.RESET_RATE || 300);
+
+export const options = {
+    scenarios: {
+        reset_flood: {
+            executor: 'constant-arrival-rate',
+            exec: 'requestPasswordReset',
+            rate: RESET_RATE,
+            timeUnit: '1s',
+            duration: '1m',
+            // 응답마다 1.5~2초가 걸리므로 동시 요청은 RESET_RATE * 2 이상 필요
+            preAllocatedVUs: RESET_RATE * 2,
+            maxVUs: RESET_RATE * 3,
+        },
+        medications: {
+            executor: 'constant-arrival-rate',
+            exec: 'listMedications',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '1m',
+            preAllocatedVUs: 20,
+            maxVUs: 100,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:medications}': ['p(95)<200', 'p(99)<500'],
+        'http_req_failed{scenario:medications}': ['rate<0.01'],
+        // 재설정 응답은 최소 1.5초, 최대 2초 + 처리 시간
+        'http_req_duration{scenario:reset_flood}': ['p(5)>=1500', 'p(99)<2500'],
+    },
+};
+
+export function requestPasswordReset() {
+    const email = `flood-${__VU}-${__ITER}@example.com`;
+    const res = http.post(
+        `${BASE_URL}/api/v1/auth/password-reset/request`,
+        JSON.stringify({ email }),
+        { headers: { 'Content-Type': 'application/json' }, timeout: '10s' },
+    );
+    check(res, { 'reset 200': (r) => r.status === 200 });
+}
+
+export function listMedications() {
+    const res = http.get(`${BASE_URL}/api/v1/medications?page=0&size=20`, {
+        headers: { Authorization: `Bearer ${ACCESS_TOKEN}` },
+    });
+    check(res, { 'medications 200': (r) => r.status === 200 });
+}
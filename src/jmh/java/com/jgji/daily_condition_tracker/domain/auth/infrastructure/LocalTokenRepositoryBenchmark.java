@@ -0,0 +1,71 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.util.SplittableRandom;
+
+/**
+ * 블랙리스트 크기별 조회 비용
+ * 실제 요청은 대부분 블랙리스트에 없는 토큰이므로 미등록(miss) 조회와 등록(hit) 조회를 나누어 측정한다
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class LocalTokenRepositoryBenchmark {
+
+    private static final int PROBES = 1 << 16;
+    private static final long ONE_DAY_MS = 86_400_000L;
+
+    @Param({"10000", "1000000", "10000000"})
+    private int entries;
+
+    private LocalTokenRepository repository;
+    private TokenDigest[] present;
+    private TokenDigest[] absent;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        repository = new LocalTokenRepository(entries, Clock.systemUTC());
+        present = new TokenDigest[PROBES];
+        absent = new TokenDigest[PROBES];
+
+        SplittableRandom random = new SplittableRandom(42);
+        long expiresAtMillis = System.currentTimeMillis() + ONE_DAY_MS;
+        // 최대 크기에 도달하면 제거가 일어나므로 한 칸 남겨 둠
+        for (int i = 0; i < entries - 1; i++) {
+            TokenDigest digest = new TokenDigest(random.nextLong(), random.nextLong());
+            repository.addToBlacklist(digest, expiresAtMillis + (i % 1_440) * 60_000L);
+            if (i < PROBES) {
+                present[i] = digest;
+            }
+        }
+        for (int i = 0; i < PROBES; i++) {
+            absent[i] = new TokenDigest(random.nextLong(), random.nextLong());
+            if (present[i] == null) {
+                present[i] = present[i % Math.max(1, entries - 1)];
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean isBlacklistedMiss() {
+        return repository.isBlacklisted(absent[next()]);
+    }
+
+    @Benchmark
+    public boolean isBlacklistedHit() {
+        return repository.isBlacklisted(present[next()]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+}
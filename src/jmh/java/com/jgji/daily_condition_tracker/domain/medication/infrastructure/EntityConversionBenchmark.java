@@ -0,0 +1,72 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationResponse;
+import com.jgji.daily_condition_tracker.domain.user.domain.Email;
+import com.jgji.daily_condition_tracker.domain.user.domain.HashedPassword;
+import com.jgji.daily_condition_tracker.domain.user.domain.RawPassword;
+import com.jgji.daily_condition_tracker.domain.user.domain.User;
+import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 엔티티 <-> 도메인 <-> 응답 DTO 변환 비용 (행 1건당 처리량과 gc.alloc.rate.norm)
+ * 변경 전부터 있던 변환 메서드만 사용하므로, 이 파일을 빌더 기반 변환을 쓰던 이전 커밋에 그대로 두고 실행하면
+ * 같은 조건에서 빌더 경로의 연산당 할당 바이트와 비교할 수 있다
+ *
+ * ./gradlew jmh -Pjmh.includes=EntityConversionBenchmark
+ */
+@State(Scope.Benchmark)
+public class EntityConversionBenchmark {
+
+    private MedicationEntity medicationEntity;
+    private Medication medication;
+    private UserEntity userEntity;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        medication = Medication.create(1L, "아스피린", 500, "mg", "식후 30분", true);
+        medicationEntity = MedicationEntity.fromDomain(medication);
+
+        HashedPassword passwordHash = HashedPassword.of(RawPassword.of("Benchmark123!"), new BCryptPasswordEncoder(4));
+        user = User.createRegularUser(Email.of("benchmark.user@example.com"), passwordHash, "벤치마크");
+        userEntity = UserEntity.fromDomain(user);
+    }
+
+    // 목록/상세 조회 경로: 엔티티 -> 도메인 -> 응답
+    @Benchmark
+    public MedicationResponse medicationEntityToResponse() {
+        Medication domain = medicationEntity.toDomain();
+        return MedicationResponse.from(
+                domain.getMedicationId(),
+                domain.getName(),
+                domain.getDosage(),
+                domain.getUnit(),
+                domain.getDescription(),
+                domain.isActive(),
+                domain.getCreatedAt(),
+                domain.getUpdatedAt()
+        );
+    }
+
+    // 등록 경로: 도메인 -> 엔티티
+    @Benchmark
+    public MedicationEntity medicationToEntity() {
+        return MedicationEntity.fromDomain(medication);
+    }
+
+    @Benchmark
+    public User userEntityToDomain() {
+        return userEntity.toDomain();
+    }
+
+    @Benchmark
+    public UserEntity userToEntity() {
+        return UserEntity.fromDomain(user);
+    }
+}
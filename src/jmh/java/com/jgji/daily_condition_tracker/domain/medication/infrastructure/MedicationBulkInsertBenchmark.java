@@ -0,0 +1,119 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약 500건 등록 처리량 (건별 INSERT vs JDBC 배치, rewriteBatchedStatements 유무)
+ * 결과는 등록 1건당 처리량(ops/s)이며, MedicationBatchRepositoryImpl 과 같은 INSERT 문을 사용한다
+ * V007 까지 마이그레이션된 MySQL 이 필요하며, medications 와 같은 구조의 medications_bench 테이블에 등록한다
+ *
+ * ./gradlew jmh -Pjmh.includes=MedicationBulkInsertBenchmark -Dbench.jdbc.url=jdbc:mysql://localhost:3306/daily_condition_tracker
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MedicationBulkInsertBenchmark {
+
+    private static final String TABLE = "medications_bench";
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE
+            + " (user_id, name, dosage, unit, description, is_active, is_deleted, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    @Param({"true", "false"})
+    private boolean rewriteBatchedStatements;
+
+    private Connection connection;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/daily_condition_tracker");
+        connection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=" + rewriteBatchedStatements,
+                System.getProperty("bench.jdbc.username", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " LIKE medications");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    // 테이블이 커지면서 인덱스 유지 비용이 늘어나지 않도록 반복마다 비움
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE " + TABLE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    // 엔티티 save 를 반복하는 경우와 같은 왕복 횟수 (IDENTITY 전략은 Hibernate 배치가 꺼짐)
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void rowByRow() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                bind(insert, now);
+                insert.executeUpdate();
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batched() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                bind(insert, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void bind(PreparedStatement insert, Timestamp now) throws SQLException {
+        long id = sequence++;
+        insert.setLong(1, 1L);
+        // (user_id, name, is_alive) 유니크 제약을 피하기 위해 이름에 순번을 붙임
+        insert.setString(2, "약-" + id);
+        insert.setInt(3, (int) (id % 1000));
+        insert.setString(4, "mg");
+        insert.setString(5, null);
+        insert.setBoolean(6, id % 5 != 0);
+        insert.setTimestamp(7, now);
+        insert.setTimestamp(8, now);
+    }
+}
@@ -0,0 +1,228 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약 목록 조회 쿼리 비교 (엔티티 전체 컬럼 vs 요약 컬럼 프로젝션)
+ * V013 까지 마이그레이션된 MySQL 이 필요하며, medications 와 같은 구조의 medications_bench 테이블에 데이터를 채워 측정한다
+ * SampleTime 결과의 p0.99 로 지연 시간을, 보조 카운터로 쿼리당 전송 바이트(bytesSent)와 읽은 행 수(rowsRead)를 비교한다
+ * coveringIndex=true 에서 요약 컬럼 조회는 인덱스만 읽어야 하므로, 준비 단계에서 EXPLAIN 의 Extra 가 Using index 인지 확인한다
+ *
+ * ./gradlew jmh -Pjmh.includes=MedicationListQueryBenchmark -Dbench.jdbc.url=jdbc:mysql://localhost:3306/daily_condition_tracker
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MedicationListQueryBenchmark {
+
+    private static final String TABLE = "medications_bench";
+    private static final long USER_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+    // 요약 컬럼을 포함하는 목록 인덱스 (V006/V010 을 V013 에서 확장), is_active 를 뒤에 가진 V010 인덱스도 커버링이므로 함께 제거
+    private static final String[] COVERING_INDEXES = {
+            "idx_user_active_medication_id", "idx_user_active_created_at", "idx_user_active_updated_at", "idx_user_active_name",
+            "idx_user_not_deleted_medication_id", "idx_user_not_deleted_created_at", "idx_user_not_deleted_updated_at",
+            "idx_user_not_deleted_name"
+    };
+
+    private static final String ENTITY_QUERY = "SELECT medication_id, user_id, name, dosage, unit, description, is_active, "
+            + "is_deleted, deleted_at, created_at, updated_at FROM " + TABLE
+            + " WHERE user_id = ? AND is_deleted = 0 AND is_active = 1 ORDER BY created_at DESC LIMIT ? OFFSET ?";
+    private static final String SUMMARY_QUERY = "SELECT medication_id, name, dosage, unit, is_active, created_at, updated_at FROM " + TABLE
+            + " WHERE user_id = ? AND is_deleted = 0 AND is_active = 1 ORDER BY created_at DESC LIMIT ? OFFSET ?";
+
+    @Param({"1000", "10000"})
+    private int medications;
+
+    // 메모 길이, 실제 데이터의 긴 메모가 TEXT 컬럼의 off-page 저장으로 이어지는 경우를 포함
+    @Param({"200", "4000"})
+    private int descriptionLength;
+
+    @Param({"true", "false"})
+    private boolean coveringIndex;
+
+    private String url;
+    private String username;
+    private String password;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url = System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/daily_condition_tracker");
+        username = System.getProperty("bench.jdbc.username", "root");
+        password = System.getProperty("bench.jdbc.password", "");
+
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " LIKE medications");
+            if (!coveringIndex) {
+                for (String index : COVERING_INDEXES) {
+                    statement.execute("DROP INDEX " + index + " ON " + TABLE);
+                }
+            }
+            seed(connection);
+            statement.execute("ANALYZE TABLE " + TABLE);
+            if (coveringIndex) {
+                requireIndexOnly(connection);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+    }
+
+    @Benchmark
+    public void entityColumns(Session session, Blackhole blackhole) throws SQLException {
+        session.query(session.entityQuery, blackhole);
+    }
+
+    @Benchmark
+    public void summaryColumns(Session session, Blackhole blackhole) throws SQLException {
+        session.query(session.summaryQuery, blackhole);
+    }
+
+    private static void requireIndexOnly(Connection connection) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + SUMMARY_QUERY)) {
+            explain.setLong(1, USER_ID);
+            explain.setInt(2, PAGE_SIZE);
+            explain.setInt(3, 0);
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                String extra = String.valueOf(plan.getString("Extra"));
+                if (!extra.contains("Using index") || extra.contains("Using index condition") || extra.contains("Using filesort")) {
+                    throw new IllegalStateException("요약 컬럼 조회가 인덱스만 읽지 않습니다: key=" + plan.getString("key") + ", Extra=" + extra);
+                }
+            }
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        String description = "메".repeat(descriptionLength);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (user_id, name, dosage, unit, description, is_active, is_deleted, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, 0, NOW(6) - INTERVAL ? SECOND, NOW(6))")) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < medications; i++) {
+                insert.setLong(1, USER_ID);
+                insert.setString(2, "약-" + i);
+                insert.setInt(3, 1 + random.nextInt(1000));
+                insert.setString(4, "mg");
+                insert.setString(5, description);
+                insert.setBoolean(6, random.nextInt(10) < 8);
+                insert.setInt(7, random.nextInt(365 * 86_400));
+                insert.addBatch();
+                if (i % 500 == 499) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    /**
+     * 스레드별 커넥션과 세션 상태 지표
+     * 반복(iteration)이 끝날 때 세션의 Bytes_sent / Handler_read_* 합계 증가분을 쿼리 수로 나누어 보고한다
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Session {
+
+        public long bytesSent;
+        public long rowsRead;
+
+        private Connection connection;
+        private PreparedStatement entityQuery;
+        private PreparedStatement summaryQuery;
+        private SplittableRandom random;
+        private int pages;
+        private long queries;
+        private long startBytesSent;
+        private long startRowsRead;
+
+        @Setup(Level.Trial)
+        public void open(MedicationListQueryBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.url, benchmark.username, benchmark.password);
+            entityQuery = connection.prepareStatement(ENTITY_QUERY);
+            summaryQuery = connection.prepareStatement(SUMMARY_QUERY);
+            random = new SplittableRandom(7);
+            // 활성 약은 약 80% 이므로 그 범위 안의 페이지만 조회
+            pages = Math.max(1, benchmark.medications * 8 / 10 / PAGE_SIZE);
+        }
+
+        @Setup(Level.Iteration)
+        public void begin() throws SQLException {
+            queries = 0;
+            startBytesSent = sessionStatus("Bytes_sent");
+            startRowsRead = sessionStatus("Handler_read%");
+        }
+
+        @TearDown(Level.Iteration)
+        public void end() throws SQLException {
+            long bytesSentDelta = sessionStatus("Bytes_sent") - startBytesSent;
+            long rowsReadDelta = sessionStatus("Handler_read%") - startRowsRead;
+            bytesSent = queries > 0 ? bytesSentDelta / queries : 0;
+            rowsRead = queries > 0 ? rowsReadDelta / queries : 0;
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+
+        void query(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+            statement.setLong(1, USER_ID);
+            statement.setInt(2, PAGE_SIZE);
+            statement.setInt(3, random.nextInt(pages) * PAGE_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        blackhole.consume(resultSet.getObject(column));
+                    }
+                }
+            }
+            queries++;
+        }
+
+        private long sessionStatus(String name) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement("SHOW SESSION STATUS LIKE ?")) {
+                statement.setString(1, name);
+                long total = 0L;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        total += resultSet.getLong(2);
+                    }
+                }
+                return total;
+            }
+        }
+    }
+}
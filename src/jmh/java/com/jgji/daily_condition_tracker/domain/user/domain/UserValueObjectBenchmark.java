@@ -0,0 +1,55 @@
+package com.jgji.daily_condition_tracker.domain.user.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 사용자 값 객체 생성 시 형식 검증 비용
+ * legacy* 는 변경 전 String.matches 기반 검증으로, 문자 단위 검증과의 처리량/할당량 비교용
+ */
+@State(Scope.Benchmark)
+public class UserValueObjectBenchmark {
+
+    private static final String EMAIL_REGEX =
+            "^[A-Za-z0-9+_-]+(?:\\.[A-Za-z0-9+_-]+)*@[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$";
+    private static final String HASH_REGEX = "^[A-Za-z0-9+/=.,$-]+$";
+
+    private final String email = "Benchmark.User@Example.com";
+    private final String hashedPassword = "$argon2id$v=19$m=19456,t=2,p=1$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaGhhc2hoYXNoaGFzaGhhc2g";
+    private final String rawPassword = "Benchmark123!";
+
+    @Benchmark
+    public Email emailOf() {
+        return Email.of(email);
+    }
+
+    @Benchmark
+    public boolean legacyEmailRegex() {
+        String trimmedEmail = email.trim();
+        return trimmedEmail.matches(EMAIL_REGEX) && trimmedEmail.split("@")[0].length() <= 64;
+    }
+
+    @Benchmark
+    public HashedPassword hashedPassword() {
+        return new HashedPassword(hashedPassword);
+    }
+
+    @Benchmark
+    public boolean legacyHashRegex() {
+        return hashedPassword.matches(HASH_REGEX);
+    }
+
+    @Benchmark
+    public RawPassword rawPasswordOf() {
+        return RawPassword.of(rawPassword);
+    }
+
+    @Benchmark
+    public boolean legacyRawPasswordStreams() {
+        return rawPassword.chars().anyMatch(Character::isUpperCase)
+                && rawPassword.chars().anyMatch(Character::isLowerCase)
+                && rawPassword.chars().anyMatch(Character::isDigit)
+                && rawPassword.chars().anyMatch(c -> "!@#$%^&*()_+-=[]{}|;:,.<>?".indexOf(c) >= 0);
+    }
+}
@@ -0,0 +1,86 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰과 같은 클레임 구성으로 알고리즘별 서명/검증 처리량 비교
+ * 서명 검증 캐시(JwtClaimsCache)를 거치지 않은 순수 파싱 비용을 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    @Param({"HS256", "ES256", "EDDSA"})
+    private JwtSigningAlgorithm algorithm;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        if (algorithm.isAsymmetric()) {
+            KeyPair keyPair = algorithm.generateKeyPair();
+            signingKey = keyPair.getPrivate();
+            parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        } else {
+            signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+            parser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).build();
+        }
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId("benchmark-kid").and()
+                .subject("benchmark@test.com")
+                .claim("auth", "ROLE_USER")
+                .claim("userId", 12345L)
+                .claim("email", "benchmark@test.com")
+                .claim("nickname", "벤치마크")
+                .claim("isSuperuser", false)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 180_000))
+                .signWith(signingKey, signingAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SecureDigestAlgorithm<Key, ?> signingAlgorithm() {
+        return (SecureDigestAlgorithm<Key, ?>) algorithm.algorithm();
+    }
+}
@@ -0,0 +1,97 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserDetailsService;
+import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import com.jgji.daily_condition_tracker.global.security.value.JwtSigningProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * 인증 요청 경로의 토큰 발급/검증 비용
+ * validateToken 과 loadUserFromToken 은 같은 토큰을 반복 검증하므로 JwtClaimsCache 적중 경로를 측정하며,
+ * 서명 검증 자체의 비용은 {@link JwtSigningBenchmark} 에서 측정한다
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetailsService customUserDetailsService;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties() {
+            @Override
+            public String getSecret() {
+                return SECRET;
+            }
+
+            @Override
+            public long getAccessTokenExpirationMs() {
+                return 3_600_000L;
+            }
+
+            @Override
+            public long getRefreshTokenExpirationMs() {
+                return 432_000_000L;
+            }
+        };
+        JwtSigningProperties signingProperties = new JwtSigningProperties() {
+            @Override
+            public JwtSigningAlgorithm getAlgorithm() {
+                return JwtSigningAlgorithm.HS256;
+            }
+
+            @Override
+            public long getRotationIntervalMs() {
+                return 86_400_000L;
+            }
+
+            @Override
+            public boolean isAcceptLegacyHs256() {
+                return true;
+            }
+
+            @Override
+            public List<ConfiguredKey> getKeys() {
+                return List.of();
+            }
+        };
+
+        JwtKeyring keyring = new JwtKeyring(jwtProperties, signingProperties);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, new JwtClaimsCache(new SimpleMeterRegistry()), keyring);
+        // 토큰 기반 사용자 생성은 저장소를 조회하지 않음
+        customUserDetailsService = new CustomUserDetailsService(null, jwtTokenProvider);
+
+        CustomUserPrincipal principal = new CustomUserPrincipal(12345L, "benchmark@test.com", "벤치마크", false);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        accessToken = jwtTokenProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public UserDetails loadUserFromToken() {
+        return customUserDetailsService.loadUserFromToken(accessToken);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SHA-512 Key Stretching 인코더의 해시/검증 비용
+ */
+@State(Scope.Benchmark)
+public class Sha512PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "Benchmark123!";
+
+    @Param({"100000"})
+    private int iterations;
+
+    private Sha512PasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new Sha512PasswordEncoder("benchmark-pepper", iterations);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -10,6 +10,7 @@ import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserRepositor
 import com.jgji.daily_condition_tracker.global.exception.InvalidCredentialsException;
 import com.jgji.daily_condition_tracker.global.exception.InvalidTokenException;
 import com.jgji.daily_condition_tracker.global.security.filter.JwtTokenProvider;
+import com.jgji.daily_condition_tracker.global.security.filter.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,6 +30,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
+    private final PasswordRehashService passwordRehashService;
 
     @Transactional(readOnly = true)
     public LoginResponse login(LoginRequest request) {
@@ -40,12 +42,22 @@ public class AuthService {
             String accessToken = jwtTokenProvider.generateAccessToken(authentication);
             String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
+            rehashPasswordIfNeeded(authentication, request.password());
+
             return LoginResponse.of(accessToken, refreshToken);
         } catch (AuthenticationException e) {
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
     }
 
+    private void rehashPasswordIfNeeded(Authentication authentication, String rawPassword) {
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        String passwordHash = principal.getPassword();
+        if (passwordRehashService.needsRehash(passwordHash)) {
+            passwordRehashService.rehash(principal.getUser().getUserId(), rawPassword, passwordHash);
+        }
+    }
+
     @Transactional(readOnly = true)
     public TokenRefreshResponse refresh(TokenRefreshRequest request) {
         String refreshToken = request.refreshToken();
@@ -58,10 +70,15 @@ public class AuthService {
             throw new InvalidTokenException("블랙리스트에 등록된 토큰입니다.");
         }
 
-        String username = jwtTokenProvider.getUsername(refreshToken);
+        VerifiedClaims refreshClaims = jwtTokenProvider.parseVerified(refreshToken);
+        String username = refreshClaims.subject();
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new InvalidCredentialsException("사용자를 찾을 수 없습니다."));
 
+        if (tokenRepository.isRevokedForUser(user.getUserId(), refreshClaims.issuedAtMillis())) {
+            throw new InvalidTokenException("폐기된 리프레시 토큰입니다.");
+        }
+
         CustomUserPrincipal userPrincipal = new CustomUserPrincipal(user);
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -70,7 +87,7 @@ public class AuthService {
         String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
-        tokenRepository.addToBlacklist(refreshToken);
+        tokenRepository.addToBlacklist(refreshToken, refreshClaims.expiresAtMillis());
         
         return TokenRefreshResponse.of(newAccessToken, newRefreshToken);
     }
@@ -83,12 +100,22 @@ public class AuthService {
         
         String accessToken = authorizationHeader.substring(7);
         
-        String tokenUsername = jwtTokenProvider.getUsername(accessToken);
-        if (!user.getEmail().getValue().equals(tokenUsername)) {
+        VerifiedClaims accessClaims = jwtTokenProvider.parseVerified(accessToken);
+        if (!user.getEmail().getValue().equals(accessClaims.subject())) {
             throw new InvalidTokenException("토큰의 사용자 정보가 일치하지 않습니다.");
         }
 
-        tokenRepository.addToBlacklist(accessToken);
+        tokenRepository.addToBlacklist(accessToken, accessClaims.expiresAtMillis());
         log.debug("사용자 로그아웃 처리 완료: email={}, 토큰을 블랙리스트에 추가", user.getEmail().getValue());
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사용자의 모든 기기에서 로그아웃
+     * 현재 시각 이전에 발급된 사용자의 액세스/리프레시 토큰이 모두 무효화된다
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void logoutAll(User user) {
+        tokenRepository.revokeAllForUser(user.getUserId());
+        log.debug("전체 로그아웃 처리 완료: userId={}", user.getUserId());
+    }
+}
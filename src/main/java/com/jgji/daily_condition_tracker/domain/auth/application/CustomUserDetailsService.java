@@ -3,6 +3,7 @@ package com.jgji.daily_condition_tracker.domain.auth.application;
 import com.jgji.daily_condition_tracker.domain.user.domain.User;
 import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserRepository;
 import com.jgji.daily_condition_tracker.global.security.filter.JwtTokenProvider;
+import com.jgji.daily_condition_tracker.global.security.filter.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -46,24 +47,32 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * JWT 토큰 정보만으로 UserDetails 생성 (DB 조회 없음)
-     * JwtAuthenticationFilter에서 사용
      */
     public UserDetails loadUserFromToken(String token) {
+        VerifiedClaims claims;
+        try {
+            claims = jwtTokenProvider.parseVerified(token);
+        } catch (Exception e) {
+            log.error("JWT 토큰에서 사용자 정보 추출 실패", e);
+            throw new UsernameNotFoundException("토큰에서 사용자 정보를 추출할 수 없습니다", e);
+        }
+        return loadUserFromClaims(claims);
+    }
+
+    /**
+     * 검증이 끝난 클레임으로 UserDetails 생성 (DB 조회, 토큰 재파싱 없음)
+     * JwtAuthenticationFilter에서 사용
+     */
+    public UserDetails loadUserFromClaims(VerifiedClaims claims) {
         log.debug("JWT 토큰으로 사용자 인증 처리");
-        
+
         try {
-            // 토큰에서 사용자 정보 추출
-            Long userId = jwtTokenProvider.getUserId(token);
-            String email = jwtTokenProvider.getEmail(token);
-            String nickname = jwtTokenProvider.getNickname(token);
-            Boolean isSuperuser = jwtTokenProvider.getIsSuperuser(token);
-            
-            log.debug("JWT 토큰 인증 성공: userId={}, email={}", userId, email);
-            
-            return new CustomUserPrincipal(userId, email, nickname, isSuperuser != null && isSuperuser);
+            log.debug("JWT 토큰 인증 성공: userId={}, email={}", claims.userId(), claims.email());
+
+            return new CustomUserPrincipal(claims.userId(), claims.email(), claims.nickname(), claims.isSuperuser());
         } catch (Exception e) {
             log.error("JWT 토큰에서 사용자 정보 추출 실패", e);
             throw new UsernameNotFoundException("토큰에서 사용자 정보를 추출할 수 없습니다", e);
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.jgji.daily_condition_tracker.domain.auth.application;
+
+import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserRepository;
+import com.jgji.daily_condition_tracker.global.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인에 성공한 비밀번호를 현재 해시 설정으로 다시 해시
+ * 로그인 응답이 재해시를 기다리지 않도록 별도 실행기에서 수행한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PasswordRehashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+
+    public boolean needsRehash(String passwordHash) {
+        return passwordHash != null && passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @Async("passwordRehashExecutor")
+    @Transactional(rollbackFor = Exception.class)
+    public void rehash(Long userId, String rawPassword, String currentPasswordHash) {
+        try {
+            String newPasswordHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordHashIfUnchanged(userId, currentPasswordHash, newPasswordHash)) {
+                log.debug("비밀번호 재해시 완료: userId={}", userId);
+            } else {
+                log.debug("재해시 중 비밀번호가 변경되어 재해시를 건너뜁니다: userId={}", userId);
+            }
+        } catch (TooManyRequestsException e) {
+            // 해시 실행기가 포화 상태면 다음 로그인에서 다시 시도
+            log.debug("해시 실행기 포화로 비밀번호 재해시를 미룹니다: userId={}", userId);
+        }
+    }
+}
@@ -2,7 +2,8 @@ package com.jgji.daily_condition_tracker.domain.auth.application;
 
 import com.jgji.daily_condition_tracker.domain.auth.domain.PasswordResetToken;
 import com.jgji.daily_condition_tracker.domain.auth.infrastructure.PasswordResetTokenRepository;
-import com.jgji.daily_condition_tracker.domain.shared.infrastructure.EmailSender;
+import com.jgji.daily_condition_tracker.domain.auth.infrastructure.TokenRepository;
+import com.jgji.daily_condition_tracker.domain.shared.infrastructure.EmailOutbox;
 import com.jgji.daily_condition_tracker.domain.user.domain.HashedPassword;
 import com.jgji.daily_condition_tracker.domain.user.domain.RawPassword;
 import com.jgji.daily_condition_tracker.domain.user.domain.User;
@@ -15,7 +16,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.util.Optional;
 
 @Slf4j
@@ -25,12 +25,16 @@ public class PasswordResetTokenService {
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final EmailSender emailSender;
+    private final EmailOutbox emailOutbox;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRepository tokenRepository;
 
+    /**
+     * 비밀번호 재설정 요청 처리
+     * 사용자 존재 여부에 따른 응답 시간 차이는 호출 측에서 {@link ResponseTimePadding} 으로 감춘다
+     */
     @Transactional(rollbackFor = Exception.class)
     public void processPasswordResetRequest(String email) {
-        long startTime = System.currentTimeMillis();
         Optional<User> userOptional = userRepository.findByEmail(email);
 
         // 존재하지 않아도 동일한 응답을 주기 위해 오류를 발생시키지 않음
@@ -40,39 +44,10 @@ public class PasswordResetTokenService {
             PasswordResetToken passwordResetToken = PasswordResetToken.create(user.getUserId());
             passwordResetTokenRepository.save(passwordResetToken);
 
-            try {
-                emailSender.sendPasswordResetEmail(email, passwordResetToken.getToken());
-                log.debug("비밀번호 재설정 이메일 발송 완료: email={}", email);
-            } catch (Exception e) {
-                log.error("비밀번호 재설정 이메일 발송 실패: email={}, error={}", email, e.getMessage(), e);
-                // 이메일 발송 실패 시에도 사용자에게는 성공 응답을 반환하여 보안을 유지
-            }
+            // 토큰과 같은 트랜잭션으로 발송 대기열에 저장하고, SMTP 발송은 워커가 처리
+            emailOutbox.enqueuePasswordResetEmail(email, passwordResetToken.getToken());
         } else {
             log.debug("존재하지 않는 이메일로 비밀번호 재설정 요청: email={}", email);
-            ensureConstantResponseTime();
-        }
-
-        // 사용자 존재 여부에 관계없이 동일한 시간 내에 응답하도록 하여 타이밍 공격 방지
-        ensureMinimumResponseTime(startTime);
-    }
-
-    private void ensureConstantResponseTime() {
-        try {
-            Thread.sleep(1000 + new SecureRandom().nextInt(500)); // 1~1.5초 랜덤
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    private void ensureMinimumResponseTime(long startTime) {
-        final int minTimeMs = 1500;
-        long elapsed = System.currentTimeMillis() - startTime;
-        if (elapsed < minTimeMs) {
-            try {
-                Thread.sleep(minTimeMs - elapsed);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
         }
     }
 
@@ -95,6 +70,9 @@ public class PasswordResetTokenService {
         
         PasswordResetToken usedToken = passwordResetToken.markAsUsed();
         passwordResetTokenRepository.save(usedToken);
+
+        // 비밀번호가 바뀌었으므로 기존에 발급된 모든 토큰을 무효화
+        tokenRepository.revokeAllForUser(user.getUserId());
         
         log.debug("비밀번호 재설정 완료: userId={}", user.getUserId());
     }
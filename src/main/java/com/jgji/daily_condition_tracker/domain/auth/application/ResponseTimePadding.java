@@ -0,0 +1,67 @@
+package com.jgji.daily_condition_tracker.domain.auth.application;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 공격 방지를 위한 응답 지연
+ * 요청 스레드를 재우지 않고 타이머 스레드 하나가 지정 시각에 응답을 완료하므로,
+ * 지연 중인 요청이 많아도 Tomcat 워커 스레드를 점유하지 않는다
+ */
+@Component
+public class ResponseTimePadding implements AutoCloseable {
+
+    private static final long DEFAULT_MINIMUM_MS = 1500;
+    private static final int DEFAULT_JITTER_MS = 500;
+
+    private final long minimumNanos;
+    private final int jitterMs;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ResponseTimePadding() {
+        this(DEFAULT_MINIMUM_MS, DEFAULT_JITTER_MS);
+    }
+
+    ResponseTimePadding(long minimumMs, int jitterMs) {
+        this.minimumNanos = TimeUnit.MILLISECONDS.toNanos(minimumMs);
+        this.jitterMs = jitterMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "response-time-padding");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * startedAtNanos 로부터 최소 시간 + 임의 지연(0 ~ jitter)이 지난 뒤 완료되는 Future 반환
+     * 사용자 존재 여부와 관계없이 응답 시각의 분포가 같아지도록 처리 시간과 무관하게 같은 목표 시각을 사용한다
+     *
+     * @param startedAtNanos 요청 처리를 시작한 System.nanoTime() 값
+     */
+    public CompletableFuture<Void> padFrom(long startedAtNanos) {
+        long jitterNanos = jitterMs > 0 ? TimeUnit.MILLISECONDS.toNanos(random.nextInt(jitterMs)) : 0L;
+        long remainingNanos = startedAtNanos + minimumNanos + jitterNanos - System.nanoTime();
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (remainingNanos <= 0) {
+            future.complete(null);
+            return future;
+        }
+
+        scheduler.schedule(() -> future.complete(null), remainingNanos, TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
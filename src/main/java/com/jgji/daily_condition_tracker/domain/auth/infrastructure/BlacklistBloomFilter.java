@@ -0,0 +1,88 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 블랙리스트 조회 앞단의 블룸 필터
+ * 다이제스트의 두 64비트 값으로 이중 해싱하여 long[] 비트 배열만 확인하므로, 대부분의 요청은 맵 조회 없이 음성 판정된다
+ * 쓰기는 외부 잠금으로 직렬화된다고 가정하며, 조회는 잠금 없이 수행한다
+ */
+final class BlacklistBloomFilter {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final int capacity;
+    private int insertions;
+
+    private BlacklistBloomFilter(int wordCount, int hashCount, int capacity) {
+        this.bits = new long[wordCount];
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 예상 삽입 수와 목표 오탐률로 비트 수와 해시 함수 수를 계산하여 생성
+     */
+    static BlacklistBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 삽입 수는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.max(1L, Math.min(Integer.MAX_VALUE - 8L, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+        int hashCount = (int) Math.max(1L, Math.round((double) wordCount * Long.SIZE / expectedInsertions * LN2));
+        return new BlacklistBloomFilter(wordCount, hashCount, expectedInsertions);
+    }
+
+    void put(TokenDigest digest) {
+        long combined = digest.high();
+        long step = digest.low();
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long current = (long) BITS.getAcquire(bits, word);
+            BITS.setRelease(bits, word, current | (1L << index));
+            combined += step;
+        }
+        insertions++;
+    }
+
+    /**
+     * false 는 확실한 음성이며, true 는 실제 저장소 확인이 필요한 양성 후보
+     */
+    boolean mightContain(TokenDigest digest) {
+        long combined = digest.high();
+        long step = digest.low();
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            if (((long) BITS.getAcquire(bits, (int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    boolean isSaturated() {
+        return insertions >= capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+}
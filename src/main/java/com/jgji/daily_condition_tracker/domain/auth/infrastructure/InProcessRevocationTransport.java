@@ -0,0 +1,40 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게 동기적으로 이벤트를 전달하는 전송 구현
+ * 단일 노드 운영과 테스트용이며 jwt.revocation.transport=in-process 로 명시한 경우에만 등록된다
+ * 다른 노드에는 전달되지 않으므로 설정이 없을 때는 JdbcRevocationTransport 가 사용된다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "transport", havingValue = "in-process")
+public class InProcessRevocationTransport implements RevocationTransport {
+
+    private final List<Consumer<RevocationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<RevocationEvent> events) {
+        for (Consumer<RevocationEvent> listener : listeners) {
+            for (RevocationEvent event : events) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    log.error("토큰 폐기 이벤트 전달 실패: originNodeId={}", event.originNodeId(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RevocationEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,225 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 폐기 로그(revocation_log)를 통한 전송 구현, 별도 브로커 없이 모든 노드가 같은 로그를 폴링한다
+ * 발행은 revocation_sequence 행을 갱신하여 순번을 받고 같은 트랜잭션에서 로그를 기록한다
+ * 순번 행의 잠금은 커밋까지 유지되므로 순번 순서가 커밋 순서와 같아, 폴링이 늦게 커밋된 이벤트를 건너뛰지 않는다
+ * 모든 노드가 모든 행을 읽어야 하므로 한 소비자에게만 행을 넘기는 SKIP LOCKED 는 사용하지 않는다
+ * 새로 뜨거나 재시작한 노드는 현재 순번을 읽은 뒤 만료되지 않은 로그 전체를 스냅샷으로 받고, 이후 순번부터 폴링한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRevocationTransport implements RevocationTransport {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final int PURGE_BATCH_SIZE = 10_000;
+    private static final long PURGE_INTERVAL_MS = 600_000;
+
+    private static final String NEXT_SEQ_SQL =
+            "UPDATE revocation_sequence SET seq = seq + 1 WHERE id = 1";
+
+    private static final String CURRENT_SEQ_SQL =
+            "SELECT seq FROM revocation_sequence WHERE id = 1";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO revocation_log (seq, origin_node_id, kind, digest_high, digest_low, user_id, threshold_at, revoked_at, expires_at) " +
+            "VALUES (:seq, :originNodeId, :kind, :digestHigh, :digestLow, :userId, :thresholdAt, :revokedAt, :expiresAt)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, seq, origin_node_id, kind, digest_high, digest_low, user_id, threshold_at, revoked_at FROM revocation_log ";
+
+    private static final String SELECT_AFTER_SQL = SELECT_COLUMNS +
+            "WHERE (seq, id) > (:seq, :id) ORDER BY seq, id LIMIT :limit";
+
+    private static final String SELECT_LIVE_SQL = SELECT_COLUMNS +
+            "WHERE expires_at > :now AND id > :id ORDER BY id LIMIT :limit";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM revocation_log WHERE expires_at <= :now LIMIT :limit";
+
+    private static final RowMapper<LogEntry> ENTRY_MAPPER = (rs, rowNum) -> {
+        RevocationEvent.Kind kind = RevocationEvent.Kind.valueOf(rs.getString("kind"));
+        TokenDigest digest = kind == RevocationEvent.Kind.TOKEN
+                ? new TokenDigest(rs.getLong("digest_high"), rs.getLong("digest_low"))
+                : null;
+        RevocationEvent event = new RevocationEvent(
+                rs.getString("origin_node_id"),
+                kind,
+                digest,
+                rs.getLong("user_id"),
+                rs.getLong("threshold_at"),
+                rs.getLong("revoked_at")
+        );
+        return new LogEntry(rs.getLong("id"), rs.getLong("seq"), event);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    // 사용자 전체 폐기 로그는 그 이전에 발급된 가장 긴 수명의 토큰이 만료될 때까지 보존
+    private final long userEpochRetentionMs;
+    private final Clock clock;
+    private final List<Consumer<RevocationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 폴링은 하나의 스케줄러 스레드에서만 수행되며, lastSyncedAtMillis 만 다른 스레드에서 읽는다
+    private boolean bootstrapped;
+    private long lastSeq;
+    private long lastId;
+    private volatile long lastSyncedAtMillis;
+
+    @Autowired
+    JdbcRevocationTransport(NamedParameterJdbcTemplate jdbcTemplate, JwtProperties jwtProperties) {
+        this(jdbcTemplate,
+                Math.max(jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs()),
+                Clock.systemUTC());
+    }
+
+    JdbcRevocationTransport(NamedParameterJdbcTemplate jdbcTemplate, long userEpochRetentionMs, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userEpochRetentionMs = userEpochRetentionMs;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void publish(List<RevocationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(NEXT_SEQ_SQL, Map.of());
+        long seq = jdbcTemplate.queryForObject(CURRENT_SEQ_SQL, Map.of(), Long.class);
+        SqlParameterSource[] batchArgs = events.stream()
+                .map(event -> toInsertParameters(seq, event))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    @Override
+    public void subscribe(Consumer<RevocationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public long lastSyncedAtMillis() {
+        return lastSyncedAtMillis;
+    }
+
+    /**
+     * 마지막으로 읽은 순번 이후의 로그를 모두 읽어 구독자에게 전달
+     * 조회를 시작하기 전에 커밋된 이벤트는 모두 읽었으므로, 성공하면 시작 시각을 동기화 시각으로 기록한다
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:200}")
+    public void poll() {
+        long startedAtMillis = clock.millis();
+        try {
+            if (!bootstrapped) {
+                bootstrap(startedAtMillis);
+                bootstrapped = true;
+            }
+
+            List<LogEntry> page;
+            do {
+                page = jdbcTemplate.query(SELECT_AFTER_SQL, new MapSqlParameterSource()
+                        .addValue("seq", lastSeq)
+                        .addValue("id", lastId)
+                        .addValue("limit", PAGE_SIZE), ENTRY_MAPPER);
+                for (LogEntry entry : page) {
+                    deliver(entry.event());
+                    lastSeq = entry.seq();
+                    lastId = entry.id();
+                }
+            } while (page.size() == PAGE_SIZE);
+
+            lastSyncedAtMillis = startedAtMillis;
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 로그 조회 실패, 다음 주기에 재시도합니다: lastSeq={}", lastSeq, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = PURGE_INTERVAL_MS, initialDelay = PURGE_INTERVAL_MS)
+    public void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource()
+                    .addValue("now", clock.millis())
+                    .addValue("limit", PURGE_BATCH_SIZE));
+            if (deleted > 0) {
+                log.debug("만료된 토큰 폐기 로그 정리: deleted={}", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 로그 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 현재 순번을 먼저 읽으므로, 스냅샷 도중 커밋된 이벤트는 이후 폴링에서 다시 전달된다 (적용은 멱등)
+    private void bootstrap(long nowMillis) {
+        long cursor = jdbcTemplate.queryForObject(CURRENT_SEQ_SQL, Map.of(), Long.class);
+
+        int loaded = 0;
+        long afterId = 0L;
+        List<LogEntry> page;
+        do {
+            page = jdbcTemplate.query(SELECT_LIVE_SQL, new MapSqlParameterSource()
+                    .addValue("now", nowMillis)
+                    .addValue("id", afterId)
+                    .addValue("limit", PAGE_SIZE), ENTRY_MAPPER);
+            for (LogEntry entry : page) {
+                deliver(entry.event());
+                afterId = entry.id();
+                loaded++;
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        lastSeq = cursor;
+        lastId = Long.MAX_VALUE;
+        log.info("토큰 폐기 로그 스냅샷 적재: loaded={}, seq={}", loaded, cursor);
+    }
+
+    private void deliver(RevocationEvent event) {
+        for (Consumer<RevocationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error("토큰 폐기 이벤트 전달 실패: originNodeId={}", event.originNodeId(), e);
+            }
+        }
+    }
+
+    private SqlParameterSource toInsertParameters(long seq, RevocationEvent event) {
+        TokenDigest digest = event.digest();
+        long expiresAtMillis = event.kind() == RevocationEvent.Kind.TOKEN
+                ? event.thresholdMillis()
+                : event.thresholdMillis() + userEpochRetentionMs;
+        return new MapSqlParameterSource()
+                .addValue("seq", seq)
+                .addValue("originNodeId", event.originNodeId())
+                .addValue("kind", event.kind().name())
+                .addValue("digestHigh", digest != null ? digest.high() : null)
+                .addValue("digestLow", digest != null ? digest.low() : null)
+                .addValue("userId", event.userId())
+                .addValue("thresholdAt", event.thresholdMillis())
+                .addValue("revokedAt", event.revokedAtMillis())
+                .addValue("expiresAt", expiresAtMillis);
+    }
+
+    private record LogEntry(long id, long seq, RevocationEvent event) {
+    }
+}
@@ -1,24 +1,146 @@
 package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
 
-import lombok.RequiredArgsConstructor;
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
-import java.util.Set;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 메모리 기반 토큰 블랙리스트
+ * 토큰 원문 대신 128비트 다이제스트를 저장하고, 각 항목은 토큰의 exp 시점에 만료된다
+ * 만료 시각 기준 버킷으로 묶어 주기적으로 정리한다
+ * 만료되지 않은 항목은 크기와 관계없이 제거하지 않는다. 제거하면 폐기된 토큰이 다시 유효해지기 때문이다
+ * 경고 기준 크기를 넘으면 만료 항목을 즉시 정리하고 경고 로그를 남기며, 크기는 auth.blacklist.entries 지표로 감시한다
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Repository
 class LocalTokenRepository {
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
 
-    public void addToBlacklist(String token) {
-        blacklistedTokens.add(token);
-        log.debug("토큰이 블랙리스트에 추가되었습니다. 현재 블랙리스트 크기: {}", blacklistedTokens.size());
+    // 항목당 약 100바이트이므로 경고 기준까지 약 50MB
+    static final int DEFAULT_WARN_ENTRIES = 500_000;
+    static final long BUCKET_WIDTH_MS = 60_000;
+
+    private final Map<TokenDigest, Long> expiryByDigest = new ConcurrentHashMap<>();
+    // 버킷 키는 버킷의 종료 시각이며, 키가 현재 시각 이하인 버킷의 항목은 모두 만료된 상태
+    private final NavigableMap<Long, List<TokenDigest>> expiryBuckets = new TreeMap<>();
+    // 조회는 잠금 없이 수행하고, 등록/정리처럼 드문 쓰기 작업만 직렬화
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final int warnEntries;
+    private final Clock clock;
+    private boolean overWarnThreshold = false;
+
+    @Autowired
+    LocalTokenRepository() {
+        this(DEFAULT_WARN_ENTRIES, Clock.systemUTC());
+    }
+
+    LocalTokenRepository(int warnEntries, Clock clock) {
+        this.warnEntries = warnEntries;
+        this.clock = clock;
+    }
+
+    public void addToBlacklist(TokenDigest digest, long expiresAtMillis) {
+        long now = clock.millis();
+        if (expiresAtMillis <= now) {
+            // 이미 만료된 토큰은 서명 검증 단계에서 거부되므로 저장할 필요가 없음
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            if (expiryByDigest.size() >= warnEntries) {
+                removeExpired(now);
+                warnIfOverThreshold();
+            }
+
+            Long previous = expiryByDigest.get(digest);
+            if (previous == null || previous < expiresAtMillis) {
+                expiryByDigest.put(digest, expiresAtMillis);
+                expiryBuckets.computeIfAbsent(bucketOf(expiresAtMillis), key -> new ArrayList<>()).add(digest);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        log.debug("토큰이 블랙리스트에 추가되었습니다. 현재 블랙리스트 크기: {}", expiryByDigest.size());
+    }
+
+    public boolean isBlacklisted(TokenDigest digest) {
+        Long expiresAtMillis = expiryByDigest.get(digest);
+        return expiresAtMillis != null && expiresAtMillis > clock.millis();
+    }
+
+    @Scheduled(fixedDelay = BUCKET_WIDTH_MS)
+    public void sweepExpired() {
+        writeLock.lock();
+        try {
+            int removed = removeExpired(clock.millis());
+            warnIfOverThreshold();
+            if (removed > 0) {
+                log.debug("만료된 블랙리스트 토큰 정리: removed={}, remaining={}", removed, expiryByDigest.size());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 만료되지 않은 모든 항목의 다이제스트 순회
+     */
+    public void forEachLive(Consumer<TokenDigest> action) {
+        long now = clock.millis();
+        expiryByDigest.forEach((digest, expiresAtMillis) -> {
+            if (expiresAtMillis > now) {
+                action.accept(digest);
+            }
+        });
+    }
+
+    int size() {
+        return expiryByDigest.size();
+    }
+
+    private int removeExpired(long now) {
+        int removed = 0;
+        Iterator<Map.Entry<Long, List<TokenDigest>>> iterator = expiryBuckets.headMap(now, true).entrySet().iterator();
+        while (iterator.hasNext()) {
+            for (TokenDigest digest : iterator.next().getValue()) {
+                Long expiresAtMillis = expiryByDigest.get(digest);
+                // 더 늦은 만료 시각으로 재등록된 항목은 다른 버킷에서 정리됨
+                if (expiresAtMillis != null && expiresAtMillis <= now && expiryByDigest.remove(digest, expiresAtMillis)) {
+                    removed++;
+                }
+            }
+            iterator.remove();
+        }
+        return removed;
+    }
+
+    // 기준을 넘는 순간과 다시 내려가는 순간에만 로그를 남겨 폐기 폭주 중 로그가 쏟아지지 않도록 함
+    private void warnIfOverThreshold() {
+        boolean over = expiryByDigest.size() >= warnEntries;
+        if (over && !overWarnThreshold) {
+            log.warn("블랙리스트 크기가 경고 기준({})을 넘었습니다. 만료되지 않은 토큰은 제거하지 않으므로 메모리 사용량을 확인하세요: size={}",
+                    warnEntries, expiryByDigest.size());
+        } else if (!over && overWarnThreshold) {
+            log.info("블랙리스트 크기가 경고 기준({}) 아래로 내려왔습니다: size={}", warnEntries, expiryByDigest.size());
+        }
+        overWarnThreshold = over;
     }
 
-    public boolean isBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+    private static long bucketOf(long expiresAtMillis) {
+        return Math.floorDiv(expiresAtMillis + BUCKET_WIDTH_MS - 1, BUCKET_WIDTH_MS) * BUCKET_WIDTH_MS;
     }
 }
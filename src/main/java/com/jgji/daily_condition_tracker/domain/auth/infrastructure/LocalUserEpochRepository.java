@@ -0,0 +1,134 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 사용자별 토큰 폐기 기준 시각(epoch) near-cache
+ * 원본은 UserEpochRepository(users.tokens_valid_after)이며, 기동 시 보존 기간 안의 기준 시각을 적재하고
+ * 없는 사용자는 처음 조회할 때 읽어 기준 시각이 없다는 사실(NONE)까지 저장한다
+ * 기준 시각 이전에 발급된 토큰은 모두 무효이며, 적재된 사용자의 조회는 낙관적 읽기로 잠금 없이 수행한다
+ * 가장 긴 토큰 수명(리프레시 토큰)이 지난 기준 시각은 더 이상 무효화할 토큰이 없으므로 정리하고, 다음 조회 때 다시 읽는다
+ */
+@Slf4j
+@Repository
+class LocalUserEpochRepository {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final long SWEEP_INTERVAL_MS = 600_000;
+    // 영구 저장소에 기준 시각이 없음을 나타내는 값, 어떤 발급 시각보다도 이르므로 max 병합과 판정에 그대로 쓸 수 있음
+    static final long NONE = 0L;
+
+    private final LongLongHashMap epochs = new LongLongHashMap(INITIAL_CAPACITY);
+    private final StampedLock lock = new StampedLock();
+    private final UserEpochRepository userEpochRepository;
+    private final long retentionMs;
+    private final Clock clock;
+
+    @Autowired
+    LocalUserEpochRepository(UserEpochRepository userEpochRepository, JwtProperties jwtProperties) {
+        this(userEpochRepository,
+                Math.max(jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs()),
+                Clock.systemUTC());
+    }
+
+    LocalUserEpochRepository(UserEpochRepository userEpochRepository, long retentionMs, Clock clock) {
+        this.userEpochRepository = userEpochRepository;
+        this.retentionMs = retentionMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 보존 기간 안의 기준 시각을 영구 저장소에서 적재
+     * 적재 전에 들어온 조회는 사용자별로 영구 저장소를 읽으므로 판정이 달라지지 않는다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        long threshold = clock.millis() - retentionMs;
+        int[] loaded = {0};
+        userEpochRepository.forEachAfter(threshold, (userId, epochMillis) -> {
+            revokeIssuedBefore(userId, epochMillis);
+            loaded[0]++;
+        });
+        log.info("사용자 토큰 폐기 기준 적재: loaded={}", loaded[0]);
+    }
+
+    /**
+     * 캐시의 기준 시각 갱신, 이미 더 늦은 기준 시각이 있으면 유지
+     * 영구 저장소 기록은 호출 측(TokenRepositoryImpl)이 먼저 수행한다
+     */
+    public void revokeIssuedBefore(long userId, long epochMillis) {
+        long stamp = lock.writeLock();
+        try {
+            epochs.merge(userId, epochMillis, Math::max);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        long epoch = epochOf(userId);
+        if (epoch == LongLongHashMap.NO_VALUE) {
+            epoch = load(userId);
+        }
+        return issuedAtMillis < epoch;
+    }
+
+    @Scheduled(fixedDelay = SWEEP_INTERVAL_MS)
+    public void sweepExpired() {
+        long threshold = clock.millis() - retentionMs;
+        long stamp = lock.writeLock();
+        try {
+            int removed = epochs.removeIf((userId, epoch) -> epoch <= threshold);
+            if (removed > 0) {
+                log.debug("만료된 사용자 토큰 폐기 기준 정리: removed={}, remaining={}", removed, epochs.size());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return epochs.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 읽는 동안 다른 노드의 폐기 이벤트가 먼저 반영되었을 수 있으므로 max 로 병합하여 더 늦은 기준 시각을 유지
+    private long load(long userId) {
+        long loaded = userEpochRepository.findByUserId(userId).orElse(NONE);
+        long stamp = lock.writeLock();
+        try {
+            epochs.merge(userId, loaded, Math::max);
+            return epochs.get(userId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long epochOf(long userId) {
+        long stamp = lock.tryOptimisticRead();
+        long epoch = epochs.get(userId);
+        if (lock.validate(stamp)) {
+            return epoch;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return epochs.get(userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * long 키와 long 값을 박싱 없이 저장하는 오픈 어드레싱(선형 탐사) 해시 맵
+ * 키와 값을 하나의 long[] 에 번갈아 저장하며, 키 0 은 빈 슬롯 표시로 예약되어 사용할 수 없다
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다
+ */
+final class LongLongHashMap {
+
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 키에 해당하는 값 조회, 없으면 {@link #NO_VALUE} 반환
+     */
+    long get(long key) {
+        long[] slots = table;
+        int slotMask = slots.length / 2 - 1;
+        int index = indexOf(key, slotMask);
+        for (int probes = 0; probes <= slotMask; probes++) {
+            long current = slots[index * 2];
+            if (current == key) {
+                return slots[index * 2 + 1];
+            }
+            if (current == 0) {
+                return NO_VALUE;
+            }
+            index = (index + 1) & slotMask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * 기존 값이 있으면 merger 로 합친 값을, 없으면 value 를 저장
+     */
+    void merge(long key, long value, LongBinaryOperator merger) {
+        requireValidKey(key);
+        int index = indexOf(key, mask);
+        while (true) {
+            long current = table[index * 2];
+            if (current == key) {
+                table[index * 2 + 1] = merger.applyAsLong(table[index * 2 + 1], value);
+                return;
+            }
+            if (current == 0) {
+                table[index * 2] = key;
+                table[index * 2 + 1] = value;
+                if (++size * 2 > mask + 1) {
+                    resize((mask + 1) * 2);
+                }
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 조건을 만족하는 항목을 모두 제거하고 제거된 개수 반환
+     */
+    int removeIf(LongBiPredicate predicate) {
+        long[] previous = table;
+        int removed = 0;
+        allocate(mask + 1);
+        size = 0;
+        for (int slot = 0; slot < previous.length; slot += 2) {
+            long key = previous[slot];
+            if (key == 0) {
+                continue;
+            }
+            if (predicate.test(key, previous[slot + 1])) {
+                removed++;
+            } else {
+                insertFresh(key, previous[slot + 1]);
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity * 2];
+        mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        long[] previous = table;
+        allocate(capacity);
+        for (int slot = 0; slot < previous.length; slot += 2) {
+            if (previous[slot] != 0) {
+                insertFresh(previous[slot], previous[slot + 1]);
+            }
+        }
+    }
+
+    // 새로 할당한 테이블에 중복 검사 없이 삽입
+    private void insertFresh(long key, long value) {
+        int index = indexOf(key, mask);
+        while (table[index * 2] != 0) {
+            index = (index + 1) & mask;
+        }
+        table[index * 2] = key;
+        table[index * 2 + 1] = value;
+    }
+
+    private static int indexOf(long key, int slotMask) {
+        // 연속된 userId 가 인접 슬롯에 몰리지 않도록 피보나치 해싱으로 섞음
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & slotMask;
+    }
+
+    private static void requireValidKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    interface LongBiPredicate {
+        boolean test(long key, long value);
+    }
+}
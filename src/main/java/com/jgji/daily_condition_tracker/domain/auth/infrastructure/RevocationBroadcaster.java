@@ -0,0 +1,159 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import com.jgji.daily_condition_tracker.global.security.value.RevocationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 로컬에서 발생한 토큰 폐기를 모아 다른 노드로 전파하고, 다른 노드의 폐기 이벤트를 수신
+ * 폐기는 로컬 저장소에 먼저 반영되며, 전파는 flush 주기마다 묶음으로 발행되어 최대 전파 지연 안에 모든 노드에 도달한다
+ * 발행 대기열은 max-pending-events 로 제한하며, 발행하지 못한 이벤트나 수신 동기화가 최대 전파 지연보다 밀리면
+ * RevocationHealthIndicator 가 노드를 DOWN 으로 보고하여 로드밸런서가 요청을 보내지 않도록 한다
+ */
+@Slf4j
+@Component
+class RevocationBroadcaster {
+
+    private final RevocationTransport transport;
+    private final String nodeId;
+    private final long maxPropagationMs;
+    private final Clock clock;
+    // 이 시각 이전에 폐기된 이벤트는 기동 스냅샷으로 받은 것이므로 전파 지연 측정에서 제외
+    private final long startedAtMillis;
+    private final Queue<RevocationEvent> pending;
+    private final Counter publishedEvents;
+    private final Counter receivedEvents;
+    private final Counter droppedEvents;
+    private final Timer propagationDelay;
+
+    @Autowired
+    RevocationBroadcaster(RevocationTransport transport, RevocationProperties revocationProperties, MeterRegistry meterRegistry) {
+        this(transport, revocationProperties.getNodeId(), revocationProperties.getMaxPropagationMs(),
+                revocationProperties.getMaxPendingEvents(), meterRegistry, Clock.systemUTC());
+    }
+
+    RevocationBroadcaster(RevocationTransport transport, String nodeId, long maxPropagationMs, int maxPendingEvents,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this.transport = transport;
+        this.nodeId = nodeId;
+        this.maxPropagationMs = maxPropagationMs;
+        this.clock = clock;
+        this.startedAtMillis = clock.millis();
+        this.pending = new LinkedBlockingQueue<>(maxPendingEvents);
+        this.publishedEvents = Counter.builder("auth.revocation.events")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedEvents = Counter.builder("auth.revocation.events")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("auth.revocation.events")
+                .tag("direction", "dropped")
+                .description("발행 대기열이 가득 차 다른 노드로 전파하지 못한 폐기 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.lag", this, RevocationBroadcaster::propagationLagMillis)
+                .description("가장 오래 발행 대기 중인 이벤트와 마지막 수신 동기화 중 더 오래된 쪽의 경과 시간(ms)")
+                .register(meterRegistry);
+        this.propagationDelay = Timer.builder("auth.revocation.propagation.delay")
+                .description("다른 노드에서 폐기된 토큰이 이 노드에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드에서 발행한 폐기 이벤트만 전달받도록 구독
+     */
+    void subscribe(Consumer<RevocationEvent> listener) {
+        transport.subscribe(event -> {
+            if (nodeId.equals(event.originNodeId())) {
+                return;
+            }
+            receivedEvents.increment();
+            recordDelay(event);
+            listener.accept(event);
+        });
+    }
+
+    void enqueueToken(TokenDigest digest, long expiresAtMillis) {
+        enqueue(RevocationEvent.token(nodeId, digest, expiresAtMillis, clock.millis()));
+    }
+
+    void enqueueUserEpoch(long userId, long epochMillis) {
+        enqueue(RevocationEvent.userEpoch(nodeId, userId, epochMillis, clock.millis()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<RevocationEvent> batch = new ArrayList<>();
+        RevocationEvent event;
+        while ((event = pending.poll()) != null) {
+            batch.add(event);
+        }
+
+        try {
+            transport.publish(batch);
+            publishedEvents.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 발행에 실패한 이벤트는 다음 주기에 다시 시도, 그 사이 대기열이 가득 찼으면 넘치는 만큼 버림
+            batch.forEach(this::enqueue);
+            log.error("토큰 폐기 이벤트 발행 실패, 다음 주기에 재시도합니다: size={}", batch.size(), e);
+        }
+    }
+
+    /**
+     * 발행 대기와 수신 동기화 중 더 오래 밀린 쪽의 경과 시간
+     * 이 값이 최대 전파 지연을 넘으면 다른 노드에서 폐기된 토큰이 이 노드에서 아직 유효할 수 있다
+     */
+    long propagationLagMillis() {
+        long now = clock.millis();
+        long receiveLag = Math.max(0L, now - transport.lastSyncedAtMillis());
+        RevocationEvent oldest = pending.peek();
+        long publishLag = oldest != null ? Math.max(0L, now - oldest.revokedAtMillis()) : 0L;
+        return Math.max(receiveLag, publishLag);
+    }
+
+    long maxPropagationMs() {
+        return maxPropagationMs;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    // 다른 노드로 전파되지 못하는 이벤트도 로컬 저장소와 사용자 기준 시각(users.tokens_valid_after)에는 이미 반영되어 있음
+    private void enqueue(RevocationEvent event) {
+        if (!pending.offer(event)) {
+            droppedEvents.increment();
+            log.error("토큰 폐기 이벤트 발행 대기열이 가득 차 이벤트를 버립니다: kind={}, userId={}", event.kind(), event.userId());
+        }
+    }
+
+    private void recordDelay(RevocationEvent event) {
+        if (event.revokedAtMillis() < startedAtMillis) {
+            return;
+        }
+        long delayMs = Math.max(0L, clock.millis() - event.revokedAtMillis());
+        propagationDelay.record(delayMs, TimeUnit.MILLISECONDS);
+        if (delayMs > maxPropagationMs) {
+            log.warn("토큰 폐기 전파 지연이 허용치를 초과했습니다: originNodeId={}, delayMs={}, maxPropagationMs={}",
+                    event.originNodeId(), delayMs, maxPropagationMs);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+
+/**
+ * 노드 간에 전파되는 토큰 폐기 이벤트
+ * 토큰 원문 대신 다이제스트만 전송한다
+ *
+ * @param originNodeId 이벤트를 발행한 노드 식별자
+ * @param kind 단일 토큰 폐기인지 사용자 전체 토큰 폐기인지 구분
+ * @param digest 폐기된 토큰의 다이제스트, 사용자 전체 폐기에서는 null
+ * @param userId 토큰 전체를 폐기한 사용자 ID, 단일 토큰 폐기에서는 0
+ * @param thresholdMillis 단일 토큰 폐기는 토큰의 만료 시각, 사용자 전체 폐기는 이 시각 이전 발급 토큰을 무효화하는 기준 시각 (epoch millis)
+ * @param revokedAtMillis 발행 노드에서 폐기된 시각 (epoch millis), 전파 지연 측정에 사용
+ */
+public record RevocationEvent(
+        String originNodeId,
+        Kind kind,
+        TokenDigest digest,
+        long userId,
+        long thresholdMillis,
+        long revokedAtMillis
+) {
+
+    public enum Kind {
+        TOKEN,
+        USER_EPOCH
+    }
+
+    static RevocationEvent token(String originNodeId, TokenDigest digest, long expiresAtMillis, long revokedAtMillis) {
+        return new RevocationEvent(originNodeId, Kind.TOKEN, digest, 0L, expiresAtMillis, revokedAtMillis);
+    }
+
+    static RevocationEvent userEpoch(String originNodeId, long userId, long epochMillis, long revokedAtMillis) {
+        return new RevocationEvent(originNodeId, Kind.USER_EPOCH, null, userId, epochMillis, revokedAtMillis);
+    }
+}
@@ -0,0 +1,29 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 전파 상태 헬스 체크
+ * 발행 또는 수신이 최대 전파 지연보다 밀리면 DOWN 을 보고하여, 다른 노드에서 폐기된 토큰을
+ * 아직 모르는 노드로 요청이 가지 않도록 한다
+ */
+@RequiredArgsConstructor
+@Component
+class RevocationHealthIndicator implements HealthIndicator {
+
+    private final RevocationBroadcaster revocationBroadcaster;
+
+    @Override
+    public Health health() {
+        long lagMs = revocationBroadcaster.propagationLagMillis();
+        Health.Builder builder = lagMs <= revocationBroadcaster.maxPropagationMs() ? Health.up() : Health.down();
+        return builder
+                .withDetail("nodeId", revocationBroadcaster.nodeId())
+                .withDetail("lagMs", lagMs)
+                .withDetail("maxPropagationMs", revocationBroadcaster.maxPropagationMs())
+                .build();
+    }
+}
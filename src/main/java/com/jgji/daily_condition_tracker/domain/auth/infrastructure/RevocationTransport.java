@@ -0,0 +1,28 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 폐기 이벤트를 노드 간에 전달하는 발행/구독 전송 계층
+ * 기본값은 DB 폐기 로그를 각 노드가 폴링하는 JdbcRevocationTransport 이며, 단일 프로세스용 구현은 명시적으로 설정해야 한다
+ */
+public interface RevocationTransport {
+
+    /**
+     * 이벤트 묶음을 모든 구독자에게 발행
+     * 발행한 노드 자신도 이벤트를 받을 수 있으므로 구독자가 originNodeId 로 걸러야 한다
+     */
+    void publish(List<RevocationEvent> events);
+
+    void subscribe(Consumer<RevocationEvent> listener);
+
+    /**
+     * 다른 노드의 이벤트를 마지막으로 빠짐없이 받아온 시각 (epoch millis)
+     * 이 시각 이후 발행된 이벤트는 아직 반영되지 않았을 수 있으므로 전파 지연 판정에 사용
+     * 발행 즉시 구독자에게 전달하는 구현은 항상 최신이다
+     */
+    default long lastSyncedAtMillis() {
+        return Long.MAX_VALUE;
+    }
+}
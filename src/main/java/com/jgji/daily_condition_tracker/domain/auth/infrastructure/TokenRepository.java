@@ -2,11 +2,35 @@ package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
 
 /**
  * JWT 토큰 블랙리스트 관리 저장소
- * 현재는 메모리 저장소를 사용하고, 추후 Redis로 확장 가능
+ * 각 노드의 메모리 저장소를 near-cache 로 사용하며, 폐기 이벤트는 {@link RevocationTransport} 로 다른 노드에 전파된다
  */
 public interface TokenRepository {
-    
-    void addToBlacklist(String token);
-    
+
+    /**
+     * 토큰을 블랙리스트에 등록
+     * 토큰의 만료 시각이 지나면 항목도 함께 정리된다
+     *
+     * @param token 블랙리스트에 등록할 토큰
+     * @param expiresAtMillis 토큰의 만료 시각 (epoch millis, exp 클레임)
+     */
+    void addToBlacklist(String token, long expiresAtMillis);
+
     boolean isBlacklisted(String token);
+
+    /**
+     * 사용자의 현재 시각 이전에 발급된 모든 토큰을 무효화
+     * iat 클레임이 초 단위이므로 기준 시각은 다음 초로 올림하며, 같은 초에 새로 발급된 토큰도 함께 무효화된다
+     * 기준 시각은 호출 측 트랜잭션 안에서 영구 저장되므로 트랜잭션 범위에서 호출해야 한다
+     *
+     * @param userId 토큰을 무효화할 사용자 ID
+     */
+    void revokeAllForUser(Long userId);
+
+    /**
+     * 사용자별 폐기 기준 시각 이전에 발급된 토큰인지 확인
+     *
+     * @param userId 토큰 소유자 ID
+     * @param issuedAtMillis 토큰의 발급 시각 (epoch millis, iat 클레임)
+     */
+    boolean isRevokedForUser(Long userId, long issuedAtMillis);
 }
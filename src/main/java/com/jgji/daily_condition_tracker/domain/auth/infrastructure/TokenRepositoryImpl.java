@@ -1,23 +1,169 @@
 package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
 
-import lombok.RequiredArgsConstructor;
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.time.Clock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 블룸 필터를 앞단에 둔 토큰 블랙리스트
+ * 필터가 음성이면 저장소를 조회하지 않으며, 필터는 액세스 토큰 만료 주기마다 살아있는 항목으로 다시 만들어 교체한다
+ * 로컬 저장소는 다른 노드의 폐기 이벤트를 전달받는 near-cache 역할을 하므로 조회 시 네트워크 왕복이 없다
+ * 사용자 전체 폐기는 토큰 목록 대신 사용자별 기준 시각 하나만 기록한다
+ * 기준 시각은 호출한 서비스의 트랜잭션에서 users.tokens_valid_after 에 먼저 기록하므로 재시작 후에도 유지된다
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Repository
 class TokenRepositoryImpl implements TokenRepository {
 
+    static final int MIN_EXPECTED_INSERTIONS = 16_384;
+    static final double TARGET_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final String LOOKUP_METRIC = "auth.blacklist.lookups";
+
     private final LocalTokenRepository localTokenRepository;
+    private final LocalUserEpochRepository localUserEpochRepository;
+    private final UserEpochRepository userEpochRepository;
+    private final RevocationBroadcaster revocationBroadcaster;
+    private final Clock clock;
+    // 등록과 필터 교체를 직렬화하여 교체 중 등록된 토큰이 새 필터에서 누락되지 않도록 함
+    private final ReentrantLock filterLock = new ReentrantLock();
+    private final Counter negativeLookups;
+    private final Counter truePositiveLookups;
+    private final Counter falsePositiveLookups;
+    private volatile BlacklistBloomFilter filter = BlacklistBloomFilter.create(MIN_EXPECTED_INSERTIONS, TARGET_FALSE_POSITIVE_RATE);
+
+    @Autowired
+    TokenRepositoryImpl(LocalTokenRepository localTokenRepository,
+                        LocalUserEpochRepository localUserEpochRepository,
+                        UserEpochRepository userEpochRepository,
+                        RevocationBroadcaster revocationBroadcaster,
+                        MeterRegistry meterRegistry) {
+        this(localTokenRepository, localUserEpochRepository, userEpochRepository, revocationBroadcaster, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    TokenRepositoryImpl(LocalTokenRepository localTokenRepository,
+                        LocalUserEpochRepository localUserEpochRepository,
+                        UserEpochRepository userEpochRepository,
+                        RevocationBroadcaster revocationBroadcaster,
+                        MeterRegistry meterRegistry,
+                        Clock clock) {
+        this.localTokenRepository = localTokenRepository;
+        this.localUserEpochRepository = localUserEpochRepository;
+        this.userEpochRepository = userEpochRepository;
+        this.revocationBroadcaster = revocationBroadcaster;
+        this.clock = clock;
+        this.negativeLookups = lookupCounter(meterRegistry, "negative");
+        this.truePositiveLookups = lookupCounter(meterRegistry, "true_positive");
+        this.falsePositiveLookups = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("auth.blacklist.bloom.false_positive_rate", this, TokenRepositoryImpl::observedFalsePositiveRate)
+                .description("블랙리스트에 없는 토큰 중 블룸 필터가 양성으로 판정한 비율")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.entries", localTokenRepository, LocalTokenRepository::size)
+                .description("블랙리스트에 저장된 토큰 수, 만료 전에는 제거되지 않으므로 경고 기준 초과 시 알림 대상")
+                .register(meterRegistry);
+        revocationBroadcaster.subscribe(this::applyRemoteRevocation);
+    }
 
     @Override
-    public void addToBlacklist(String token) {
-        localTokenRepository.addToBlacklist(token);
+    public void addToBlacklist(String token, long expiresAtMillis) {
+        TokenDigest digest = TokenDigest.of(token);
+        applyRevocation(digest, expiresAtMillis);
+        revocationBroadcaster.enqueueToken(digest, expiresAtMillis);
     }
-    
+
     @Override
     public boolean isBlacklisted(String token) {
-        return localTokenRepository.isBlacklisted(token);
+        TokenDigest digest = TokenDigest.of(token);
+        if (!filter.mightContain(digest)) {
+            negativeLookups.increment();
+            return false;
+        }
+
+        if (localTokenRepository.isBlacklisted(digest)) {
+            truePositiveLookups.increment();
+            return true;
+        }
+        falsePositiveLookups.increment();
+        return false;
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        long epochMillis = (Math.floorDiv(clock.millis(), 1_000L) + 1) * 1_000L;
+        userEpochRepository.raise(userId, epochMillis);
+        localUserEpochRepository.revokeIssuedBefore(userId, epochMillis);
+        revocationBroadcaster.enqueueUserEpoch(userId, epochMillis);
+        log.debug("사용자 전체 토큰 폐기: userId={}, epochMillis={}", userId, epochMillis);
+    }
+
+    @Override
+    public boolean isRevokedForUser(Long userId, long issuedAtMillis) {
+        return userId != null && localUserEpochRepository.isRevoked(userId, issuedAtMillis);
+    }
+
+    /**
+     * 만료된 항목의 비트를 비우기 위해 액세스 토큰 만료 주기마다 필터 세대를 교체
+     */
+    @Scheduled(fixedDelayString = "${jwt.expiration.access-token-ms}", initialDelayString = "${jwt.expiration.access-token-ms}")
+    public void rotateFilter() {
+        filterLock.lock();
+        try {
+            rebuildFilter();
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveLookups.count();
+        double notBlacklisted = falsePositives + negativeLookups.count();
+        return notBlacklisted == 0 ? 0.0 : falsePositives / notBlacklisted;
+    }
+
+    private void applyRemoteRevocation(RevocationEvent event) {
+        switch (event.kind()) {
+            case TOKEN -> applyRevocation(event.digest(), event.thresholdMillis());
+            case USER_EPOCH -> localUserEpochRepository.revokeIssuedBefore(event.userId(), event.thresholdMillis());
+        }
+    }
+
+    private void applyRevocation(TokenDigest digest, long expiresAtMillis) {
+        filterLock.lock();
+        try {
+            localTokenRepository.addToBlacklist(digest, expiresAtMillis);
+            filter.put(digest);
+            if (filter.isSaturated()) {
+                rebuildFilter();
+            }
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void rebuildFilter() {
+        int liveEntries = localTokenRepository.size();
+        // 다음 교체 전까지의 등록분을 위해 살아있는 항목 수의 두 배로 크기를 잡음
+        int expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, liveEntries * 2);
+        BlacklistBloomFilter next = BlacklistBloomFilter.create(expectedInsertions, TARGET_FALSE_POSITIVE_RATE);
+        localTokenRepository.forEachLive(next::put);
+        filter = next;
+
+        log.debug("블랙리스트 블룸 필터 교체: liveEntries={}, capacity={}, hashCount={}",
+                liveEntries, next.capacity(), next.hashCount());
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUP_METRIC)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
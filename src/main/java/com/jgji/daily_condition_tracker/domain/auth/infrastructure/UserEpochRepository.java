@@ -0,0 +1,27 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import java.util.OptionalLong;
+
+/**
+ * 사용자별 토큰 폐기 기준 시각(epoch) 영구 저장소 (users.tokens_valid_after)
+ * 기록은 호출한 서비스의 트랜잭션에 참여하므로 비밀번호 변경 등과 함께 커밋/롤백된다
+ */
+public interface UserEpochRepository {
+
+    /**
+     * 기준 시각 갱신, 이미 더 늦은 기준 시각이 있으면 유지
+     */
+    void raise(long userId, long epochMillis);
+
+    OptionalLong findByUserId(long userId);
+
+    /**
+     * thresholdMillis 보다 늦은 기준 시각을 모두 전달
+     */
+    void forEachAfter(long thresholdMillis, EpochConsumer consumer);
+
+    @FunctionalInterface
+    interface EpochConsumer {
+        void accept(long userId, long epochMillis);
+    }
+}
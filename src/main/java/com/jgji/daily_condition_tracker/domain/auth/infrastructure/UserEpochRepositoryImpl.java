@@ -0,0 +1,52 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * users.tokens_valid_after 를 사용하는 JDBC 구현
+ * UserEntity 에는 매핑하지 않고 인증 인프라에서만 읽고 쓴다
+ */
+@RequiredArgsConstructor
+@Repository
+class UserEpochRepositoryImpl implements UserEpochRepository {
+
+    private static final String RAISE_SQL =
+            "UPDATE users SET tokens_valid_after = GREATEST(COALESCE(tokens_valid_after, 0), :epochMillis) " +
+            "WHERE user_id = :userId";
+
+    private static final String FIND_SQL =
+            "SELECT tokens_valid_after FROM users WHERE user_id = :userId";
+
+    private static final String FIND_AFTER_SQL =
+            "SELECT user_id, tokens_valid_after FROM users WHERE tokens_valid_after > :thresholdMillis";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void raise(long userId, long epochMillis) {
+        jdbcTemplate.update(RAISE_SQL, Map.of("userId", userId, "epochMillis", epochMillis));
+    }
+
+    @Override
+    public OptionalLong findByUserId(long userId) {
+        List<Long> epochs = jdbcTemplate.query(FIND_SQL, Map.of("userId", userId),
+                (rs, rowNum) -> rs.getObject("tokens_valid_after", Long.class));
+        if (epochs.isEmpty() || epochs.get(0) == null) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(epochs.get(0));
+    }
+
+    @Override
+    public void forEachAfter(long thresholdMillis, EpochConsumer consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(rs.getLong("user_id"), rs.getLong("tokens_valid_after"));
+        jdbcTemplate.query(FIND_AFTER_SQL, Map.of("thresholdMillis", thresholdMillis), handler);
+    }
+}
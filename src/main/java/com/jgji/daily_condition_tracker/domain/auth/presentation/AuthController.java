@@ -3,6 +3,7 @@ package com.jgji.daily_condition_tracker.domain.auth.presentation;
 import com.jgji.daily_condition_tracker.domain.auth.application.AuthService;
 import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
 import com.jgji.daily_condition_tracker.domain.auth.application.PasswordResetTokenService;
+import com.jgji.daily_condition_tracker.domain.auth.application.ResponseTimePadding;
 import com.jgji.daily_condition_tracker.domain.auth.presentation.dto.*;
 import com.jgji.daily_condition_tracker.domain.user.domain.User;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.ApiResponse;
@@ -17,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -25,6 +28,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final PasswordResetTokenService passwordResetTokenService;
+    private final ResponseTimePadding responseTimePadding;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
@@ -55,13 +59,27 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal CustomUserPrincipal userDetails) {
+        User user = userDetails.getUser();
+
+        log.debug("전체 로그아웃 요청 수신: userId={}", user.getUserId());
+        authService.logoutAll(user);
+        log.debug("전체 로그아웃 성공: userId={}", user.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    // 사용자 존재 여부와 관계없이 같은 시간 분포로 응답하여 타이밍 공격 방지
+    // 지연 동안 요청 스레드는 반환되고, 응답은 ResponseTimePadding 의 타이머가 완료시킨다
     @PostMapping("/password-reset/request")
-    public ResponseEntity<ApiResponse<Void>> requestPasswordReset(@Valid @RequestBody PasswordResetRequestRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> requestPasswordReset(@Valid @RequestBody PasswordResetRequestRequest request) {
+        long startedAtNanos = System.nanoTime();
         log.debug("비밀번호 재설정 요청 수신: email={}", request.email());
         passwordResetTokenService.processPasswordResetRequest(request.email());
         log.debug("비밀번호 재설정 요청 처리 완료: email={}", request.email());
 
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return responseTimePadding.padFrom(startedAtNanos)
+                .thenApply(ignored -> ResponseEntity.ok(ApiResponse.success(null)));
     }
 
     @PostMapping("/password-reset/confirm")
@@ -0,0 +1,31 @@
+package com.jgji.daily_condition_tracker.domain.auth.presentation;
+
+import com.jgji.daily_condition_tracker.global.security.filter.JwtKeyring;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 토큰 검증용 공개키 목록(JWKS)
+ * 다른 서비스가 서명 비밀 없이 토큰을 검증할 수 있도록 RFC 7517 형식 그대로 반환하며, ApiResponse 로 감싸지 않는다
+ */
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtKeyring jwtKeyring;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(Map.of("keys", jwtKeyring.publicJwks()));
+    }
+}
@@ -0,0 +1,273 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationBatchRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounterRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationState;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationUpdate;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkOperation;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkResult;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationCreateRequest;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 약 일괄 등록/수정/삭제
+ * 작업을 요청 순서대로 검증(요청 DTO 의 Bean Validation 제약 포함)하여 작업별 결과를 만들고, 통과한 작업만 한 트랜잭션에서 종류별 JDBC 배치로 실행한다
+ * 실행 순서는 삭제 -> 수정 -> 등록이며, 검증 단계에서 순서대로 적용한 결과와 같은 최종 상태가 되도록 한다
+ * (삭제가 먼저 이름을 비워도 순차 적용에서 허용된 작업만 남아 있으므로 이름 중복이 새로 생기지 않음)
+ * 대상 약을 잠그기 전에 카운터를 먼저 올려 단건 등록/수정/삭제와 같은 순서(카운터 -> 약)로 잠그고,
+ * 올린 목록 버전을 이 요청이 쓴 모든 약의 변경 순번으로 기록한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MedicationBulkService {
+
+    private static final String DUPLICATE_NAME_MESSAGE = "이미 동일한 이름의 약물이 존재합니다: ";
+
+    private final MedicationBatchRepository medicationBatchRepository;
+    private final MedicationCounterRepository medicationCounterRepository;
+    private final MedicationCountCache medicationCountCache;
+    private final MedicationListCache medicationListCache;
+    private final Validator validator;
+
+    @Transactional(rollbackFor = Exception.class)
+    public MedicationBulkResponse applyOperations(long userId, List<MedicationBulkOperation> operations) {
+        // 개수 변화는 검증이 끝난 뒤에 반영하며, 검증에 모두 실패한 요청도 버전은 오른다
+        medicationCounterRepository.increment(userId, 0, 0);
+        long changeSeq = medicationCounterRepository.findVersion(userId);
+
+        Plan plan = new Plan(userId, operations.size(), validator);
+        loadCurrentState(userId, operations, plan);
+
+        for (int index = 0; index < operations.size(); index++) {
+            MedicationBulkOperation operation = operations.get(index);
+            if (operation == null || operation.type() == null) {
+                plan.reject(index, "작업 종류는 필수입니다.");
+                continue;
+            }
+            switch (operation.type()) {
+                case CREATE -> plan.create(index, operation.create());
+                case UPDATE -> plan.update(index, operation.medicationId(), operation.update());
+                case DELETE -> plan.delete(index, operation.medicationId());
+            }
+        }
+
+        medicationBatchRepository.softDeleteAll(userId, plan.deletedIds, changeSeq);
+        // 같은 요청에서 삭제되는 약의 수정은 결과에 영향이 없으므로 실행하지 않음
+        medicationBatchRepository.updateAll(userId, plan.updates.stream()
+                .filter(update -> !plan.deletedIds.contains(update.medicationId()))
+                .toList(), changeSeq);
+        List<Long> createdIds = medicationBatchRepository.insertAll(plan.creates, changeSeq);
+        for (int i = 0; i < createdIds.size(); i++) {
+            int index = plan.createIndexes.get(i);
+            plan.results[index] = MedicationBulkResult.success(index, MedicationBulkOperation.Type.CREATE, createdIds.get(i), 201);
+        }
+
+        if (plan.totalDelta != 0 || plan.activeDelta != 0) {
+            medicationCounterRepository.increment(userId, plan.totalDelta, plan.activeDelta);
+        }
+        if (!plan.creates.isEmpty() || !plan.updates.isEmpty() || !plan.deletedIds.isEmpty()) {
+            medicationCountCache.evict(userId);
+            medicationListCache.evict(userId);
+        }
+
+        MedicationBulkResponse response = MedicationBulkResponse.of(Arrays.asList(plan.results));
+        log.debug("약 일괄 처리 완료: userId={}, 등록={}, 수정={}, 삭제={}, 실패={}",
+                userId, plan.creates.size(), plan.updates.size(), plan.deletedIds.size(), response.failed());
+        return response;
+    }
+
+    // 수정/삭제 대상(행 잠금)과 등록/수정할 이름을 이미 사용 중인 약을 두 번의 조회로 가져옴
+    private void loadCurrentState(long userId, List<MedicationBulkOperation> operations, Plan plan) {
+        Set<Long> targetIds = new LinkedHashSet<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (MedicationBulkOperation operation : operations) {
+            if (operation == null || operation.type() == null) {
+                continue;
+            }
+            if (operation.type() != MedicationBulkOperation.Type.CREATE && operation.medicationId() != null) {
+                targetIds.add(operation.medicationId());
+            }
+            if (operation.type() == MedicationBulkOperation.Type.CREATE && operation.create() != null && operation.create().name() != null) {
+                names.add(operation.create().name());
+            }
+            if (operation.type() == MedicationBulkOperation.Type.UPDATE && operation.update() != null
+                    && operation.update().name().isPresent() && operation.update().name().get() != null) {
+                names.add(operation.update().name().get());
+            }
+        }
+
+        medicationBatchRepository.findLiveForUpdate(userId, targetIds).forEach(plan::track);
+        medicationBatchRepository.findLiveByNames(userId, names).forEach(plan::track);
+    }
+
+    /**
+     * 요청 순서대로 작업을 적용해 보는 검증 상태
+     * 이름은 DB 의 대소문자 무시 collation 과 맞추기 위해 소문자로 비교한다
+     */
+    private static final class Plan {
+
+        private final long userId;
+        private final MedicationBulkResult[] results;
+        private final Validator validator;
+        private final Map<Long, MedicationState> live = new HashMap<>();
+        private final Map<String, Long> nameOwners = new HashMap<>();
+        private final List<Medication> creates = new ArrayList<>();
+        private final List<Integer> createIndexes = new ArrayList<>();
+        private final List<MedicationUpdate> updates = new ArrayList<>();
+        private final Set<Long> deletedIds = new LinkedHashSet<>();
+        private long totalDelta;
+        private long activeDelta;
+        // 아직 ID 가 없는 등록 작업의 이름 소유자 표시용 (음수)
+        private long pendingId = -1;
+
+        private Plan(long userId, int size, Validator validator) {
+            this.userId = userId;
+            this.results = new MedicationBulkResult[size];
+            this.validator = validator;
+        }
+
+        private void reject(int index, String message) {
+            results[index] = MedicationBulkResult.failure(index, null, null, 400, message);
+        }
+
+        private void track(MedicationState state) {
+            if (live.putIfAbsent(state.medicationId(), state) == null) {
+                nameOwners.put(nameKey(state.name()), state.medicationId());
+            }
+        }
+
+        private void create(int index, MedicationCreateRequest request) {
+            MedicationBulkOperation.Type type = MedicationBulkOperation.Type.CREATE;
+            if (request == null) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, "등록할 내용이 없습니다.");
+                return;
+            }
+            Optional<String> violation = firstViolation(request);
+            if (violation.isPresent()) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, violation.get());
+                return;
+            }
+
+            Medication medication;
+            try {
+                medication = Medication.create(userId, request.name(), request.dosage(), request.unit(),
+                        request.description(), request.isActive());
+            } catch (IllegalArgumentException e) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, e.getMessage());
+                return;
+            }
+            if (nameOwners.containsKey(nameKey(medication.getName()))) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, DUPLICATE_NAME_MESSAGE + medication.getName());
+                return;
+            }
+
+            nameOwners.put(nameKey(medication.getName()), pendingId--);
+            creates.add(medication);
+            createIndexes.add(index);
+            totalDelta++;
+            activeDelta += medication.isActive() ? 1 : 0;
+        }
+
+        private void update(int index, Long medicationId, MedicationUpdateRequest request) {
+            MedicationBulkOperation.Type type = MedicationBulkOperation.Type.UPDATE;
+            if (medicationId == null) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, "약 ID 는 필수입니다.");
+                return;
+            }
+            // 단건 수정 API 와 같이 요청 본문 검증이 대상 조회보다 먼저
+            Optional<String> violation = request != null ? firstViolation(request) : Optional.empty();
+            if (violation.isPresent()) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 400, violation.get());
+                return;
+            }
+            MedicationState current = live.get(medicationId);
+            if (current == null) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 404, "약을 찾을 수 없습니다.");
+                return;
+            }
+
+            MedicationPatch patch;
+            try {
+                patch = request == null ? null
+                        : new MedicationPatch(request.name(), request.dosage(), request.unit(), request.description(), request.isActive());
+            } catch (IllegalArgumentException e) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 400, e.getMessage());
+                return;
+            }
+            if (patch == null || patch.isEmpty()) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 400, "수정할 내용이 없습니다.");
+                return;
+            }
+
+            String newName = patch.name().orElse(current.name());
+            Long owner = nameOwners.get(nameKey(newName));
+            if (owner != null && !owner.equals(medicationId)) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 400, DUPLICATE_NAME_MESSAGE + newName);
+                return;
+            }
+
+            boolean newIsActive = patch.isActive().orElse(current.isActive());
+            nameOwners.remove(nameKey(current.name()));
+            nameOwners.put(nameKey(newName), medicationId);
+            live.put(medicationId, new MedicationState(medicationId, newName, newIsActive));
+            activeDelta += (newIsActive ? 1 : 0) - (current.isActive() ? 1 : 0);
+
+            updates.add(new MedicationUpdate(medicationId, patch));
+            results[index] = MedicationBulkResult.success(index, type, medicationId, 200);
+        }
+
+        private void delete(int index, Long medicationId) {
+            MedicationBulkOperation.Type type = MedicationBulkOperation.Type.DELETE;
+            if (medicationId == null) {
+                results[index] = MedicationBulkResult.failure(index, type, null, 400, "약 ID 는 필수입니다.");
+                return;
+            }
+            MedicationState current = live.remove(medicationId);
+            if (current == null) {
+                results[index] = MedicationBulkResult.failure(index, type, medicationId, 404, "약을 찾을 수 없습니다.");
+                return;
+            }
+
+            if (Objects.equals(nameOwners.get(nameKey(current.name())), medicationId)) {
+                nameOwners.remove(nameKey(current.name()));
+            }
+            deletedIds.add(medicationId);
+            totalDelta--;
+            activeDelta -= current.isActive() ? 1 : 0;
+            results[index] = MedicationBulkResult.success(index, type, medicationId, 204);
+        }
+
+        // 위반이 여러 개면 응답이 요청마다 달라지지 않도록 메시지 순으로 첫 번째를 사용
+        private Optional<String> firstViolation(Object request) {
+            return validator.validate(request).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .findFirst();
+        }
+
+        private static String nameKey(String name) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+    }
+}
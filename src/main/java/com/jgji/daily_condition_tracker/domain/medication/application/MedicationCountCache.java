@@ -0,0 +1,81 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 사용자/필터별 약 전체 개수 캐시 (count=exact)
+ * 항목에 개수를 셀 때의 목록 버전을 함께 저장하고, 조회 시 읽은 버전과 다르면 없는 것으로 본다
+ * 다른 노드의 쓰기도 버전이 올라가므로 바로 반영되며, TTL 은 메모리 회수용이다
+ */
+@Component
+public class MedicationCountCache {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String CACHE_NAME = "medication.count";
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Key, CachedCount> cache;
+
+    @Autowired
+    public MedicationCountCache(MeterRegistry meterRegistry) {
+        this();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    MedicationCountCache() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    /**
+     * 캐시된 개수 조회
+     * 버전은 같은 트랜잭션에서 개수를 쓰기 전에 읽은 값이어야 한다
+     *
+     * @param version 목록 버전
+     * @return 없거나 버전이 다르면 empty
+     */
+    public OptionalLong get(long userId, Boolean isActive, long version) {
+        // 버전이 다른 항목은 적중으로 집계되지 않도록 통계 없이 확인하고 적중/미스를 직접 기록한다
+        CachedCount cached = cache.policy().getIfPresentQuietly(new Key(userId, isActive));
+        if (cached == null || cached.version() != version) {
+            statsCounter.recordMisses(1);
+            return OptionalLong.empty();
+        }
+        statsCounter.recordHits(1);
+        return OptionalLong.of(cached.count());
+    }
+
+    public void put(long userId, Boolean isActive, long version, long count) {
+        cache.put(new Key(userId, isActive), new CachedCount(version, count));
+    }
+
+    /**
+     * 사용자의 모든 필터 항목 무효화
+     * 쓰기는 목록 버전을 올리므로 이전 개수는 다음 조회에서 다시 세어진다, 무효화는 메모리를 바로 회수하는 용도
+     */
+    public void evict(long userId) {
+        cache.invalidate(new Key(userId, null));
+        cache.invalidate(new Key(userId, Boolean.TRUE));
+        cache.invalidate(new Key(userId, Boolean.FALSE));
+    }
+
+    private record Key(long userId, Boolean isActive) {
+    }
+
+    private record CachedCount(long version, long count) {
+    }
+}
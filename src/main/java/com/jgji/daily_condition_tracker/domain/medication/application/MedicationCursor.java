@@ -0,0 +1,106 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 약 목록 커서
+ * (정렬 기준 값, medication_id) 의 키셋 위치와 정렬 조건을 함께 담아 Base64URL 로 인코딩한다
+ * 커서에 정렬 조건이 포함되어 있으므로 다음 페이지 요청의 sortBy/direction 은 무시된다
+ */
+public record MedicationCursor(String sortBy, Sort.Direction direction, KeysetScrollPosition position) {
+
+    private static final String ID_PROPERTY = "medicationId";
+    private static final byte VERSION = 1;
+
+    // 정렬 속성별로 커서 문자열에서 값을 복원하는 방법, 키는 MedicationSortKeys 의 속성과 같아야 한다
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+            ID_PROPERTY, Long::valueOf,
+            "name", value -> value,
+            "createdAt", OffsetDateTime::parse,
+            "updatedAt", OffsetDateTime::parse
+    );
+
+    public static MedicationCursor first(String sortBy, String direction) {
+        String property = MedicationSortKeys.REGISTRY.resolve(sortBy);
+        Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return new MedicationCursor(property, sortDirection, ScrollPosition.keyset());
+    }
+
+    public static MedicationCursor decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw invalidCursor(null);
+            }
+            String sortBy = in.readUTF();
+            Sort.Direction direction = in.readBoolean() ? Sort.Direction.ASC : Sort.Direction.DESC;
+            String sortValue = in.readUTF();
+            long medicationId = in.readLong();
+
+            Function<String, Object> parser = SORT_KEYS.get(sortBy);
+            if (parser == null) {
+                throw invalidCursor(null);
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (!ID_PROPERTY.equals(sortBy)) {
+                keys.put(sortBy, parser.apply(sortValue));
+            }
+            keys.put(ID_PROPERTY, medicationId);
+            return new MedicationCursor(sortBy, direction, ScrollPosition.forward(keys));
+        } catch (IOException | IllegalArgumentException | DateTimeException e) {
+            throw invalidCursor(e);
+        }
+    }
+
+    /**
+     * 정렬 기준이 같은 값이 여러 건이어도 순서가 고정되도록 medication_id 를 보조 정렬로 사용
+     */
+    public Sort sort() {
+        Sort sort = Sort.by(direction, sortBy);
+        return ID_PROPERTY.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID_PROPERTY));
+    }
+
+    public MedicationCursor next(ScrollPosition lastPosition) {
+        return new MedicationCursor(sortBy, direction, (KeysetScrollPosition) lastPosition);
+    }
+
+    public String encode() {
+        Map<String, Object> keys = position.getKeys();
+        Object medicationId = keys.get(ID_PROPERTY);
+        Object sortValue = keys.get(sortBy);
+        if (medicationId == null || sortValue == null) {
+            throw new IllegalStateException("커서 위치에 정렬 키가 없습니다: " + keys);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(sortBy);
+            out.writeBoolean(direction.isAscending());
+            out.writeUTF(sortValue.toString());
+            out.writeLong(((Number) medicationId).longValue());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static BusinessRuleViolationException invalidCursor(Throwable cause) {
+        return new BusinessRuleViolationException("유효하지 않은 커서입니다.", cause);
+    }
+}
@@ -0,0 +1,106 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 삭제되지 않은 약 전체 목록 캐시 (read-through)
+ * 목록/상세 조회의 페이지, 필터, 정렬은 캐시된 목록에서 메모리로 처리한다
+ * 캐시 크기는 약 건수 기준이며, 약이 너무 많은 사용자는 캐시하지 않고 DB 페이지 조회를 사용한다
+ * 노드별 로컬 캐시이므로 항목에 목록을 읽을 때의 목록 버전(medication_counters.version)을 함께 저장하고,
+ * 조회 시 읽은 버전과 다르면 없는 것으로 보고 다시 읽는다. 다른 노드의 쓰기도 버전이 올라가므로 바로 반영되며, TTL 은 메모리 회수용이다
+ * 적중률은 cache.gets{cache=medication.list} 와 medication.list.cache.hit.ratio 로 노출된다
+ */
+@Component
+public class MedicationListCache {
+
+    static final int DEFAULT_MAX_MEDICATIONS_PER_USER = 500;
+    // 캐시 전체에 담을 약 건수 상한
+    private static final long MAXIMUM_WEIGHT = 200_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String CACHE_NAME = "medication.list";
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, CachedList> cache;
+    private final int maxMedicationsPerUser;
+
+    @Autowired
+    public MedicationListCache(MeterRegistry meterRegistry) {
+        this(DEFAULT_MAX_MEDICATIONS_PER_USER);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("medication.list.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("사용자별 약 목록 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    MedicationListCache() {
+        this(DEFAULT_MAX_MEDICATIONS_PER_USER);
+    }
+
+    MedicationListCache(int maxMedicationsPerUser) {
+        this.maxMedicationsPerUser = maxMedicationsPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAXIMUM_WEIGHT)
+                .weigher((Long userId, CachedList list) -> Math.max(1, list.medications().size()))
+                .expireAfterWrite(TTL)
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    /**
+     * 캐시된 목록 조회, 없거나 버전이 다르면 loader 로 최대 (상한 + 1)건을 읽어 캐시한다
+     * 버전은 loader 와 같은 트랜잭션에서 loader 보다 먼저 읽은 값이어야 한다
+     *
+     * @param version 목록 버전
+     * @param loader userId 와 조회 건수 상한으로 삭제되지 않은 약 목록을 읽는 함수
+     * @return 상한을 넘는 사용자면 empty
+     */
+    public Optional<List<Medication>> get(long userId, long version, LoadFunction loader) {
+        // 버전이 다른 항목은 적중으로 집계되지 않도록 통계 없이 확인하고 적중/미스를 직접 기록한다
+        CachedList cached = cache.policy().getIfPresentQuietly(userId);
+        if (cached != null && cached.version() == version) {
+            statsCounter.recordHits(1);
+        } else {
+            statsCounter.recordMisses(1);
+            cached = cache.asMap().compute(userId, (key, current) ->
+                    current != null && current.version() == version ? current : load(key, version, loader));
+        }
+        return cached.complete() ? Optional.of(cached.medications()) : Optional.empty();
+    }
+
+    private CachedList load(long userId, long version, LoadFunction loader) {
+        List<Medication> medications = loader.load(userId, maxMedicationsPerUser + 1);
+        // 상한을 넘는 사용자도 같은 버전 동안 전체 목록을 다시 읽지 않도록 표시해 둠
+        return medications.size() > maxMedicationsPerUser
+                ? new CachedList(version, List.of(), false)
+                : new CachedList(version, List.copyOf(medications), true);
+    }
+
+    /**
+     * 사용자 목록 무효화
+     * 쓰기는 목록 버전을 올리므로 이전 목록은 다음 조회에서 다시 읽힌다, 무효화는 이전 목록의 메모리를 바로 회수하는 용도
+     */
+    public void evict(long userId) {
+        cache.invalidate(userId);
+    }
+
+    @FunctionalInterface
+    public interface LoadFunction {
+        List<Medication> load(long userId, int limit);
+    }
+
+    private record CachedList(long version, List<Medication> medications, boolean complete) {
+    }
+}
@@ -1,32 +1,54 @@
 package com.jgji.daily_condition_tracker.domain.medication.application;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounterRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
 import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationCreateRequest;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationSummaryResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CountMode;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CursorPageResponse;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageRequest;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponseStreamWriter;
 import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
 import com.jgji.daily_condition_tracker.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class MedicationService {
 
+    // 스트리밍 조회 한 번에 허용하는 페이지 크기 상한
+    public static final int MAX_STREAM_PAGE_SIZE = 5_000;
+    // 스트리밍 조회에서 한 번의 DB 조회로 읽는 건수
+    static final int STREAM_CHUNK_SIZE = 500;
+
     private final MedicationRepository medicationRepository;
+    private final MedicationCounterRepository medicationCounterRepository;
+    private final MedicationCountCache medicationCountCache;
+    private final MedicationListCache medicationListCache;
 
+    /**
+     * 약 등록
+     * 카운터를 먼저 올려 같은 사용자의 쓰기와 직렬화하고, 올린 목록 버전을 약의 변경 순번으로 기록한다
+     */
     @Transactional(rollbackFor = Exception.class)
     public MedicationResponse createMedication(long userId, MedicationCreateRequest request) {
         Medication medication = Medication.create(
@@ -38,130 +60,313 @@ public class MedicationService {
                 request.isActive()
         );
 
-        Medication savedMedication = medicationRepository.save(medication);
-
-        return MedicationResponse.from(
-                savedMedication.getMedicationId(),
-                savedMedication.getName(),
-                savedMedication.getDosage(),
-                savedMedication.getUnit(),
-                savedMedication.getDescription(),
-                savedMedication.isActive(),
-                savedMedication.getCreatedAt(),
-                savedMedication.getUpdatedAt()
-        );
+        // 이름이 중복되면 카운터 변경도 함께 롤백된다
+        medicationCounterRepository.increment(userId, 1, medication.isActive() ? 1 : 0);
+        long changeSeq = medicationCounterRepository.findVersion(userId);
+        Medication savedMedication = medicationRepository.save(medication.withChangeSeq(changeSeq));
+        medicationCountCache.evict(userId);
+        medicationListCache.evict(userId);
+
+        return MedicationResponse.from(savedMedication);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<MedicationSummaryResponse> findMedicationsByUserId(long userId, PageRequest pageRequest, Boolean isActive) {
+        return findMedicationsByUserId(userId, pageRequest, isActive, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<MedicationSummaryResponse> findMedicationsByUserId(long userId, PageRequest pageRequest, Boolean isActive, CountMode countMode) {
+        return findVersionedMedicationsByUserId(userId, pageRequest, isActive, countMode).value();
+    }
+
+    /**
+     * 오프셋 기반 약 목록 조회
+     * 사용자 목록이 캐시되어 있으면 메모리에서 필터/정렬/페이지를 처리하며, 이 경우 개수는 항상 정확한 값이다
+     * 캐시할 수 없는 사용자는 DB 에서 조회하며, EXACT 는 캐시된 개수가 없을 때만 COUNT 쿼리를 실행하고
+     * ESTIMATED/NONE 은 COUNT 쿼리를 실행하지 않는다
+     * 목록 버전은 같은 트랜잭션에서 목록보다 먼저 읽어 캐시 항목 검증과 응답 ETag 에 사용한다
+     */
+    @Transactional(readOnly = true)
+    public Versioned<PageResponse<MedicationSummaryResponse>> findVersionedMedicationsByUserId(long userId, PageRequest pageRequest,
+                                                                                              Boolean isActive, CountMode countMode) {
+        long version = medicationCounterRepository.findVersion(userId);
+        return new Versioned<>(findPage(userId, version, pageRequest, isActive, countMode), version);
+    }
+
+    private PageResponse<MedicationSummaryResponse> findPage(long userId, long version, PageRequest pageRequest,
+                                                             Boolean isActive, CountMode countMode) {
+        Optional<List<Medication>> cachedMedications = medicationListCache.get(userId, version, medicationRepository::findAllByUserId);
+        if (cachedMedications.isPresent()) {
+            return pageFromMemory(cachedMedications.get(), pageRequest, isActive, countMode);
+        }
+
         Pageable pageable = pageRequest.toPageable();
-        
-        Page<Medication> medicationsPage;
+
+        if (countMode == CountMode.EXACT) {
+            OptionalLong cachedCount = medicationCountCache.get(userId, isActive, version);
+            if (cachedCount.isEmpty()) {
+                Page<MedicationSummary> medicationsPage;
+                if (isActive != null) {
+                    medicationsPage = medicationRepository.findByUserIdAndIsActive(userId, isActive, pageable);
+                } else {
+                    medicationsPage = medicationRepository.findByUserId(userId, pageable);
+                }
+                medicationCountCache.put(userId, isActive, version, medicationsPage.getTotalElements());
+
+                return PageResponse.of(
+                        toSummaryResponses(medicationsPage),
+                        pageRequest.page(),
+                        pageRequest.size(),
+                        medicationsPage.getTotalElements()
+                );
+            }
+
+            Slice<MedicationSummary> medicationsSlice = findSlice(userId, isActive, pageable);
+            return PageResponse.of(
+                    toSummaryResponses(medicationsSlice),
+                    pageRequest.page(),
+                    pageRequest.size(),
+                    cachedCount.getAsLong(),
+                    medicationsSlice.hasNext()
+            );
+        }
+
+        Slice<MedicationSummary> medicationsSlice = findSlice(userId, isActive, pageable);
+        if (countMode == CountMode.ESTIMATED) {
+            long estimatedCount = medicationCounterRepository.findByUserId(userId).estimate(isActive);
+            return PageResponse.of(
+                    toSummaryResponses(medicationsSlice),
+                    pageRequest.page(),
+                    pageRequest.size(),
+                    estimatedCount,
+                    medicationsSlice.hasNext()
+            );
+        }
+
+        return PageResponse.withoutTotal(
+                toSummaryResponses(medicationsSlice),
+                pageRequest.page(),
+                pageRequest.size(),
+                medicationsSlice.hasNext()
+        );
+    }
+
+    /**
+     * 오프셋 기반 약 목록 스트리밍 조회
+     * 응답 형태는 findMedicationsByUserId 와 같지만, 목록 전체를 모으지 않고 STREAM_CHUNK_SIZE 건씩 읽어 writer 에 쓴다
+     * 트랜잭션 없이 조회마다 커넥션을 받고 반납하므로, 느린 클라이언트에 쓰는 동안에는 커넥션을 점유하지 않는다
+     * 조회가 나누어지므로 스트리밍 도중의 쓰기는 일반 페이지 이동처럼 행이 밀리거나 당겨져 보일 수 있다
+     * 동기화 클라이언트의 큰 페이지용이므로 목록 캐시는 사용하지 않으며, 개수는 행을 읽기 전에 구한다
+     */
+    public void streamMedicationsByUserId(long userId, PageRequest pageRequest, Boolean isActive, CountMode countMode,
+                                          PageResponseStreamWriter<MedicationSummaryResponse> writer) throws IOException {
+        long version = medicationCounterRepository.findVersion(userId);
+        Long totalElements = countForStream(userId, version, isActive, countMode);
+        long offset = (long) pageRequest.page() * pageRequest.size();
+
+        int written = 0;
+        boolean hasNext = false;
+        while (written < pageRequest.size()) {
+            int remaining = pageRequest.size() - written;
+            // 마지막 조회는 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+            int limit = remaining > STREAM_CHUNK_SIZE ? STREAM_CHUNK_SIZE : remaining + 1;
+            List<MedicationSummary> chunk = medicationRepository.findSummaries(
+                    userId, isActive, pageRequest.sort(), offset + written, limit);
+            for (MedicationSummary summary : chunk) {
+                if (written == pageRequest.size()) {
+                    hasNext = true;
+                    break;
+                }
+                writer.write(MedicationSummaryResponse.from(summary));
+                written++;
+            }
+            if (chunk.size() < limit) {
+                break;
+            }
+        }
+
+        writer.finish(pageRequest.page(), pageRequest.size(), totalElements, hasNext);
+    }
+
+    private Long countForStream(long userId, long version, Boolean isActive, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> {
+                OptionalLong cachedCount = medicationCountCache.get(userId, isActive, version);
+                if (cachedCount.isPresent()) {
+                    yield cachedCount.getAsLong();
+                }
+                long count = isActive != null
+                        ? medicationRepository.countByUserIdAndIsActive(userId, isActive)
+                        : medicationRepository.countByUserId(userId);
+                medicationCountCache.put(userId, isActive, version, count);
+                yield count;
+            }
+            case ESTIMATED -> medicationCounterRepository.findByUserId(userId).estimate(isActive);
+            case NONE -> null;
+        };
+    }
+
+    private PageResponse<MedicationSummaryResponse> pageFromMemory(List<Medication> medications, PageRequest pageRequest,
+                                                                   Boolean isActive, CountMode countMode) {
+        List<Medication> filtered = medications.stream()
+                .filter(medication -> isActive == null || medication.isActive() == isActive)
+                .sorted(MedicationSortKeys.comparator(pageRequest.sort()))
+                .toList();
+
+        long offset = (long) pageRequest.page() * pageRequest.size();
+        int start = (int) Math.min(offset, filtered.size());
+        int end = (int) Math.min(offset + pageRequest.size(), filtered.size());
+        List<MedicationSummaryResponse> content = filtered.subList(start, end)
+                .stream()
+                .map(MedicationSummaryResponse::from)
+                .toList();
+
+        if (countMode == CountMode.NONE) {
+            return PageResponse.withoutTotal(content, pageRequest.page(), pageRequest.size(), end < filtered.size());
+        }
+        return PageResponse.of(content, pageRequest.page(), pageRequest.size(), filtered.size());
+    }
+
+    private Slice<MedicationSummary> findSlice(long userId, Boolean isActive, Pageable pageable) {
+        if (isActive != null) {
+            return medicationRepository.findSliceByUserIdAndIsActive(userId, isActive, pageable);
+        }
+        return medicationRepository.findSliceByUserId(userId, pageable);
+    }
+
+    private List<MedicationSummaryResponse> toSummaryResponses(Slice<MedicationSummary> medications) {
+        return medications.getContent()
+                .stream()
+                .map(MedicationSummaryResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MedicationSummaryResponse> findMedicationsByUserIdWithCursor(long userId, String cursor, int size,
+                                                                                            String sortBy, String direction, Boolean isActive) {
+        return findVersionedMedicationsByUserIdWithCursor(userId, cursor, size, sortBy, direction, isActive).value();
+    }
+
+    /**
+     * 커서 기반 약 목록 조회
+     * cursor 가 비어있으면 sortBy/direction 으로 첫 페이지를 조회하고, 이후에는 커서에 담긴 정렬 조건을 따른다
+     * 목록 버전은 같은 트랜잭션에서 목록보다 먼저 읽어 응답 ETag 에 사용한다
+     */
+    @Transactional(readOnly = true)
+    public Versioned<CursorPageResponse<MedicationSummaryResponse>> findVersionedMedicationsByUserIdWithCursor(
+            long userId, String cursor, int size, String sortBy, String direction, Boolean isActive) {
+        long version = medicationCounterRepository.findVersion(userId);
+        MedicationCursor medicationCursor = (cursor == null || cursor.isBlank())
+                ? MedicationCursor.first(sortBy, direction)
+                : MedicationCursor.decode(cursor);
+        int limit = Math.max(1, size);
+
+        Window<Medication> medicationsWindow;
         if (isActive != null) {
-            medicationsPage = medicationRepository.findByUserIdAndIsActive(userId, isActive, pageable);
+            medicationsWindow = medicationRepository.scrollByUserIdAndIsActive(userId, isActive, medicationCursor.position(), medicationCursor.sort(), limit);
         } else {
-            medicationsPage = medicationRepository.findByUserId(userId, pageable);
+            medicationsWindow = medicationRepository.scrollByUserId(userId, medicationCursor.position(), medicationCursor.sort(), limit);
         }
 
-        List<MedicationSummaryResponse> medicationSummaryResponses = medicationsPage.getContent()
+        List<MedicationSummaryResponse> medicationSummaryResponses = medicationsWindow.getContent()
                 .stream()
                 .map(MedicationSummaryResponse::from)
                 .toList();
 
-        return PageResponse.of(
-                medicationSummaryResponses,
-                pageRequest.page(),
-                pageRequest.size(),
-                medicationsPage.getTotalElements()
-        );
+        String nextCursor = medicationsWindow.hasNext()
+                ? medicationCursor.next(medicationsWindow.positionAt(medicationsWindow.size() - 1)).encode()
+                : null;
+
+        return new Versioned<>(CursorPageResponse.of(medicationSummaryResponses, limit, nextCursor), version);
+    }
+
+    /**
+     * 약 목록 버전 조회
+     * 조건부 요청(If-None-Match) 판단용으로 카운터 행 하나만 PK 로 조회한다
+     */
+    @Transactional(readOnly = true)
+    public long findVersion(long userId) {
+        return medicationCounterRepository.findVersion(userId);
     }
 
     @Transactional(readOnly = true)
     public MedicationResponse findMedicationById(long medicationId, long userId) {
-        Medication medication = medicationRepository.findByIdAndUserId(medicationId, userId)
+        return findVersionedMedicationById(medicationId, userId).value();
+    }
+
+    /**
+     * 약 상세 조회
+     * 목록 버전은 같은 트랜잭션에서 약보다 먼저 읽어 캐시 항목 검증과 응답 ETag 에 사용한다
+     */
+    @Transactional(readOnly = true)
+    public Versioned<MedicationResponse> findVersionedMedicationById(long medicationId, long userId) {
+        long version = medicationCounterRepository.findVersion(userId);
+        Medication medication = medicationListCache.get(userId, version, medicationRepository::findAllByUserId)
+                .map(medications -> medications.stream()
+                        .filter(cached -> cached.getMedicationId() == medicationId)
+                        .findFirst())
+                .orElseGet(() -> medicationRepository.findByIdAndUserId(medicationId, userId))
                 .orElseThrow(() -> new ResourceNotFoundException("약", "ID", medicationId));
         
-        return MedicationResponse.from(
-                medication.getMedicationId(),
-                medication.getName(),
-                medication.getDosage(),
-                medication.getUnit(),
-                medication.getDescription(),
-                medication.isActive(),
-                medication.getCreatedAt(),
-                medication.getUpdatedAt()
-        );
+        return new Versioned<>(MedicationResponse.from(medication), version);
     }
 
+    /**
+     * 약 부분 수정
+     * 요청에 포함된 필드만 단일 UPDATE 문으로 수정하며, 이름 중복은 (user_id, name) 유니크 제약으로 판단한다
+     * 활성 상태를 수정하는 경우 기존 값을 따로 조회하지 않고, 약을 수정하기 전에 카운터 갱신 문장 안에서 변화량을 계산한다
+     * 개수 변화가 없어도 목록 버전은 항상 올리며, 올린 버전을 약의 변경 순번으로 기록한다
+     */
     @Transactional(rollbackFor = Exception.class)
     public MedicationResponse updateMedication(long userId, long medicationId, MedicationUpdateRequest dto) {
-        if (isAllFieldsUndefined(dto)) {
+        MedicationPatch patch = new MedicationPatch(dto.name(), dto.dosage(), dto.unit(), dto.description(), dto.isActive());
+        if (patch.isEmpty()) {
             throw new BusinessRuleViolationException("수정할 내용이 없습니다.");
         }
 
-        Medication originalMedication = medicationRepository.findByIdAndUserId(medicationId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("약", "ID", medicationId));
+        Boolean isActive = patch.isActive().isPresent() ? patch.isActive().get() : null;
+        if (isActive != null) {
+            medicationCounterRepository.applyActiveChange(userId, medicationId, isActive);
+            medicationCountCache.evict(userId);
+        } else {
+            medicationCounterRepository.increment(userId, 0, 0);
+        }
 
-        String newName = extractValueOrNull(dto.name(), originalMedication.getName());
-        Integer newDosage = extractValueOrNull(dto.dosage(), originalMedication.getDosage());
-        String newUnit = extractValueOrNull(dto.unit(), originalMedication.getUnit());
-        String newDescription = extractValueOrNull(dto.description(), originalMedication.getDescription());
-        Boolean newIsActive = extractValueOrNull(dto.isActive(), originalMedication.isActive());
+        long changeSeq = medicationCounterRepository.findVersion(userId);
 
-        if (newName != null && !newName.equals(originalMedication.getName())) {
-            if (medicationRepository.existsByNameAndUserIdAndIdNot(newName, userId, medicationId)) {
-                throw new BusinessRuleViolationException("이미 동일한 이름의 약물이 존재합니다: " + newName);
-            }
+        // 약이 없으면 카운터 변경도 함께 롤백된다
+        if (medicationRepository.update(userId, medicationId, patch, changeSeq) == 0) {
+            throw new ResourceNotFoundException("약", "ID", medicationId);
         }
 
-        Medication updatedMedication = originalMedication.withUpdates(
-                newName,
-                newDosage,
-                newUnit,
-                newDescription,
-                newIsActive
-        );
+        medicationListCache.evict(userId);
 
-        Medication savedMedication = medicationRepository.save(updatedMedication);
-
-        return MedicationResponse.from(
-                savedMedication.getMedicationId(),
-                savedMedication.getName(),
-                savedMedication.getDosage(),
-                savedMedication.getUnit(),
-                savedMedication.getDescription(),
-                savedMedication.isActive(),
-                savedMedication.getCreatedAt(),
-                savedMedication.getUpdatedAt()
-        );
+        Medication savedMedication = medicationRepository.findByIdAndUserId(medicationId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("약", "ID", medicationId));
+        return MedicationResponse.from(savedMedication);
     }
 
+    /**
+     * 약 소프트 삭제
+     * 조회 없이 is_deleted = 0 조건의 단일 UPDATE 문으로 삭제하므로, 동시에 들어온 수정 요청과 값이 서로 덮어써지지 않는다
+     * 수정과 같이 카운터를 먼저 차감하고, 올린 목록 버전을 약의 변경 순번으로 기록한다
+     */
     @Transactional(rollbackFor = Exception.class)
     public void deleteMedication(long userId, long medicationId) {
         log.debug("약 삭제 요청: userId={}, medicationId={}", userId, medicationId);
-        
-        Medication medication = medicationRepository.findByIdAndUserId(medicationId, userId)
-                .orElseThrow(() -> {
-                    log.warn("삭제할 약을 찾을 수 없음: userId={}, medicationId={}", userId, medicationId);
-                    return new ResourceNotFoundException("약", "ID", medicationId);
-                });
-        
-        Medication deletedMedication = medication.delete();
-        medicationRepository.save(deletedMedication);
-        
-        log.debug("약 소프트 삭제 성공: userId={}, medicationId={}, name={}",
-                userId, medicationId, medication.getName());
-    }
 
-    private boolean isAllFieldsUndefined(MedicationUpdateRequest dto) {
-        return !dto.name().isPresent() && 
-               !dto.dosage().isPresent() && 
-               !dto.unit().isPresent() && 
-               !dto.description().isPresent() && 
-               !dto.isActive().isPresent();
-    }
+        medicationCounterRepository.decrementDeleted(userId, medicationId);
+        long changeSeq = medicationCounterRepository.findVersion(userId);
+
+        // 약이 없으면 카운터 변경도 함께 롤백된다
+        if (medicationRepository.softDelete(userId, medicationId, changeSeq) == 0) {
+            log.warn("삭제할 약을 찾을 수 없음: userId={}, medicationId={}", userId, medicationId);
+            throw new ResourceNotFoundException("약", "ID", medicationId);
+        }
+        medicationCountCache.evict(userId);
+        medicationListCache.evict(userId);
 
-    private <T> T extractValueOrNull(JsonNullable<T> jsonNullable, T originalValue) {
-        return jsonNullable.isPresent() ? jsonNullable.get() : originalValue;
+        log.debug("약 소프트 삭제 성공: userId={}, medicationId={}", userId, medicationId);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.SortKeyRegistry;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * 약 목록 정렬 허용 목록
+ * 각 키는 활성 상태 필터가 있는 조회용 V006 의 (user_id, is_deleted, is_active, 정렬 컬럼, medication_id) 인덱스,
+ * 필터가 없는 조회용 V010 의 (user_id, is_deleted, 정렬 컬럼, medication_id) 인덱스와 각각 1:1 로 대응한다
+ * 두 인덱스 모두 V013 에서 나머지 요약 컬럼을 뒤에 붙여 목록 조회가 인덱스만 읽는다
+ * 키를 추가할 때는 인덱스 마이그레이션과 MedicationSortIndexTest 도 함께 추가해야 한다
+ */
+public final class MedicationSortKeys {
+
+    public static final SortKeyRegistry REGISTRY = SortKeyRegistry.of("medicationId", Map.of(
+            "medicationId", "medicationId",
+            "name", "name",
+            "createdAt", "createdAt",
+            "updatedAt", "updatedAt"
+    ));
+
+    private MedicationSortKeys() {
+    }
+
+    /**
+     * 캐시된 목록을 메모리에서 정렬할 때 사용
+     * 이름은 DB 의 대소문자 무시 collation 과 순서를 맞추기 위해 대소문자를 무시하고 비교한다
+     */
+    public static Comparator<Medication> comparator(Sort sort) {
+        Comparator<Medication> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Medication> next = switch (order.getProperty()) {
+                case "medicationId" -> Comparator.comparing(Medication::getMedicationId);
+                case "name" -> Comparator.comparing(Medication::getName, String.CASE_INSENSITIVE_ORDER);
+                case "createdAt" -> Comparator.comparing(Medication::getCreatedAt);
+                case "updatedAt" -> Comparator.comparing(Medication::getUpdatedAt);
+                default -> throw new IllegalArgumentException("지원하지 않는 정렬 속성입니다: " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator != null ? comparator : Comparator.comparing(Medication::getMedicationId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationRepository;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationChangeResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationChangesResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 약 변경분 동기화
+ * 워터마크 이후 등록/수정/삭제된 약만 (change_seq, medication_id) 순으로 반환하여 응답 크기가 목록 크기가 아닌 변경량에 비례하도록 한다
+ * change_seq 는 쓰기 트랜잭션이 카운터 행을 잠그고 올린 목록 버전이므로 사용자별로 커밋 순서와 같다
+ * 더 큰 순번의 변경이 보이면 더 작은 순번의 변경은 이미 커밋되었으므로, 워터마크 이후에 앞선 위치로 커밋되는 변경이 없다
+ */
+@RequiredArgsConstructor
+@Service
+public class MedicationSyncService {
+
+    static final int MAX_SIZE = 500;
+
+    private final MedicationRepository medicationRepository;
+
+    /**
+     * since 이후의 변경 조회
+     * 변경이 없으면 since 를 그대로 워터마크로 돌려준다
+     */
+    @Transactional(readOnly = true)
+    public MedicationChangesResponse findChanges(long userId, String since, int size) {
+        MedicationSyncWatermark watermark = MedicationSyncWatermark.decode(since);
+        int limit = Math.min(Math.max(1, size), MAX_SIZE);
+
+        List<Medication> changed = medicationRepository.findChangedSince(
+                userId, watermark.changeSeq(), watermark.medicationId(), limit + 1);
+        boolean hasMore = changed.size() > limit;
+        List<Medication> page = hasMore ? changed.subList(0, limit) : changed;
+
+        MedicationSyncWatermark nextWatermark = page.isEmpty()
+                ? watermark
+                : MedicationSyncWatermark.after(page.get(page.size() - 1));
+        List<MedicationChangeResponse> changes = page.stream()
+                .map(MedicationChangeResponse::from)
+                .toList();
+
+        return MedicationChangesResponse.of(changes, nextWatermark.encode(), hasMore);
+    }
+}
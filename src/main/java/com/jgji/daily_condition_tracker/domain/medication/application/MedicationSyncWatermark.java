@@ -0,0 +1,70 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 약 변경분 동기화 워터마크
+ * 클라이언트가 마지막으로 받은 변경의 (change_seq, medication_id) 위치를 Base64URL 로 인코딩한다
+ * 클라이언트는 값을 해석하지 않고 다음 동기화 요청의 since 로 그대로 돌려준다
+ */
+public record MedicationSyncWatermark(long changeSeq, long medicationId) {
+
+    public static final MedicationSyncWatermark INITIAL = new MedicationSyncWatermark(0L, 0L);
+
+    // 1: (updated_at, medication_id), 2: (change_seq, medication_id)
+    private static final byte UPDATED_AT_VERSION = 1;
+    private static final byte VERSION = 2;
+
+    public static MedicationSyncWatermark after(Medication medication) {
+        return new MedicationSyncWatermark(medication.getChangeSeq(), medication.getMedicationId());
+    }
+
+    /**
+     * since 가 없으면 처음부터 동기화
+     * updated_at 기준의 이전 워터마크는 change_seq 위치로 옮길 수 없으므로 처음부터 다시 동기화한다
+     */
+    public static MedicationSyncWatermark decode(String since) {
+        if (since == null || since.isBlank()) {
+            return INITIAL;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(since)))) {
+            byte version = in.readByte();
+            if (version == UPDATED_AT_VERSION) {
+                return INITIAL;
+            }
+            if (version != VERSION) {
+                throw invalidWatermark(null);
+            }
+            long changeSeq = in.readLong();
+            long medicationId = in.readLong();
+            return new MedicationSyncWatermark(changeSeq, medicationId);
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalidWatermark(e);
+        }
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(changeSeq);
+            out.writeLong(medicationId);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static BusinessRuleViolationException invalidWatermark(Throwable cause) {
+        return new BusinessRuleViolationException("유효하지 않은 동기화 워터마크입니다.", cause);
+    }
+}
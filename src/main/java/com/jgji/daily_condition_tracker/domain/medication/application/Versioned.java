@@ -0,0 +1,8 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+/**
+ * 조회 결과와 그 결과를 만들 때 읽은 목록 버전
+ * ETag 는 요청 시작 시 읽은 버전이 아니라 이 버전으로 만들어야 응답 본문과 태그가 어긋나지 않는다
+ */
+public record Versioned<T>(T value, long version) {
+}
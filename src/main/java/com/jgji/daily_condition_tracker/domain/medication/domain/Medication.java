@@ -1,6 +1,7 @@
 package com.jgji.daily_condition_tracker.domain.medication.domain;
 
 import com.jgji.daily_condition_tracker.domain.medication.infrastructure.MedicationEntity;
+import com.jgji.daily_condition_tracker.global.mapping.Default;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,11 +21,16 @@ public final class Medication {
     private final OffsetDateTime deletedAt;
     private final OffsetDateTime createdAt;
     private final OffsetDateTime updatedAt;
+    // 마지막으로 이 약을 쓴 트랜잭션의 목록 버전 (동기화 순서)
+    private final long changeSeq;
 
+    // 빌더는 테스트 픽스처(FixtureMonkey BuilderArbitraryIntrospector) 생성용으로 유지
+    // 생성자는 같은 패키지의 생성된 매퍼(MedicationMapper)가 호출한다
+    @Default
     @Builder(access = lombok.AccessLevel.PRIVATE)
-    private Medication(Long medicationId, long userId, String name, Integer dosage, String unit,
-                       String description, boolean isActive, boolean isDeleted, OffsetDateTime deletedAt,
-                       OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+    Medication(Long medicationId, long userId, String name, Integer dosage, String unit,
+               String description, boolean isActive, boolean isDeleted, OffsetDateTime deletedAt,
+               OffsetDateTime createdAt, OffsetDateTime updatedAt, long changeSeq) {
         this.medicationId = medicationId;
         this.userId = userId;
         this.name = name;
@@ -36,6 +42,7 @@ public final class Medication {
         this.deletedAt = deletedAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.changeSeq = changeSeq;
     }
 
     public static Medication create(long userId, String name, Integer dosage, String unit, String description, boolean isActive) {
@@ -52,23 +59,13 @@ public final class Medication {
                 .deletedAt(null)
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
+                .changeSeq(0L)
                 .build();
     }
 
+    // 조회 행마다 호출되므로 빌더 없이 생성된 매퍼가 생성자로 직접 복사
     public static Medication of(MedicationEntity entity) {
-        return Medication.builder()
-                .medicationId(entity.getMedicationId())
-                .userId(entity.getUserId())
-                .name(entity.getName())
-                .dosage(entity.getDosage())
-                .unit(entity.getUnit())
-                .description(entity.getDescription())
-                .isActive(entity.isActive())
-                .isDeleted(entity.isDeleted())
-                .deletedAt(entity.getDeletedAt())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+        return MedicationMapper.INSTANCE.toDomain(entity);
     }
 
     public Medication withUpdates(String name, Integer dosage, String unit, String description, Boolean isActive) {
@@ -88,6 +85,7 @@ public final class Medication {
                 .deletedAt(this.deletedAt)
                 .createdAt(this.createdAt)
                 .updatedAt(OffsetDateTime.now())
+                .changeSeq(this.changeSeq)
                 .build();
     }
     public Medication delete() {
@@ -104,10 +102,17 @@ public final class Medication {
                 .deletedAt(OffsetDateTime.now())
                 .createdAt(this.createdAt)
                 .updatedAt(OffsetDateTime.now())
+                .changeSeq(this.changeSeq)
                 .build();
     }
 
-    private static void validateName(String name) {
+    // 저장 전에 같은 트랜잭션에서 올린 목록 버전을 변경 순번으로 기록
+    public Medication withChangeSeq(long changeSeq) {
+        return new Medication(this.medicationId, this.userId, this.name, this.dosage, this.unit, this.description,
+                this.isActive, this.isDeleted, this.deletedAt, this.createdAt, this.updatedAt, changeSeq);
+    }
+
+    static void validateName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("약 이름은 필수값입니다.");
         }
@@ -0,0 +1,27 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 약 일괄 등록/수정/삭제 저장소
+ * IDENTITY 전략은 Hibernate 의 insert 배치를 비활성화하므로 JDBC 배치로 한 번에 전송한다
+ * 쓰기 메서드의 changeSeq 는 같은 트랜잭션에서 먼저 올린 목록 버전이며, 쓴 약 행의 변경 순번으로 기록된다
+ */
+public interface MedicationBatchRepository {
+
+    // 수정/삭제 대상 중 삭제되지 않은 본인 약을 행 잠금과 함께 조회
+    List<MedicationState> findLiveForUpdate(long userId, Collection<Long> medicationIds);
+
+    // 이름이 같은(DB collation 기준) 삭제되지 않은 약 조회
+    List<MedicationState> findLiveByNames(long userId, Collection<String> names);
+
+    /**
+     * @return 입력 순서대로 생성된 약 ID
+     */
+    List<Long> insertAll(List<Medication> medications, long changeSeq);
+
+    void updateAll(long userId, List<MedicationUpdate> updates, long changeSeq);
+
+    void softDeleteAll(long userId, Collection<Long> medicationIds, long changeSeq);
+}
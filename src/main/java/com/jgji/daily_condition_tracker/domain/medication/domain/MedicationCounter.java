@@ -0,0 +1,18 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+/**
+ * 사용자별 약 개수 카운터
+ * 등록/삭제/활성 상태 변경 시 증감되는 값으로, 목록 조회의 추정 개수(count=estimated)에 사용된다
+ * 같은 행의 목록 버전은 MedicationCounterRepository#findVersion 으로 따로 조회한다
+ */
+public record MedicationCounter(long totalCount, long activeCount) {
+
+    public static final MedicationCounter EMPTY = new MedicationCounter(0, 0);
+
+    public long estimate(Boolean isActive) {
+        if (isActive == null) {
+            return Math.max(0, totalCount);
+        }
+        return Math.max(0, isActive ? activeCount : totalCount - activeCount);
+    }
+}
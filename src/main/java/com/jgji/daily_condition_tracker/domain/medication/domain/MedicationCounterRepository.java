@@ -0,0 +1,23 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+public interface MedicationCounterRepository {
+
+    MedicationCounter findByUserId(long userId);
+
+    // 약 목록 버전, 카운터 행이 없으면 0
+    // 쓰기 트랜잭션에서 카운터를 올린 뒤 읽으면 그 트랜잭션이 약 행에 기록할 변경 순번(change_seq)이 된다
+    long findVersion(long userId);
+
+    // 행이 없으면 생성하고, 있으면 원자적으로 증감하며 목록 버전을 올린다
+    // 카운터 행 잠금은 커밋까지 유지되어 같은 사용자의 쓰기를 직렬화하므로, 약 행을 쓰기 전에 먼저 호출한다
+    // 개수 변화가 없는 수정도 버전을 올리기 위해 (0, 0) 으로 호출한다
+    void increment(long userId, long totalDelta, long activeDelta);
+
+    // 삭제할 약의 활성 여부를 저장소에서 직접 읽어 차감하고 목록 버전을 올린다
+    // 약을 소프트 삭제하기 전에, 같은 트랜잭션에서 호출되어야 한다
+    void decrementDeleted(long userId, long medicationId);
+
+    // 저장된 활성 상태와 isActive 의 차이를 저장소에서 직접 계산하여 활성 개수를 증감하고 목록 버전을 올린다
+    // 약의 활성 상태를 수정하기 전에, 같은 트랜잭션에서 호출되어야 한다
+    void applyActiveChange(long userId, long medicationId, boolean isActive);
+}
@@ -0,0 +1,19 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+import com.jgji.daily_condition_tracker.domain.medication.infrastructure.MedicationEntity;
+import com.jgji.daily_condition_tracker.global.mapping.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+// 엔티티 -> 도메인 변환, 구현은 컴파일 시 생성된다 (MedicationMapperImpl)
+@Mapper(config = MappingConfig.class)
+interface MedicationMapper {
+
+    MedicationMapper INSTANCE = Mappers.getMapper(MedicationMapper.class);
+
+    // Lombok 의 boolean 게터 isActive() 는 active 속성으로 읽힘
+    @Mapping(target = "isActive", source = "active")
+    @Mapping(target = "isDeleted", source = "deleted")
+    Medication toDomain(MedicationEntity entity);
+}
@@ -0,0 +1,32 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+import org.openapitools.jackson.nullable.JsonNullable;
+
+/**
+ * 약 부분 수정 내용
+ * 값이 있는(present) 필드만 UPDATE 문에 포함되며, undefined 필드는 기존 값을 유지한다
+ */
+public record MedicationPatch(
+        JsonNullable<String> name,
+        JsonNullable<Integer> dosage,
+        JsonNullable<String> unit,
+        JsonNullable<String> description,
+        JsonNullable<Boolean> isActive
+) {
+    public MedicationPatch {
+        if (name.isPresent()) {
+            Medication.validateName(name.get());
+        }
+        if (isActive.isPresent() && isActive.get() == null) {
+            throw new IllegalArgumentException("활성 여부는 null 일 수 없습니다.");
+        }
+    }
+
+    public boolean isEmpty() {
+        return !name.isPresent() &&
+               !dosage.isPresent() &&
+               !unit.isPresent() &&
+               !description.isPresent() &&
+               !isActive.isPresent();
+    }
+}
@@ -2,7 +2,12 @@ package com.jgji.daily_condition_tracker.domain.medication.domain;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MedicationRepository {
@@ -10,7 +15,43 @@ public interface MedicationRepository {
     
     Optional<Medication> findByIdAndUserId(long medicationId, long userId);
 
-    Page<Medication> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable);
-    Page<Medication> findByUserId(long userId, Pageable pageable);
-    boolean existsByNameAndUserIdAndIdNot(String name, long userId, long medicationId);
+    // 삭제되지 않은 약을 medication_id 순으로 최대 limit 건 조회 (사용자별 목록 캐시 적재용)
+    List<Medication> findAllByUserId(long userId, int limit);
+
+    // (change_seq, medication_id) 가 기준 위치 이후인 약을 삭제된 약까지 포함하여 순서대로 조회 (동기화용)
+    List<Medication> findChangedSince(long userId, long changeSeqAfter, long medicationIdAfter, int limit);
+
+    // 목록 조회는 요약 컬럼만 조회
+    Page<MedicationSummary> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable);
+    Page<MedicationSummary> findByUserId(long userId, Pageable pageable);
+
+    // COUNT 쿼리 없이 size + 1 건을 조회하여 다음 페이지 존재 여부만 판단
+    Slice<MedicationSummary> findSliceByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable);
+    Slice<MedicationSummary> findSliceByUserId(long userId, Pageable pageable);
+
+    // 스트리밍 응답을 짧은 조회 여러 번으로 나누어 읽을 때 사용, COUNT 쿼리 없이 offset 부터 limit 건만 조회
+    List<MedicationSummary> findSummaries(long userId, Boolean isActive, Sort sort, long offset, int limit);
+    long countByUserIdAndIsActive(long userId, boolean isActive);
+    long countByUserId(long userId);
+
+    // 키셋 기반 조회, COUNT 쿼리 없이 limit 건과 다음 페이지 존재 여부만 조회
+    Window<Medication> scrollByUserIdAndIsActive(long userId, boolean isActive, ScrollPosition position, Sort sort, int limit);
+    Window<Medication> scrollByUserId(long userId, ScrollPosition position, Sort sort, int limit);
+
+    /**
+     * 값이 있는 필드만 포함한 단일 UPDATE 문으로 수정
+     * 이름이 중복되면 유니크 제약 위반을 BusinessRuleViolationException 으로 변환한다
+     *
+     * @param changeSeq 같은 트랜잭션에서 먼저 올린 목록 버전
+     * @return 수정된 행 수 (대상이 없거나 다른 사용자의 약이면 0)
+     */
+    int update(long userId, long medicationId, MedicationPatch patch, long changeSeq);
+
+    /**
+     * 조회 없이 단일 UPDATE 문으로 소프트 삭제
+     * 이미 삭제되었거나 다른 사용자의 약이면 0 을 반환한다
+     *
+     * @param changeSeq 같은 트랜잭션에서 먼저 올린 목록 버전
+     */
+    int softDelete(long userId, long medicationId, long changeSeq);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+/**
+ * 일괄 처리 검증에 필요한 약의 현재 상태 (이름 중복, 활성 상태 카운터 계산용)
+ */
+public record MedicationState(long medicationId, String name, boolean isActive) {
+}
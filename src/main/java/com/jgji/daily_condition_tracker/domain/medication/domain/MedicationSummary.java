@@ -0,0 +1,18 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 약 목록 조회용 요약 정보
+ * 목록에 필요한 컬럼만 조회하여 description(TEXT) 과 같은 큰 컬럼을 읽지 않도록 한다
+ */
+public record MedicationSummary(
+        long medicationId,
+        String name,
+        Integer dosage,
+        String unit,
+        boolean isActive,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
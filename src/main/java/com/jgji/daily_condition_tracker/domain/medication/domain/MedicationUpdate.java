@@ -0,0 +1,7 @@
+package com.jgji.daily_condition_tracker.domain.medication.domain;
+
+/**
+ * 일괄 수정 대상 약과 수정 내용
+ */
+public record MedicationUpdate(long medicationId, MedicationPatch patch) {
+}
@@ -0,0 +1,178 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationBatchRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationState;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationUpdate;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 배치 기반 약 일괄 처리
+ * 데이터소스 URL 의 rewriteBatchedStatements=true 로 insert 는 다중 VALUES 한 문장, update 는 한 번의 왕복으로 전송된다
+ * JPA 트랜잭션과 같은 커넥션을 사용하므로 서비스의 @Transactional 범위 안에서 함께 커밋/롤백된다
+ */
+@RequiredArgsConstructor
+@Repository
+class MedicationBatchRepositoryImpl implements MedicationBatchRepository {
+
+    // V007 의 (user_id, name, is_alive) 유니크 제약
+    private static final String NAME_UNIQUE_CONSTRAINT = "uk_medications_user_name_alive";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO medications (user_id, name, dosage, unit, description, is_active, is_deleted, created_at, updated_at, change_seq) " +
+            "VALUES (:userId, :name, :dosage, :unit, :description, :isActive, 0, :now, :now, :changeSeq)";
+
+    // 모든 행이 같은 문장을 사용해야 배치로 묶이므로, 요청에 없는 필드는 IF 로 기존 값을 유지
+    private static final String UPDATE_SQL =
+            "UPDATE medications SET " +
+            "name = IF(:setName, :name, name), " +
+            "dosage = IF(:setDosage, :dosage, dosage), " +
+            "unit = IF(:setUnit, :unit, unit), " +
+            "description = IF(:setDescription, :description, description), " +
+            "is_active = IF(:setIsActive, :isActive, is_active), " +
+            "updated_at = :now, " +
+            "change_seq = :changeSeq " +
+            "WHERE medication_id = :medicationId AND user_id = :userId AND is_deleted = 0";
+
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE medications SET is_deleted = 1, deleted_at = :now, updated_at = :now, change_seq = :changeSeq " +
+            "WHERE medication_id IN (:medicationIds) AND user_id = :userId AND is_deleted = 0";
+
+    private static final String SELECT_LIVE_FOR_UPDATE_SQL =
+            "SELECT medication_id, name, is_active FROM medications " +
+            "WHERE user_id = :userId AND is_deleted = 0 AND medication_id IN (:medicationIds) FOR UPDATE";
+
+    private static final String SELECT_LIVE_BY_NAMES_SQL =
+            "SELECT medication_id, name, is_active FROM medications " +
+            "WHERE user_id = :userId AND is_deleted = 0 AND name IN (:names)";
+
+    private static final RowMapper<MedicationState> STATE_MAPPER = (rs, rowNum) -> new MedicationState(
+            rs.getLong("medication_id"),
+            rs.getString("name"),
+            rs.getBoolean("is_active")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<MedicationState> findLiveForUpdate(long userId, Collection<Long> medicationIds) {
+        if (medicationIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_LIVE_FOR_UPDATE_SQL,
+                Map.of("userId", userId, "medicationIds", medicationIds), STATE_MAPPER);
+    }
+
+    @Override
+    public List<MedicationState> findLiveByNames(long userId, Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_LIVE_BY_NAMES_SQL, Map.of("userId", userId, "names", names), STATE_MAPPER);
+    }
+
+    @Override
+    public List<Long> insertAll(List<Medication> medications, long changeSeq) {
+        if (medications.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        SqlParameterSource[] batchArgs = medications.stream()
+                .map(medication -> new MapSqlParameterSource()
+                        .addValue("userId", medication.getUserId())
+                        .addValue("name", medication.getName())
+                        .addValue("dosage", medication.getDosage())
+                        .addValue("unit", medication.getUnit())
+                        .addValue("description", medication.getDescription())
+                        .addValue("isActive", medication.isActive())
+                        .addValue("now", now)
+                        .addValue("changeSeq", changeSeq))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs, keyHolder, new String[]{"medication_id"});
+        } catch (DataIntegrityViolationException e) {
+            throw nameConflict(e);
+        }
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    @Override
+    public void updateAll(long userId, List<MedicationUpdate> updates, long changeSeq) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        SqlParameterSource[] batchArgs = updates.stream()
+                .map(update -> toUpdateParameters(userId, update, now, changeSeq))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+        } catch (DataIntegrityViolationException e) {
+            throw nameConflict(e);
+        }
+    }
+
+    @Override
+    public void softDeleteAll(long userId, Collection<Long> medicationIds, long changeSeq) {
+        if (medicationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(SOFT_DELETE_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("medicationIds", medicationIds)
+                .addValue("now", Timestamp.from(Instant.now()))
+                .addValue("changeSeq", changeSeq));
+    }
+
+    private SqlParameterSource toUpdateParameters(long userId, MedicationUpdate update, Timestamp now, long changeSeq) {
+        MedicationPatch patch = update.patch();
+        return new MapSqlParameterSource()
+                .addValue("medicationId", update.medicationId())
+                .addValue("userId", userId)
+                .addValue("setName", patch.name().isPresent())
+                .addValue("name", patch.name().orElse(null))
+                .addValue("setDosage", patch.dosage().isPresent())
+                .addValue("dosage", patch.dosage().orElse(null))
+                .addValue("setUnit", patch.unit().isPresent())
+                .addValue("unit", patch.unit().orElse(null))
+                .addValue("setDescription", patch.description().isPresent())
+                .addValue("description", patch.description().orElse(null))
+                .addValue("setIsActive", patch.isActive().isPresent())
+                .addValue("isActive", patch.isActive().orElse(null))
+                .addValue("now", now)
+                .addValue("changeSeq", changeSeq);
+    }
+
+    // 애플리케이션 검증 이후 다른 요청과 경합하거나 collation 차이로 남은 중복은 전체 요청을 실패시킴
+    private RuntimeException nameConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message != null && message.contains(NAME_UNIQUE_CONSTRAINT)) {
+            return new BusinessRuleViolationException("이미 동일한 이름의 약물이 존재합니다.", e);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 사용자별 약 개수 카운터
+ * 쓰기는 MedicationCounterJpaRepository 의 upsert 쿼리로만 수행한다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "medication_counters")
+public class MedicationCounterEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Comment("삭제되지 않은 약 개수")
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Comment("삭제되지 않은 활성 약 개수")
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    @Comment("약 목록 버전")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Comment("수정 일시")
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,59 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+interface MedicationCounterJpaRepository extends JpaRepository<MedicationCounterEntity, Long> {
+
+    @Query("select c.version from MedicationCounterEntity c where c.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") long userId);
+
+    // 읽고 쓰는 대신 한 문장으로 증감하여 동시 요청에서도 값이 유실되지 않도록 함
+    @Modifying
+    @Query(value = "INSERT INTO medication_counters (user_id, total_count, active_count, version, updated_at) " +
+                   "VALUES (:userId, GREATEST(:totalDelta, 0), GREATEST(:activeDelta, 0), 1, CURRENT_TIMESTAMP(6)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_count = GREATEST(total_count + :totalDelta, 0), " +
+                   "active_count = GREATEST(active_count + :activeDelta, 0), " +
+                   "version = version + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP(6)",
+           nativeQuery = true)
+    int increment(@Param("userId") long userId,
+                  @Param("totalDelta") long totalDelta,
+                  @Param("activeDelta") long activeDelta);
+
+    // 약 행을 삭제하기 전에 호출하여 삭제될 약의 활성 여부만큼 차감, 카운터 행이 없으면 만들어 잠금과 버전을 확보한다
+    // 약이 없으면 뒤따르는 삭제가 0 행이 되어 트랜잭션과 함께 롤백된다
+    @Modifying
+    @Query(value = "INSERT INTO medication_counters (user_id, total_count, active_count, version, updated_at) " +
+                   "VALUES (:userId, 0, 0, 1, CURRENT_TIMESTAMP(6)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_count = GREATEST(total_count - 1, 0), " +
+                   "active_count = GREATEST(active_count - COALESCE(" +
+                   "(SELECT m.is_active FROM medications m " +
+                   "WHERE m.medication_id = :medicationId AND m.user_id = :userId AND m.is_deleted = 0), 0), 0), " +
+                   "version = version + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP(6)",
+           nativeQuery = true)
+    int decrementDeleted(@Param("userId") long userId, @Param("medicationId") long medicationId);
+
+    // 약 행을 수정하기 전에 호출하여 저장된 활성 상태와 새 값의 차이만큼 증감, 약이 없으면 버전만 올린다
+    // 카운터 행 잠금이 같은 사용자의 수정을 직렬화하므로 뒤따르는 요청은 앞 요청이 커밋한 활성 상태를 읽는다
+    @Modifying
+    @Query(value = "INSERT INTO medication_counters (user_id, total_count, active_count, version, updated_at) " +
+                   "VALUES (:userId, 0, 0, 1, CURRENT_TIMESTAMP(6)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "active_count = GREATEST(active_count + COALESCE(" +
+                   "(SELECT :isActive - m.is_active FROM medications m " +
+                   "WHERE m.medication_id = :medicationId AND m.user_id = :userId AND m.is_deleted = 0), 0), 0), " +
+                   "version = version + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP(6)",
+           nativeQuery = true)
+    int applyActiveChange(@Param("userId") long userId,
+                          @Param("medicationId") long medicationId,
+                          @Param("isActive") boolean isActive);
+}
@@ -0,0 +1,40 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounter;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+class MedicationCounterRepositoryImpl implements MedicationCounterRepository {
+
+    private final MedicationCounterJpaRepository medicationCounterJpaRepository;
+
+    @Override
+    public MedicationCounter findByUserId(long userId) {
+        return medicationCounterJpaRepository.findById(userId)
+                .map(entity -> new MedicationCounter(entity.getTotalCount(), entity.getActiveCount()))
+                .orElse(MedicationCounter.EMPTY);
+    }
+
+    @Override
+    public long findVersion(long userId) {
+        return medicationCounterJpaRepository.findVersionByUserId(userId).orElse(0L);
+    }
+
+    @Override
+    public void increment(long userId, long totalDelta, long activeDelta) {
+        medicationCounterJpaRepository.increment(userId, totalDelta, activeDelta);
+    }
+
+    @Override
+    public void decrementDeleted(long userId, long medicationId) {
+        medicationCounterJpaRepository.decrementDeleted(userId, medicationId);
+    }
+
+    @Override
+    public void applyActiveChange(long userId, long medicationId, boolean isActive) {
+        medicationCounterJpaRepository.applyActiveChange(userId, medicationId, isActive);
+    }
+}
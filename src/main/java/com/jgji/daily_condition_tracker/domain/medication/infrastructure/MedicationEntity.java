@@ -2,6 +2,7 @@ package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
 import com.jgji.daily_condition_tracker.domain.shared.domain.SoftDeletableEntity;
+import com.jgji.daily_condition_tracker.global.mapping.Default;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -49,9 +50,16 @@ public class MedicationEntity extends SoftDeletableEntity {
     @Column(name = "is_deleted", columnDefinition = "TINYINT(1) DEFAULT 0", nullable = false)
     private boolean isDeleted;
 
+    @Comment("변경 순번 (쓰기 시점의 medication_counters.version)")
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    // 빌더는 테스트 픽스처(FixtureMonkey BuilderArbitraryIntrospector) 생성용으로 유지
+    // 생성자는 같은 패키지의 생성된 매퍼(MedicationEntityMapper)가 호출한다
+    @Default
     @Builder(access = AccessLevel.PRIVATE)
-    private MedicationEntity(Long medicationId, long userId, String name, Integer dosage, String unit,
-                           String description, boolean isActive, boolean isDeleted) {
+    MedicationEntity(Long medicationId, long userId, String name, Integer dosage, String unit,
+                     String description, boolean isActive, boolean isDeleted, long changeSeq) {
         this.medicationId = medicationId;
         this.userId = userId;
         this.name = name;
@@ -60,19 +68,11 @@ public class MedicationEntity extends SoftDeletableEntity {
         this.description = description;
         this.isActive = isActive;
         this.isDeleted = isDeleted;
+        this.changeSeq = changeSeq;
     }
 
     static MedicationEntity fromDomain(Medication medication) {
-        return MedicationEntity.builder()
-                .medicationId(medication.getMedicationId())
-                .userId(medication.getUserId())
-                .name(medication.getName())
-                .dosage(medication.getDosage())
-                .unit(medication.getUnit())
-                .description(medication.getDescription())
-                .isActive(medication.isActive())
-                .isDeleted(medication.isDeleted())
-                .build();
+        return MedicationEntityMapper.INSTANCE.toEntity(medication);
     }
 
     Medication toDomain() {
@@ -0,0 +1,18 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.global.mapping.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+// 도메인 -> 엔티티 변환, 구현은 컴파일 시 생성된다 (MedicationEntityMapperImpl)
+@Mapper(config = MappingConfig.class)
+interface MedicationEntityMapper {
+
+    MedicationEntityMapper INSTANCE = Mappers.getMapper(MedicationEntityMapper.class);
+
+    @Mapping(target = "isActive", source = "active")
+    @Mapping(target = "isDeleted", source = "deleted")
+    MedicationEntity toEntity(Medication medication);
+}
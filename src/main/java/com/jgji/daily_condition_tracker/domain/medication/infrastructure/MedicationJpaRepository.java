@@ -1,14 +1,64 @@
 package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
 
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 interface MedicationJpaRepository extends JpaRepository<MedicationEntity, Long> {
-    Page<MedicationEntity> findByUserIdAndIsActiveAndIsDeleted(long userId, boolean isActive, boolean isDeleted, Pageable pageable);
-    Page<MedicationEntity> findByUserIdAndIsDeleted(long userId, boolean isDeleted, Pageable pageable);
+
+    // 컬럼을 추가하면 V013 의 목록 인덱스에도 추가해야 인덱스만 읽는 조회가 유지된다
+    String SELECT_SUMMARY = "select new com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary("
+            + "m.medicationId, m.name, m.dosage, m.unit, m.isActive, m.createdAt, m.updatedAt) from MedicationEntity m ";
+    String WHERE_USER_ACTIVE = "where m.userId = :userId and m.isDeleted = false and m.isActive = :isActive";
+    String WHERE_USER = "where m.userId = :userId and m.isDeleted = false";
+
+    // 요약 컬럼만 조회, 정렬 조건은 Pageable 의 Sort 가 order by 로 추가된다
+    @Query(value = SELECT_SUMMARY + WHERE_USER_ACTIVE,
+            countQuery = "select count(m) from MedicationEntity m " + WHERE_USER_ACTIVE)
+    Page<MedicationSummary> findSummariesByUserIdAndIsActive(@Param("userId") long userId, @Param("isActive") boolean isActive, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + WHERE_USER,
+            countQuery = "select count(m) from MedicationEntity m " + WHERE_USER)
+    Page<MedicationSummary> findSummariesByUserId(@Param("userId") long userId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + WHERE_USER_ACTIVE)
+    Slice<MedicationSummary> findSummarySliceByUserIdAndIsActive(@Param("userId") long userId, @Param("isActive") boolean isActive, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + WHERE_USER)
+    Slice<MedicationSummary> findSummarySliceByUserId(@Param("userId") long userId, Pageable pageable);
+
+    long countByUserIdAndIsActiveAndIsDeleted(long userId, boolean isActive, boolean isDeleted);
+    long countByUserIdAndIsDeleted(long userId, boolean isDeleted);
+    Window<MedicationEntity> findByUserIdAndIsActiveAndIsDeleted(long userId, boolean isActive, boolean isDeleted, ScrollPosition position, Sort sort, Limit limit);
+    Window<MedicationEntity> findByUserIdAndIsDeleted(long userId, boolean isDeleted, ScrollPosition position, Sort sort, Limit limit);
+    List<MedicationEntity> findByUserIdAndIsDeletedOrderByMedicationIdAsc(long userId, boolean isDeleted, Limit limit);
     Optional<MedicationEntity> findByMedicationIdAndUserIdAndIsDeleted(long medicationId, long userId, boolean isDeleted);
-    boolean existsByNameAndUserIdAndMedicationIdNotAndIsDeleted(String name, long userId, long medicationId, boolean isDeleted);
+
+    // idx_user_change_seq 인덱스 순서대로 읽으며, 삭제된 약도 tombstone 으로 포함한다
+    @Query("select m from MedicationEntity m where m.userId = :userId " +
+           "and (m.changeSeq > :changeSeqAfter or (m.changeSeq = :changeSeqAfter and m.medicationId > :medicationIdAfter)) " +
+           "order by m.changeSeq asc, m.medicationId asc")
+    List<MedicationEntity> findChangedSince(@Param("userId") long userId,
+                                            @Param("changeSeqAfter") long changeSeqAfter,
+                                            @Param("medicationIdAfter") long medicationIdAfter,
+                                            Limit limit);
+
+    @Modifying
+    @Query("update MedicationEntity m set m.isDeleted = true, m.deletedAt = :deletedAt, m.updatedAt = :deletedAt, m.changeSeq = :changeSeq " +
+           "where m.medicationId = :medicationId and m.userId = :userId and m.isDeleted = false")
+    int softDelete(@Param("medicationId") long medicationId, @Param("userId") long userId,
+                   @Param("deletedAt") OffsetDateTime deletedAt, @Param("changeSeq") long changeSeq);
 }
\ No newline at end of file
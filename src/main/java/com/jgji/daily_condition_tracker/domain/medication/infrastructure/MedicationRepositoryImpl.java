@@ -1,37 +1,131 @@
 package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
 import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Repository
 class MedicationRepositoryImpl implements MedicationRepository {
 
+    // V007 의 (user_id, name, is_alive) 유니크 제약
+    private static final String NAME_UNIQUE_CONSTRAINT = "uk_medications_user_name_alive";
+
     private final MedicationJpaRepository medicationJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Medication save(Medication medication) {
         MedicationEntity entity = MedicationEntity.fromDomain(medication);
-        MedicationEntity savedEntity = medicationJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        try {
+            MedicationEntity savedEntity = medicationJpaRepository.save(entity);
+            return savedEntity.toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw translateNameConflict(e, medication.getName());
+        }
+    }
+
+    @Override
+    public Page<MedicationSummary> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
+        return medicationJpaRepository.findSummariesByUserIdAndIsActive(userId, isActive, pageable);
+    }
+
+    @Override
+    public Page<MedicationSummary> findByUserId(long userId, Pageable pageable) {
+        return medicationJpaRepository.findSummariesByUserId(userId, pageable);
+    }
+
+    @Override
+    public Slice<MedicationSummary> findSliceByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
+        return medicationJpaRepository.findSummarySliceByUserIdAndIsActive(userId, isActive, pageable);
+    }
+
+    @Override
+    public Slice<MedicationSummary> findSliceByUserId(long userId, Pageable pageable) {
+        return medicationJpaRepository.findSummarySliceByUserId(userId, pageable);
+    }
+
+    /**
+     * 요약 컬럼을 offset 부터 limit 건 조회
+     * 목록 조회와 같은 JPQL 과 인덱스를 사용하며, 엔티티가 아닌 DTO 프로젝션이므로 영속성 컨텍스트에 행이 쌓이지 않는다
+     */
+    @Override
+    public List<MedicationSummary> findSummaries(long userId, Boolean isActive, Sort sort, long offset, int limit) {
+        String where = isActive != null ? MedicationJpaRepository.WHERE_USER_ACTIVE : MedicationJpaRepository.WHERE_USER;
+        String jpql = QueryUtils.applySorting(MedicationJpaRepository.SELECT_SUMMARY + where, sort, "m");
+
+        TypedQuery<MedicationSummary> query = entityManager.createQuery(jpql, MedicationSummary.class)
+                .setParameter("userId", userId)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit);
+        if (isActive != null) {
+            query.setParameter("isActive", isActive);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countByUserIdAndIsActive(long userId, boolean isActive) {
+        return medicationJpaRepository.countByUserIdAndIsActiveAndIsDeleted(userId, isActive, false);
     }
 
     @Override
-    public Page<Medication> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
-        Page<MedicationEntity> entityPage = medicationJpaRepository.findByUserIdAndIsActiveAndIsDeleted(userId, isActive, false, pageable);
-        return entityPage.map(MedicationEntity::toDomain);
+    public long countByUserId(long userId) {
+        return medicationJpaRepository.countByUserIdAndIsDeleted(userId, false);
     }
 
     @Override
-    public Page<Medication> findByUserId(long userId, Pageable pageable) {
-        Page<MedicationEntity> entityPage = medicationJpaRepository.findByUserIdAndIsDeleted(userId, false, pageable);
-        return entityPage.map(MedicationEntity::toDomain);
+    public Window<Medication> scrollByUserIdAndIsActive(long userId, boolean isActive, ScrollPosition position, Sort sort, int limit) {
+        Window<MedicationEntity> entityWindow = medicationJpaRepository.findByUserIdAndIsActiveAndIsDeleted(userId, isActive, false, position, sort, Limit.of(limit));
+        return entityWindow.map(MedicationEntity::toDomain);
+    }
+
+    @Override
+    public Window<Medication> scrollByUserId(long userId, ScrollPosition position, Sort sort, int limit) {
+        Window<MedicationEntity> entityWindow = medicationJpaRepository.findByUserIdAndIsDeleted(userId, false, position, sort, Limit.of(limit));
+        return entityWindow.map(MedicationEntity::toDomain);
+    }
+
+    @Override
+    public List<Medication> findAllByUserId(long userId, int limit) {
+        return medicationJpaRepository.findByUserIdAndIsDeletedOrderByMedicationIdAsc(userId, false, Limit.of(limit))
+                .stream()
+                .map(MedicationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Medication> findChangedSince(long userId, long changeSeqAfter, long medicationIdAfter, int limit) {
+        return medicationJpaRepository.findChangedSince(userId, changeSeqAfter, medicationIdAfter, Limit.of(limit))
+                .stream()
+                .map(MedicationEntity::toDomain)
+                .toList();
     }
 
     @Override
@@ -41,7 +135,59 @@ class MedicationRepositoryImpl implements MedicationRepository {
     }
 
     @Override
-    public boolean existsByNameAndUserIdAndIdNot(String name, long userId, long medicationId) {
-        return medicationJpaRepository.existsByNameAndUserIdAndMedicationIdNotAndIsDeleted(name, userId, medicationId, false);
+    public int update(long userId, long medicationId, MedicationPatch patch, long changeSeq) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<MedicationEntity> update = cb.createCriteriaUpdate(MedicationEntity.class);
+        Root<MedicationEntity> root = update.from(MedicationEntity.class);
+
+        setIfPresent(cb, update, root.get("name"), patch.name(), String.class);
+        setIfPresent(cb, update, root.get("dosage"), patch.dosage(), Integer.class);
+        setIfPresent(cb, update, root.get("unit"), patch.unit(), String.class);
+        setIfPresent(cb, update, root.get("description"), patch.description(), String.class);
+        setIfPresent(cb, update, root.get("isActive"), patch.isActive(), Boolean.class);
+        // 벌크 UPDATE 는 Auditing 이 적용되지 않으므로 수정 일시를 직접 갱신
+        update.set(root.<OffsetDateTime>get("updatedAt"), OffsetDateTime.now());
+        update.set(root.<Long>get("changeSeq"), changeSeq);
+
+        update.where(
+                cb.equal(root.get("medicationId"), medicationId),
+                cb.equal(root.get("userId"), userId),
+                cb.isFalse(root.get("isDeleted"))
+        );
+
+        try {
+            return entityManager.createQuery(update).executeUpdate();
+        } catch (PersistenceException e) {
+            throw translateNameConflict(e, patch.name().orElse(null));
+        }
+    }
+
+    @Override
+    public int softDelete(long userId, long medicationId, long changeSeq) {
+        return medicationJpaRepository.softDelete(medicationId, userId, OffsetDateTime.now(), changeSeq);
+    }
+
+    private <T> void setIfPresent(CriteriaBuilder cb, CriteriaUpdate<MedicationEntity> update, Path<T> path,
+                                  JsonNullable<T> value, Class<T> type) {
+        if (!value.isPresent()) {
+            return;
+        }
+        if (value.get() == null) {
+            update.set(path, cb.nullLiteral(type));
+        } else {
+            update.set(path, value.get());
+        }
+    }
+
+    private RuntimeException translateNameConflict(RuntimeException e, String name) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String constraintName = cause instanceof ConstraintViolationException violation ? violation.getConstraintName() : null;
+            String message = cause.getMessage();
+            if ((constraintName != null && constraintName.contains(NAME_UNIQUE_CONSTRAINT))
+                    || (message != null && message.contains(NAME_UNIQUE_CONSTRAINT))) {
+                return new BusinessRuleViolationException("이미 동일한 이름의 약물이 존재합니다: " + name, e);
+            }
+        }
+        return e;
     }
 } 
\ No newline at end of file
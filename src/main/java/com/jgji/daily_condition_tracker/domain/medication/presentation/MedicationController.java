@@ -1,21 +1,39 @@
 package com.jgji.daily_condition_tracker.domain.medication.presentation;
 
 import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
+import com.jgji.daily_condition_tracker.domain.medication.application.MedicationBulkService;
 import com.jgji.daily_condition_tracker.domain.medication.application.MedicationService;
+import com.jgji.daily_condition_tracker.domain.medication.application.MedicationSortKeys;
+import com.jgji.daily_condition_tracker.domain.medication.application.MedicationSyncService;
+import com.jgji.daily_condition_tracker.domain.medication.application.Versioned;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkRequest;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationChangesResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationSummaryResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CountMode;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CursorPageResponse;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageRequest;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponseStreamWriter;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationCreateRequest;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationResponse;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.ApiResponse;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,7 +41,13 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/medications")
 public class MedicationController {
 
+    // 캐시된 응답은 매번 ETag 로 재검증하고, 공유 캐시에는 저장하지 않음
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final MedicationService medicationService;
+    private final MedicationBulkService medicationBulkService;
+    private final MedicationSyncService medicationSyncService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ApiResponse<MedicationResponse>> createMedication(
@@ -41,6 +65,21 @@ public class MedicationController {
                 .body(ApiResponse.success(response));
     }
 
+    // 오프라인 변경분 동기화용, 작업별 결과를 반환하며 실패한 작업이 있어도 나머지 작업은 반영된다
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<MedicationBulkResponse>> applyBulkOperations(
+            @Valid @RequestBody MedicationBulkRequest request,
+            @AuthenticationPrincipal CustomUserPrincipal userDetails) {
+
+        long userId = userDetails.getUser().getUserId();
+
+        MedicationBulkResponse response = medicationBulkService.applyOperations(userId, request.operations());
+
+        log.debug("약 일괄 처리 성공: userId={}, succeeded={}, failed={}", userId, response.succeeded(), response.failed());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<MedicationSummaryResponse>>> getMedications(
             @RequestParam(defaultValue = "0") int page,
@@ -48,32 +87,135 @@ public class MedicationController {
             @RequestParam(defaultValue = "medicationId") String sortBy,
             @RequestParam(defaultValue = "desc") String direction,
             @RequestParam(required = false) Boolean isActive,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserPrincipal userDetails) {
         
         long userId = userDetails.getUser().getUserId();
         
-        PageRequest pageRequest = PageRequest.of(page, size, sortBy, direction);
-        PageResponse<MedicationSummaryResponse> response = medicationService.findMedicationsByUserId(userId, pageRequest, isActive);
+        PageRequest pageRequest = PageRequest.of(page, size, sortBy, direction, MedicationSortKeys.REGISTRY);
+        CountMode countMode = CountMode.from(count);
+
+        // 버전만 읽어 304 를 먼저 판단하고, 응답 ETag 는 본문을 만들 때 읽은 버전으로 만든다
+        long version = medicationService.findVersion(userId);
+        Optional<String> matchedETag = MedicationETag.findMatching(ifNoneMatch, userId, version);
+        if (matchedETag.isPresent()) {
+            return notModified(matchedETag.get());
+        }
+
+        Versioned<PageResponse<MedicationSummaryResponse>> response =
+                medicationService.findVersionedMedicationsByUserId(userId, pageRequest, isActive, countMode);
         
         log.debug("약 목록 조회 성공: userId={}, page={}, size={}, totalElements={}", 
-                userId, page, size, response.totalElements());
+                userId, page, size, response.value().totalElements());
         
+        return ResponseEntity.ok()
+                .eTag(MedicationETag.of(userId, response.version()))
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(response.value()));
+    }
+
+    // stream=true 면 행을 나누어 읽는 대로 응답에 쓰며, 응답 형태는 일반 목록 조회와 같다 (동기화용 큰 페이지)
+    // 파라미터 검증은 응답을 쓰기 전에 끝내서 잘못된 요청은 일반 오류 응답으로 처리되도록 한다
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamMedications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "medicationId") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(defaultValue = "exact") String count,
+            @AuthenticationPrincipal CustomUserPrincipal userDetails) {
+
+        long userId = userDetails.getUser().getUserId();
+
+        if (size > MedicationService.MAX_STREAM_PAGE_SIZE) {
+            throw new BusinessRuleViolationException("스트리밍 조회의 페이지 크기는 " + MedicationService.MAX_STREAM_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        PageRequest pageRequest = PageRequest.of(page, size, sortBy, direction, MedicationSortKeys.REGISTRY);
+        CountMode countMode = CountMode.from(count);
+
+        StreamingResponseBody body = outputStream -> {
+            try (PageResponseStreamWriter<MedicationSummaryResponse> writer = PageResponseStreamWriter.open(objectMapper, outputStream)) {
+                medicationService.streamMedicationsByUserId(userId, pageRequest, isActive, countMode, writer);
+            }
+            log.debug("약 목록 스트리밍 조회 성공: userId={}, page={}, size={}", userId, page, size);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // cursor 파라미터가 있으면 키셋 페이지네이션, 첫 페이지는 cursor= (빈 값)으로 요청
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MedicationSummaryResponse>>> getMedicationsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "medicationId") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal CustomUserPrincipal userDetails) {
+
+        long userId = userDetails.getUser().getUserId();
+
+        long version = medicationService.findVersion(userId);
+        Optional<String> matchedETag = MedicationETag.findMatching(ifNoneMatch, userId, version);
+        if (matchedETag.isPresent()) {
+            return notModified(matchedETag.get());
+        }
+
+        Versioned<CursorPageResponse<MedicationSummaryResponse>> response =
+                medicationService.findVersionedMedicationsByUserIdWithCursor(userId, cursor, size, sortBy, direction, isActive);
+
+        log.debug("약 목록 커서 조회 성공: userId={}, size={}, hasNext={}", userId, size, response.value().hasNext());
+
+        return ResponseEntity.ok()
+                .eTag(MedicationETag.of(userId, response.version()))
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(response.value()));
+    }
+
+    // 앱 동기화용, since 없이 요청하면 처음부터 조회하며 응답의 watermark 를 다음 요청의 since 로 사용한다
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<MedicationChangesResponse>> getMedicationChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal CustomUserPrincipal userDetails) {
+
+        long userId = userDetails.getUser().getUserId();
+
+        MedicationChangesResponse response = medicationSyncService.findChanges(userId, since, size);
+
+        log.debug("약 변경분 조회 성공: userId={}, changes={}, hasMore={}", userId, response.changes().size(), response.hasMore());
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/{medicationId}")
     public ResponseEntity<ApiResponse<MedicationResponse>> getMedicationById(
             @PathVariable long medicationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserPrincipal userDetails) {
         
         long userId = userDetails.getUser().getUserId();
-        
-        MedicationResponse response = medicationService.findMedicationById(medicationId, userId);
+
+        long version = medicationService.findVersion(userId);
+        Optional<String> matchedETag = MedicationETag.findMatching(ifNoneMatch, userId, version);
+        if (matchedETag.isPresent()) {
+            return notModified(matchedETag.get());
+        }
+
+        Versioned<MedicationResponse> response = medicationService.findVersionedMedicationById(medicationId, userId);
         
         log.debug("약 상세 조회 성공: userId={}, medicationId={}, name={}", 
-                userId, response.medicationId(), response.name());
+                userId, response.value().medicationId(), response.value().name());
         
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(MedicationETag.of(userId, response.version(), response.value().updatedAt()))
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(response.value()));
     }
 
     @PatchMapping("/{medicationId}")
@@ -93,7 +235,7 @@ public class MedicationController {
     }
 
     @DeleteMapping("/{medicationId}")
-    public ResponseEntity<ApiResponse<Void>> deleteMedication(
+    public ResponseEntity<Void> deleteMedication(
             @PathVariable long medicationId,
             @AuthenticationPrincipal CustomUserPrincipal userDetails) {
         
@@ -103,6 +245,13 @@ public class MedicationController {
         
         log.debug("약 삭제 요청 처리 완료: userId={}, medicationId={}", userId, medicationId);
         
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return ResponseEntity.noContent().build();
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .build();
     }
-} 
\ No newline at end of file
+}
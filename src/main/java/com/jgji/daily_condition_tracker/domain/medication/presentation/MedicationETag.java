@@ -0,0 +1,56 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 약 조회 응답의 강한 ETag
+ * 목록은 "사용자ID-목록버전", 상세는 "사용자ID-목록버전-수정일시(마이크로초)" 형식이다
+ * 목록 버전은 사용자의 약이 바뀔 때마다 증가하므로, 버전이 같으면 목록과 상세 모두 바뀌지 않은 것으로 판단한다
+ * 사용자ID 를 포함하여 같은 기기에서 다른 계정으로 로그인해도 이전 계정의 캐시가 재사용되지 않도록 한다
+ */
+final class MedicationETag {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private MedicationETag() {
+    }
+
+    static String of(long userId, long version) {
+        return "\"" + userId + "-" + version + "\"";
+    }
+
+    static String of(long userId, long version, OffsetDateTime updatedAt) {
+        long updatedAtMicros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+        return "\"" + userId + "-" + version + "-" + updatedAtMicros + "\"";
+    }
+
+    /**
+     * If-None-Match 의 태그 중 현재 버전으로 만든 태그 조회
+     * If-None-Match 는 약한 비교를 사용하므로 W/ 접두사는 무시하며, 304 응답에는 찾은 태그를 그대로 돌려준다
+     */
+    static Optional<String> findMatching(String ifNoneMatch, long userId, long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Optional.empty();
+        }
+
+        String prefix = userId + "-" + version;
+        for (String tag : ifNoneMatch.split(",")) {
+            String opaque = unquote(tag.trim());
+            if (opaque.equals(prefix) || opaque.startsWith(prefix + "-")) {
+                return Optional.of("\"" + opaque + "\"");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String unquote(String tag) {
+        String value = tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,22 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+/**
+ * 일괄 처리 요청의 개별 작업
+ * CREATE 는 create, UPDATE 는 medicationId 와 update, DELETE 는 medicationId 를 사용한다
+ * 요청 본문 검증에서 제외하고 MedicationBulkService 가 작업마다 검증하여 실패를 작업별 결과로 돌려준다
+ */
+public record MedicationBulkOperation(
+        Type type,
+
+        Long medicationId,
+
+        MedicationCreateRequest create,
+
+        MedicationUpdateRequest update
+) {
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
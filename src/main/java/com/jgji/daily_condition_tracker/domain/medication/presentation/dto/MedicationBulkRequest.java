@@ -0,0 +1,15 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MedicationBulkRequest(
+        @NotEmpty(message = "작업 목록은 비어있을 수 없습니다.")
+        @Size(max = MedicationBulkRequest.MAX_OPERATIONS, message = "한 번에 최대 500개의 작업까지 요청할 수 있습니다.")
+        // 작업별 검증은 MedicationBulkService 에서 수행하여 잘못된 작업이 있어도 해당 작업만 400 으로 응답한다
+        List<MedicationBulkOperation> operations
+) {
+    public static final int MAX_OPERATIONS = 500;
+}
@@ -0,0 +1,14 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+import java.util.List;
+
+public record MedicationBulkResponse(
+        int succeeded,
+        int failed,
+        List<MedicationBulkResult> results
+) {
+    public static MedicationBulkResponse of(List<MedicationBulkResult> results) {
+        int succeeded = (int) results.stream().filter(MedicationBulkResult::isSuccess).count();
+        return new MedicationBulkResponse(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+/**
+ * 일괄 처리 작업별 결과
+ * status 는 같은 작업을 단건 API 로 요청했을 때의 HTTP 상태 코드와 같다
+ */
+public record MedicationBulkResult(
+        int index,
+        MedicationBulkOperation.Type type,
+        Long medicationId,
+        int status,
+        String message
+) {
+    public static MedicationBulkResult success(int index, MedicationBulkOperation.Type type, Long medicationId, int status) {
+        return new MedicationBulkResult(index, type, medicationId, status, null);
+    }
+
+    public static MedicationBulkResult failure(int index, MedicationBulkOperation.Type type, Long medicationId, int status, String message) {
+        return new MedicationBulkResult(index, type, medicationId, status, message);
+    }
+
+    public boolean isSuccess() {
+        return status < 400;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 동기화 변경 항목
+ * 삭제된 약은 medicationId, deleted, updatedAt, deletedAt 만 담은 tombstone 으로 전달한다
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MedicationChangeResponse(
+        long medicationId,
+        boolean deleted,
+        String name,
+        Integer dosage,
+        String unit,
+        String description,
+        Boolean isActive,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime deletedAt
+) {
+    public static MedicationChangeResponse from(Medication medication) {
+        if (medication.isDeleted()) {
+            return new MedicationChangeResponse(medication.getMedicationId(), true, null, null, null, null, null,
+                    null, medication.getUpdatedAt(), medication.getDeletedAt());
+        }
+        return new MedicationChangeResponse(
+                medication.getMedicationId(),
+                false,
+                medication.getName(),
+                medication.getDosage(),
+                medication.getUnit(),
+                medication.getDescription(),
+                medication.isActive(),
+                medication.getCreatedAt(),
+                medication.getUpdatedAt(),
+                null
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+import java.util.List;
+
+/**
+ * 약 변경분 동기화 응답
+ * hasMore 가 true 면 watermark 로 바로 다음 요청을 보내 나머지 변경을 받는다
+ */
+public record MedicationChangesResponse(
+        List<MedicationChangeResponse> changes,
+        String watermark,
+        boolean hasMore
+) {
+    public static MedicationChangesResponse of(List<MedicationChangeResponse> changes, String watermark, boolean hasMore) {
+        return new MedicationChangesResponse(changes, watermark, hasMore);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
 
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+
 import java.time.OffsetDateTime;
 
 public record MedicationResponse(
@@ -17,4 +19,8 @@ public record MedicationResponse(
                                         OffsetDateTime updatedAt) {
         return new MedicationResponse(medicationId, name, dosage, unit, description, isActive, createdAt, updatedAt);
     }
+
+    public static MedicationResponse from(Medication medication) {
+        return MedicationResponseMapper.INSTANCE.toResponse(medication);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
+import com.jgji.daily_condition_tracker.global.mapping.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+// 도메인/요약 -> 응답 DTO 변환, 구현은 컴파일 시 생성된다 (MedicationResponseMapperImpl)
+@Mapper(config = MappingConfig.class)
+interface MedicationResponseMapper {
+
+    MedicationResponseMapper INSTANCE = Mappers.getMapper(MedicationResponseMapper.class);
+
+    @Mapping(target = "isActive", source = "active")
+    MedicationResponse toResponse(Medication medication);
+
+    @Mapping(target = "isActive", source = "active")
+    MedicationSummaryResponse toSummaryResponse(Medication medication);
+
+    // 레코드는 컴포넌트 이름이 속성 이름이므로 isActive 가 그대로 연결됨
+    MedicationSummaryResponse toSummaryResponse(MedicationSummary summary);
+}
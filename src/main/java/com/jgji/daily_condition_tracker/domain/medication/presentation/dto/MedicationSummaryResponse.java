@@ -1,6 +1,7 @@
 package com.jgji.daily_condition_tracker.domain.medication.presentation.dto;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
 
 import java.time.OffsetDateTime;
 
@@ -14,14 +15,10 @@ public record MedicationSummaryResponse(
         OffsetDateTime updatedAt
 ) {
     public static MedicationSummaryResponse from(Medication medication) {
-        return new MedicationSummaryResponse(
-                medication.getMedicationId(),
-                medication.getName(),
-                medication.getDosage(),
-                medication.getUnit(),
-                medication.isActive(),
-                medication.getCreatedAt(),
-                medication.getUpdatedAt()
-        );
+        return MedicationResponseMapper.INSTANCE.toSummaryResponse(medication);
+    }
+
+    public static MedicationSummaryResponse from(MedicationSummary summary) {
+        return MedicationResponseMapper.INSTANCE.toSummaryResponse(summary);
     }
 } 
\ No newline at end of file
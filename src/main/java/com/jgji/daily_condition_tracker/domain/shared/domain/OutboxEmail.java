@@ -0,0 +1,120 @@
+package com.jgji.daily_condition_tracker.domain.shared.domain;
+
+import com.jgji.daily_condition_tracker.domain.shared.infrastructure.OutboxEmailEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 발송 대기 중인 이메일
+ * 요청 트랜잭션에서 함께 저장되고, 발송은 별도 워커가 담당한다
+ */
+@Getter
+public final class OutboxEmail {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final Long outboxEmailId;
+    private final String recipient;
+    private final String subject;
+    private final String body;
+    private final Status status;
+    private final int attempts;
+    private final OffsetDateTime nextAttemptAt;
+    private final String lastError;
+    private final OffsetDateTime sentAt;
+
+    public enum Status {
+        PENDING,
+        SENT,
+        // 최대 재시도 횟수를 넘겨 더 이상 발송하지 않음
+        DEAD
+    }
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OutboxEmail(Long outboxEmailId, String recipient, String subject, String body, Status status,
+                        int attempts, OffsetDateTime nextAttemptAt, String lastError, OffsetDateTime sentAt) {
+        this.outboxEmailId = outboxEmailId;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.sentAt = sentAt;
+    }
+
+    public static OutboxEmail create(String recipient, String subject, String body, OffsetDateTime now) {
+        return OutboxEmail.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public static OutboxEmail ofEntity(OutboxEmailEntity entity) {
+        return OutboxEmail.builder()
+                .outboxEmailId(entity.getOutboxEmailId())
+                .recipient(entity.getRecipient())
+                .subject(entity.getSubject())
+                .body(entity.getBody())
+                .status(entity.getStatus())
+                .attempts(entity.getAttempts())
+                .nextAttemptAt(entity.getNextAttemptAt())
+                .lastError(entity.getLastError())
+                .sentAt(entity.getSentAt())
+                .build();
+    }
+
+    public OutboxEmail markSent(OffsetDateTime now) {
+        return toBuilder()
+                .status(Status.SENT)
+                .lastError(null)
+                .sentAt(now)
+                .build();
+    }
+
+    /**
+     * 발송 실패 기록
+     * 시도 횟수가 maxAttempts 에 도달하면 DEAD 로 전환하고, 아니면 retryAt 에 다시 시도한다
+     */
+    public OutboxEmail markFailed(String error, OffsetDateTime retryAt, int maxAttempts) {
+        int failedAttempts = attempts + 1;
+        return toBuilder()
+                .status(failedAttempts >= maxAttempts ? Status.DEAD : Status.PENDING)
+                .attempts(failedAttempts)
+                .nextAttemptAt(retryAt)
+                .lastError(truncate(error))
+                .build();
+    }
+
+    public boolean isDead() {
+        return status == Status.DEAD;
+    }
+
+    private OutboxEmailBuilder toBuilder() {
+        return OutboxEmail.builder()
+                .outboxEmailId(outboxEmailId)
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .lastError(lastError)
+                .sentAt(sentAt);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+/**
+ * 이메일 발송 요청
+ * 호출한 트랜잭션 안에서 발송 대기열(email_outbox)에 저장만 하며, 실제 SMTP 발송은 {@link OutboxEmailDispatcher} 가 담당한다
+ */
+public interface EmailOutbox {
+
+    void enqueuePasswordResetEmail(String toEmail, String token);
+}
@@ -0,0 +1,39 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import com.jgji.daily_condition_tracker.domain.shared.value.EmailProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+class EmailOutboxImpl implements EmailOutbox {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final EmailProperties emailProperties;
+
+    // 업무 데이터와 같은 트랜잭션에 저장되어야 롤백 시 이메일도 함께 취소됨
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void enqueuePasswordResetEmail(String toEmail, String token) {
+        String resetUrl = emailProperties.getFrontEndUrl() + "/reset-password?token=" + token;
+        String text = "안녕하세요,\n\n" +
+                "비밀번호 재설정을 요청하셨습니다.\n" +
+                "아래 링크를 클릭하여 비밀번호를 재설정하세요:\n\n" +
+                resetUrl + "\n\n" +
+                "이 링크는 1시간 동안 유효합니다.\n" +
+                "만약 비밀번호 재설정을 요청하지 않으셨다면, 이 이메일을 무시하세요.\n\n" +
+                "감사합니다.";
+
+        OutboxEmail saved = outboxEmailRepository.save(
+                OutboxEmail.create(toEmail, "비밀번호 재설정 요청", text, OffsetDateTime.now()));
+
+        log.debug("비밀번호 재설정 이메일 발송 대기열 등록: outboxEmailId={}", saved.getOutboxEmailId());
+    }
+}
@@ -0,0 +1,166 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import com.jgji.daily_condition_tracker.domain.shared.value.EmailProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 이메일 발송 대기열을 일괄 발송하는 워커
+ * 한 번의 JavaMailSender.send(SimpleMailMessage...) 호출은 하나의 SMTP 연결로 묶음 전체를 보내므로
+ * 메일마다 연결/TLS 핸드셰이크를 반복하지 않는다
+ * 실패한 메일은 지수 백오프로 재시도하고, 최대 시도 횟수를 넘기면 DEAD 로 남겨 수동 확인 대상으로 둔다
+ * 발송은 전용 실행기(outboxEmailExecutor)에서 수행하여 SMTP 지연이 다른 @Scheduled 작업을 막지 않도록 한다
+ */
+@Slf4j
+@Component
+class OutboxEmailDispatcher {
+
+    private final JavaMailSender javaMailSender;
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final EmailProperties emailProperties;
+    private final Executor dispatchExecutor;
+    private final Clock clock;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    @Autowired
+    OutboxEmailDispatcher(JavaMailSender javaMailSender,
+                          OutboxEmailRepository outboxEmailRepository,
+                          EmailProperties emailProperties,
+                          MeterRegistry meterRegistry,
+                          @Qualifier("outboxEmailExecutor") Executor dispatchExecutor) {
+        this(javaMailSender, outboxEmailRepository, emailProperties, meterRegistry, dispatchExecutor, Clock.systemUTC());
+    }
+
+    OutboxEmailDispatcher(JavaMailSender javaMailSender,
+                          OutboxEmailRepository outboxEmailRepository,
+                          EmailProperties emailProperties,
+                          MeterRegistry meterRegistry,
+                          Executor dispatchExecutor,
+                          Clock clock) {
+        this.javaMailSender = javaMailSender;
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.emailProperties = emailProperties;
+        this.dispatchExecutor = dispatchExecutor;
+        this.clock = clock;
+        this.sentCounter = meterRegistry.counter("email.outbox.dispatch", "result", "sent");
+        this.retryCounter = meterRegistry.counter("email.outbox.dispatch", "result", "retry");
+        this.deadCounter = meterRegistry.counter("email.outbox.dispatch", "result", "dead");
+    }
+
+    /**
+     * 발송 작업을 전용 실행기에 넘기고 바로 반환
+     * 이전 발송이 아직 진행 중이면 실행기가 요청을 버리므로 발송 작업은 동시에 하나만 실행된다
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        dispatchExecutor.execute(this::drain);
+    }
+
+    private void drain() {
+        int batchSize = emailProperties.getOutboxBatchSize();
+        List<OutboxEmail> batch;
+        do {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+            batch = outboxEmailRepository.claimDue(
+                    batchSize, now, now.plusNanos(emailProperties.getOutboxLeaseMs() * 1_000_000L));
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        OffsetDateTime before = OffsetDateTime.now(clock)
+                .minusNanos(emailProperties.getOutboxRetentionMs() * 1_000_000L);
+        int deleted = outboxEmailRepository.deleteSentBefore(before);
+        if (deleted > 0) {
+            log.debug("발송 완료된 이메일 정리: count={}", deleted);
+        }
+    }
+
+    private void send(List<OutboxEmail> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        MailException batchFailure = null;
+        try {
+            javaMailSender.send(messages);
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            // 연결 단계에서 실패하면 개별 실패 목록 없이 예외만 전달됨
+            if (failedMessages.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEmail email = batch.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failedMessages.get(messages[i]);
+            if (failure == null) {
+                outboxEmailRepository.save(email.markSent(now));
+                sentCounter.increment();
+            } else {
+                recordFailure(email, failure, now);
+            }
+        }
+    }
+
+    private void recordFailure(OutboxEmail email, Exception failure, OffsetDateTime now) {
+        OffsetDateTime retryAt = now.plusNanos(backoffMs(email.getAttempts()) * 1_000_000L);
+        OutboxEmail failed = outboxEmailRepository.save(
+                email.markFailed(failure.getMessage(), retryAt, emailProperties.getOutboxMaxAttempts()));
+
+        if (failed.isDead()) {
+            deadCounter.increment();
+            log.error("이메일 발송 최종 실패: outboxEmailId={}, attempts={}, error={}",
+                    failed.getOutboxEmailId(), failed.getAttempts(), failure.getMessage());
+        } else {
+            retryCounter.increment();
+            log.warn("이메일 발송 실패, 재시도 예정: outboxEmailId={}, attempts={}, retryAt={}, error={}",
+                    failed.getOutboxEmailId(), failed.getAttempts(), retryAt, failure.getMessage());
+        }
+    }
+
+    // initial * 2^attempts, 최대 maxBackoffMs
+    private long backoffMs(int previousAttempts) {
+        long initial = emailProperties.getOutboxInitialBackoffMs();
+        long max = emailProperties.getOutboxMaxBackoffMs();
+        int shift = Math.min(previousAttempts, 30);
+        return Math.min(max, initial << shift);
+    }
+
+    private SimpleMailMessage toMessage(OutboxEmail email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(emailProperties.getFrom());
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+}
@@ -0,0 +1,98 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.BaseEntity;
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "email_outbox")
+public class OutboxEmailEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "BIGINT unsigned")
+    private Long outboxEmailId;
+
+    @Comment("수신자 이메일")
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    @Comment("제목")
+    @Column(name = "subject", nullable = false, length = 255)
+    private String subject;
+
+    @Comment("본문")
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Comment("발송 상태")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxEmail.Status status;
+
+    @Comment("발송 시도 횟수")
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Comment("다음 발송 시도 시각")
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Comment("마지막 발송 오류")
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Comment("발송 완료 시각")
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OutboxEmailEntity(Long outboxEmailId, String recipient, String subject, String body,
+                              OutboxEmail.Status status, int attempts, OffsetDateTime nextAttemptAt,
+                              String lastError, OffsetDateTime sentAt) {
+        this.outboxEmailId = outboxEmailId;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.sentAt = sentAt;
+    }
+
+    protected static OutboxEmailEntity fromDomain(OutboxEmail outboxEmail) {
+        return OutboxEmailEntity.builder()
+                .outboxEmailId(outboxEmail.getOutboxEmailId())
+                .recipient(outboxEmail.getRecipient())
+                .subject(outboxEmail.getSubject())
+                .body(outboxEmail.getBody())
+                .status(outboxEmail.getStatus())
+                .attempts(outboxEmail.getAttempts())
+                .nextAttemptAt(outboxEmail.getNextAttemptAt())
+                .lastError(outboxEmail.getLastError())
+                .sentAt(outboxEmail.getSentAt())
+                .build();
+    }
+
+    /**
+     * 워커가 발송을 위해 선점
+     * 워커가 결과를 기록하지 못하고 종료되더라도 leaseUntil 이후 다시 발송 대상이 된다
+     */
+    protected void lease(OffsetDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    protected OutboxEmail toDomain() {
+        return OutboxEmail.ofEntity(this);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+interface OutboxEmailJpaRepository extends JpaRepository<OutboxEmailEntity, Long> {
+
+    // lock.timeout = -2 는 Hibernate 의 SKIP LOCKED, 여러 노드의 워커가 같은 행을 중복 선점하지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEmailEntity e " +
+           "WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+           "ORDER BY e.nextAttemptAt ASC")
+    List<OutboxEmailEntity> findDueForUpdate(@Param("status") OutboxEmail.Status status,
+                                             @Param("now") OffsetDateTime now,
+                                             Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEmailEntity e WHERE e.status = :status AND e.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxEmail.Status status,
+                                      @Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,19 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface OutboxEmailRepository {
+
+    OutboxEmail save(OutboxEmail outboxEmail);
+
+    /**
+     * 발송 시각이 지난 이메일을 최대 limit 건 선점
+     * 선점한 이메일은 leaseUntil 까지 다른 워커의 조회 대상에서 제외된다
+     */
+    List<OutboxEmail> claimDue(int limit, OffsetDateTime now, OffsetDateTime leaseUntil);
+
+    int deleteSentBefore(OffsetDateTime before);
+}
@@ -0,0 +1,45 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+class OutboxEmailRepositoryImpl implements OutboxEmailRepository {
+
+    private final OutboxEmailJpaRepository outboxEmailJpaRepository;
+
+    @Override
+    public OutboxEmail save(OutboxEmail outboxEmail) {
+        OutboxEmailEntity entity = OutboxEmailEntity.fromDomain(outboxEmail);
+        return outboxEmailJpaRepository.save(entity).toDomain();
+    }
+
+    // 선점 트랜잭션은 조회와 lease 갱신까지만 포함하고, SMTP 발송은 커밋 이후에 수행
+    @Transactional
+    @Override
+    public List<OutboxEmail> claimDue(int limit, OffsetDateTime now, OffsetDateTime leaseUntil) {
+        List<OutboxEmailEntity> entities =
+                outboxEmailJpaRepository.findDueForUpdate(OutboxEmail.Status.PENDING, now, Limit.of(limit));
+
+        return entities.stream()
+                .map(entity -> {
+                    OutboxEmail claimed = entity.toDomain();
+                    entity.lease(leaseUntil);
+                    return claimed;
+                })
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public int deleteSentBefore(OffsetDateTime before) {
+        return outboxEmailJpaRepository.deleteByStatusAndSentAtBefore(OutboxEmail.Status.SENT, before);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jgji.daily_condition_tracker.domain.shared.presentation.dto;
+
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+
+/**
+ * 목록 조회 시 전체 개수 계산 방식
+ */
+public enum CountMode {
+    // 정확한 개수, 캐시에 없을 때만 COUNT 쿼리 실행
+    EXACT,
+    // 카운터 테이블 기반 추정치, COUNT 쿼리 없음
+    ESTIMATED,
+    // 개수를 계산하지 않음, 다음 페이지 존재 여부만 제공
+    NONE;
+
+    public static CountMode from(String value) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new BusinessRuleViolationException("지원하지 않는 count 값입니다: " + value);
+    }
+}
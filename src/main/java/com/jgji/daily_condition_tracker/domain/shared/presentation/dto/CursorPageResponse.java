@@ -0,0 +1,19 @@
+package com.jgji.daily_condition_tracker.domain.shared.presentation.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 개수를 세지 않으므로 totalElements/totalPages 를 제공하지 않으며, 다음 페이지는 nextCursor 로 조회한다
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        boolean empty
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPageResponse<>(content, size, nextCursor, nextCursor != null, content.isEmpty());
+    }
+}
@@ -6,29 +6,20 @@ import org.springframework.data.domain.Sort;
 public record PageRequest(
         int page,
         int size,
-        String sortBy,
-        String direction
+        Sort sort
 ) {
-    public static PageRequest of(int page, int size, String sortBy, String direction) {
-        assert sortBy != null && !sortBy.isBlank() : "정렬 기준은 null이거나 비어있을 수 없습니다.";
-
+    /**
+     * 정렬 기준은 리소스의 허용 목록으로 검증되며, 허용되지 않은 값이면 BusinessRuleViolationException 이 발생한다
+     */
+    public static PageRequest of(int page, int size, String sortBy, String direction, SortKeyRegistry sortKeys) {
         return new PageRequest(
                 Math.max(0, page),
                 Math.max(1, size),
-                sortBy,
-                direction != null ? direction : "desc"
+                sortKeys.sort(sortBy, direction != null ? direction : "desc")
         );
     }
     
     public Pageable toPageable() {
-        Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) 
-                ? Sort.Direction.ASC 
-                : Sort.Direction.DESC;
-        
-        return org.springframework.data.domain.PageRequest.of(
-                page,
-                size,
-                Sort.by(sortDirection, sortBy)
-        );
+        return org.springframework.data.domain.PageRequest.of(page, size, sort);
     }
-} 
\ No newline at end of file
+}
@@ -2,12 +2,16 @@ package com.jgji.daily_condition_tracker.domain.shared.presentation.dto;
 
 import java.util.List;
 
+/**
+ * 오프셋 기반 페이지 응답
+ * count=none 으로 조회하면 totalElements/totalPages 는 null 이고 last 는 다음 페이지 존재 여부로 결정된다
+ */
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean first,
         boolean last,
         boolean empty
@@ -20,4 +24,16 @@ public record PageResponse<T>(
         
         return new PageResponse<>(content, page, size, totalElements, totalPages, first, last, empty);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 전체 개수를 별도로 구한 경우(캐시/추정치) 사용, last 는 실제 다음 페이지 존재 여부를 따른다
+     */
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements, boolean hasNext) {
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        return new PageResponse<>(content, page, size, totalElements, totalPages, page == 0, !hasNext, content.isEmpty());
+    }
+
+    public static <T> PageResponse<T> withoutTotal(List<T> content, int page, int size, boolean hasNext) {
+        return new PageResponse<>(content, page, size, null, null, page == 0, !hasNext, content.isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.jgji.daily_condition_tracker.domain.shared.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * ApiResponse&lt;PageResponse&lt;T&gt;&gt; 를 행 단위로 출력 스트림에 쓰는 writer
+ * 페이지 목록을 메모리에 만들지 않고, 봉투와 각 행을 JsonGenerator 버퍼를 거쳐 바로 내보낸다
+ * 필드 이름은 ObjectMapper 의 네이밍 전략으로 변환하므로 ApiResponse.success(PageResponse) 를 직렬화한 결과와 같은 형태가 된다
+ * 사용 순서: open -> write (행마다) -> finish -> close
+ */
+public final class PageResponseStreamWriter<T> implements Closeable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter rowWriter;
+    private final PropertyNamingStrategy namingStrategy;
+    private boolean empty = true;
+
+    private PageResponseStreamWriter(JsonGenerator generator, ObjectWriter rowWriter, PropertyNamingStrategy namingStrategy) {
+        this.generator = generator;
+        this.rowWriter = rowWriter;
+        this.namingStrategy = namingStrategy;
+    }
+
+    public static <T> PageResponseStreamWriter<T> open(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                // 응답 스트림은 컨테이너가 닫는다
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                // 중간에 실패하면 열린 배열/객체를 닫지 않아 잘린 응답이 정상 JSON 으로 보이지 않도록 함
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        // 행마다 flush 하면 작은 쓰기가 반복되므로 JsonGenerator 버퍼가 찰 때만 내보낸다
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        PageResponseStreamWriter<T> writer = new PageResponseStreamWriter<>(generator, rowWriter, objectMapper.getPropertyNamingStrategy());
+        writer.writeHeader();
+        return writer;
+    }
+
+    public void write(T row) throws IOException {
+        rowWriter.writeValue(generator, row);
+        empty = false;
+    }
+
+    /**
+     * 목록 뒤의 페이지 정보를 쓰고 응답을 마무리
+     * totalElements 가 null 이면 PageResponse.withoutTotal 과 같이 total_elements/total_pages 를 null 로 쓴다
+     */
+    public void finish(int page, int size, Long totalElements, boolean hasNext) throws IOException {
+        generator.writeEndArray();
+        generator.writeNumberField(name("page"), page);
+        generator.writeNumberField(name("size"), size);
+        if (totalElements != null) {
+            generator.writeNumberField(name("totalElements"), totalElements);
+            generator.writeNumberField(name("totalPages"), (int) Math.ceil((double) totalElements / size));
+        } else {
+            generator.writeNullField(name("totalElements"));
+            generator.writeNullField(name("totalPages"));
+        }
+        generator.writeBooleanField(name("first"), page == 0);
+        generator.writeBooleanField(name("last"), !hasNext);
+        generator.writeBooleanField(name("empty"), empty);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeHeader() throws IOException {
+        ApiResponse<Void> success = ApiResponse.success(null);
+
+        generator.writeStartObject();
+        generator.writeNumberField(name("code"), success.code());
+        generator.writeStringField(name("status"), success.status());
+        generator.writeStringField(name("message"), success.message());
+        generator.writeFieldName(name("data"));
+        generator.writeStartObject();
+        generator.writeFieldName(name("content"));
+        generator.writeStartArray();
+    }
+
+    private String name(String property) {
+        if (namingStrategy instanceof PropertyNamingStrategies.NamingBase namingBase) {
+            return namingBase.translate(property);
+        }
+        return property;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jgji.daily_condition_tracker.domain.shared.presentation.dto;
+
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 리소스별 정렬 허용 목록
+ * API 정렬 키를 인덱스가 있는 엔티티 속성으로 변환하며, 목록에 없는 키는 쿼리를 실행하기 전에 거부한다
+ * 정렬 값이 같은 행의 순서를 고정하기 위해 tiebreaker 속성을 같은 방향의 보조 정렬로 추가한다
+ */
+public final class SortKeyRegistry {
+
+    private final String tiebreaker;
+    private final Map<String, String> properties;
+
+    private SortKeyRegistry(String tiebreaker, Map<String, String> properties) {
+        this.tiebreaker = tiebreaker;
+        this.properties = properties;
+    }
+
+    /**
+     * @param tiebreaker 보조 정렬 속성 (기본 키)
+     * @param properties API 정렬 키 -> 엔티티 속성
+     */
+    public static SortKeyRegistry of(String tiebreaker, Map<String, String> properties) {
+        if (!properties.containsValue(tiebreaker)) {
+            throw new IllegalArgumentException("보조 정렬 속성도 허용 목록에 포함되어야 합니다: " + tiebreaker);
+        }
+        return new SortKeyRegistry(tiebreaker, Map.copyOf(properties));
+    }
+
+    public String resolve(String sortBy) {
+        String property = sortBy != null ? properties.get(sortBy) : null;
+        if (property == null) {
+            throw new BusinessRuleViolationException(
+                    "지원하지 않는 정렬 기준입니다: " + sortBy + " (허용: " + String.join(", ", keys()) + ")");
+        }
+        return property;
+    }
+
+    public Sort sort(String sortBy, String direction) {
+        String property = resolve(sortBy);
+        Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        Sort sort = Sort.by(sortDirection, property);
+        return tiebreaker.equals(property) ? sort : sort.and(Sort.by(sortDirection, tiebreaker));
+    }
+
+    public Set<String> keys() {
+        return new TreeSet<>(properties.keySet());
+    }
+}
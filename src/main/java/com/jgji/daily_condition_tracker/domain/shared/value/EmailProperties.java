@@ -11,5 +11,34 @@ public interface EmailProperties {
      * 프론트엔드 URL을 반환합니다.
      */
     String getFrontEndUrl();
-    
+
+    /**
+     * 한 번의 SMTP 연결로 발송할 최대 이메일 수를 반환합니다.
+     */
+    int getOutboxBatchSize();
+
+    /**
+     * 최대 발송 시도 횟수를 반환합니다. 초과하면 DEAD 로 전환됩니다.
+     */
+    int getOutboxMaxAttempts();
+
+    /**
+     * 첫 재시도까지의 대기 시간(ms)을 반환합니다. 이후 시도마다 두 배씩 늘어납니다.
+     */
+    long getOutboxInitialBackoffMs();
+
+    /**
+     * 재시도 대기 시간의 상한(ms)을 반환합니다.
+     */
+    long getOutboxMaxBackoffMs();
+
+    /**
+     * 워커가 선점한 이메일을 다른 워커가 다시 가져가기까지의 시간(ms)을 반환합니다.
+     */
+    long getOutboxLeaseMs();
+
+    /**
+     * 발송 완료된 이메일을 보관하는 시간(ms)을 반환합니다.
+     */
+    long getOutboxRetentionMs();
 }
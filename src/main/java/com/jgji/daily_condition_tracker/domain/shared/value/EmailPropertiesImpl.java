@@ -3,14 +3,25 @@ package com.jgji.daily_condition_tracker.domain.shared.value;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
-@RequiredArgsConstructor
 @ConfigurationProperties(prefix = "email")
 class EmailPropertiesImpl implements EmailProperties {
 
     private final Smtp smtp;
     private final String from;
     private final String frontEndUrl;
+    private final Outbox outbox;
+
+    public EmailPropertiesImpl(Smtp smtp,
+                               String from,
+                               String frontEndUrl,
+                               @DefaultValue Outbox outbox) {
+        this.smtp = smtp;
+        this.from = from;
+        this.frontEndUrl = frontEndUrl;
+        this.outbox = outbox;
+    }
 
     @Override
     public String getFrom() {
@@ -22,10 +33,64 @@ class EmailPropertiesImpl implements EmailProperties {
         return frontEndUrl;
     }
 
+    @Override
+    public int getOutboxBatchSize() {
+        return outbox.batchSize;
+    }
+
+    @Override
+    public int getOutboxMaxAttempts() {
+        return outbox.maxAttempts;
+    }
+
+    @Override
+    public long getOutboxInitialBackoffMs() {
+        return outbox.initialBackoffMs;
+    }
+
+    @Override
+    public long getOutboxMaxBackoffMs() {
+        return outbox.maxBackoffMs;
+    }
+
+    @Override
+    public long getOutboxLeaseMs() {
+        return outbox.leaseMs;
+    }
+
+    @Override
+    public long getOutboxRetentionMs() {
+        return outbox.retentionMs;
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class Smtp {
         private final String host;
         private final int port;
     }
+
+    private static class Outbox {
+
+        private final int batchSize;
+        private final int maxAttempts;
+        private final long initialBackoffMs;
+        private final long maxBackoffMs;
+        private final long leaseMs;
+        private final long retentionMs;
+
+        public Outbox(@DefaultValue("50") int batchSize,
+                      @DefaultValue("8") int maxAttempts,
+                      @DefaultValue("30000") long initialBackoffMs,
+                      @DefaultValue("3600000") long maxBackoffMs,
+                      @DefaultValue("60000") long leaseMs,
+                      @DefaultValue("86400000") long retentionMs) {
+            this.batchSize = batchSize;
+            this.maxAttempts = maxAttempts;
+            this.initialBackoffMs = initialBackoffMs;
+            this.maxBackoffMs = maxBackoffMs;
+            this.leaseMs = leaseMs;
+            this.retentionMs = retentionMs;
+        }
+    }
 }
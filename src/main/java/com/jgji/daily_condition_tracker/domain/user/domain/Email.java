@@ -17,25 +17,25 @@ public final class Email {
     }
 
     private static void validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
+        if (email == null || UserValueValidator.isBlank(email)) {
             throw new IllegalArgumentException("이메일은 필수 입력값입니다.");
         }
-        
-        String trimmedEmail = email.trim();
+
+        int start = UserValueValidator.trimStart(email);
+        int end = UserValueValidator.trimEnd(email);
 
         // 테스트 케이스 참고
-        String emailRegex = "^[A-Za-z0-9+_-]+(?:\\.[A-Za-z0-9+_-]+)*@[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$";
-        if (!trimmedEmail.matches(emailRegex)) {
+        int at = UserValueValidator.scanEmail(email, start, end);
+        if (at < 0) {
             throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
         }
-        
-        if (trimmedEmail.length() > 100) {
+
+        if (end - start > 100) {
             throw new IllegalArgumentException("이메일은 100자를 초과할 수 없습니다.");
         }
-        
-        String localPart = trimmedEmail.split("@")[0];
-        if (localPart.length() > 64) {
+
+        if (at - start > 64) {
             throw new IllegalArgumentException("이메일의 로컬 부분은 64자를 초과할 수 없습니다.");
         }
     }
-} 
\ No newline at end of file
+}
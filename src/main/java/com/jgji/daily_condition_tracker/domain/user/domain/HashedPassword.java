@@ -6,7 +6,7 @@ public final class HashedPassword {
     private final String value;
 
     HashedPassword(String hashedValue) {
-        if (hashedValue == null || hashedValue.trim().isEmpty()) {
+        if (hashedValue == null || UserValueValidator.isBlank(hashedValue)) {
             throw new IllegalArgumentException("해시된 비밀번호는 비어있을 수 없습니다.");
         }
 
@@ -18,8 +18,7 @@ public final class HashedPassword {
             throw new IllegalArgumentException("유효하지 않은 해시 형식입니다. 해시된 비밀번호가 너무 깁니다.");
         }
 
-        String validHashPattern = "^[A-Za-z0-9+/=.$-]+$";
-        if (!hashedValue.matches(validHashPattern)) {
+        if (!UserValueValidator.isHashFormat(hashedValue)) {
             throw new IllegalArgumentException("유효하지 않은 해시 형식입니다. 허용되지 않은 문자가 포함되어 있습니다.");
         }
         
@@ -15,7 +15,7 @@ public final class RawPassword {
     }
 
     private void validatePassword(String password) {
-        if (password == null || password.trim().isEmpty()) {
+        if (password == null || UserValueValidator.isBlank(password)) {
             throw new BusinessRuleViolationException("비밀번호는 비어있을 수 없습니다.");
         }
 
@@ -27,10 +27,11 @@ public final class RawPassword {
             throw new BusinessRuleViolationException("비밀번호는 100자를 초과할 수 없습니다.");
         }
 
-        boolean hasUpperCase = password.chars().anyMatch(Character::isUpperCase);
-        boolean hasLowerCase = password.chars().anyMatch(Character::isLowerCase);
-        boolean hasDigit = password.chars().anyMatch(Character::isDigit);
-        boolean hasSpecialChar = password.chars().anyMatch(c -> "!@#$%^&*()_+-=[]{}|;:,.<>?".indexOf(c) >= 0);
+        int classes = UserValueValidator.passwordCharacterClasses(password);
+        boolean hasUpperCase = (classes & UserValueValidator.PASSWORD_HAS_UPPER) != 0;
+        boolean hasLowerCase = (classes & UserValueValidator.PASSWORD_HAS_LOWER) != 0;
+        boolean hasDigit = (classes & UserValueValidator.PASSWORD_HAS_DIGIT) != 0;
+        boolean hasSpecialChar = (classes & UserValueValidator.PASSWORD_HAS_SPECIAL) != 0;
 
         if (!hasUpperCase) {
             throw new BusinessRuleViolationException("비밀번호는 대문자를 최소 1개 포함해야 합니다.");
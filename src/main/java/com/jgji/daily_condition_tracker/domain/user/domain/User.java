@@ -1,6 +1,7 @@
 package com.jgji.daily_condition_tracker.domain.user.domain;
 
 import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserEntity;
+import com.jgji.daily_condition_tracker.global.mapping.Default;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,8 +19,11 @@ public final class User {
     private final boolean isVerified;
     private final boolean isDeleted;
 
+    // 빌더는 테스트 픽스처(FixtureMonkey BuilderArbitraryIntrospector) 생성용으로 유지
+    // 생성자는 같은 패키지의 생성된 매퍼(UserMapper)가 호출한다
+    @Default
     @Builder(access = lombok.AccessLevel.PRIVATE)
-    private User(Long userId, Email email, HashedPassword passwordHash, String socialProvider, String socialId, String nickname, boolean isActive, boolean isSuperuser, boolean isVerified, boolean isDeleted) {
+    User(Long userId, Email email, HashedPassword passwordHash, String socialProvider, String socialId, String nickname, boolean isActive, boolean isSuperuser, boolean isVerified, boolean isDeleted) {
         this.userId = userId;
         this.email = email;
         this.passwordHash = passwordHash;
@@ -54,18 +58,7 @@ public final class User {
     // 레이어 규칙을 위반하지만 실수 방지를 위해 사용
     // 모두 오픈한 메서드를 생성한다면 다른 곳에서 무분별하게 사용가능
     public static User ofEntity(UserEntity entity) {
-        return User.builder()
-                .userId(entity.getUserId())
-                .email(Email.of(entity.getEmail()))
-                .passwordHash(new HashedPassword(entity.getPasswordHash()))
-                .socialProvider(entity.getSocialProvider())
-                .socialId(entity.getSocialId())
-                .nickname(entity.getNickname())
-                .isActive(entity.isActive())
-                .isSuperuser(entity.isSuperuser())
-                .isVerified(entity.isVerified())
-                .isDeleted(entity.isDeleted())
-                .build();
+        return UserMapper.INSTANCE.toDomain(entity);
     }
 
     public static User createRegularUser(Email email, HashedPassword passwordHash, String nickname) {
@@ -0,0 +1,31 @@
+package com.jgji.daily_condition_tracker.domain.user.domain;
+
+import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserEntity;
+import com.jgji.daily_condition_tracker.global.mapping.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+// 엔티티 -> 도메인 변환, 구현은 컴파일 시 생성된다 (UserMapperImpl)
+@Mapper(config = MappingConfig.class)
+interface UserMapper {
+
+    UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
+
+    @Mapping(target = "isActive", source = "active")
+    @Mapping(target = "isSuperuser", source = "superuser")
+    @Mapping(target = "isVerified", source = "verified")
+    @Mapping(target = "isDeleted", source = "deleted")
+    // User 를 반환하는 단일 인자 메서드는 MapStruct 가 fluent setter 로 인식하므로 제외
+    @Mapping(target = "updateNickname", ignore = true)
+    @Mapping(target = "updatePassword", ignore = true)
+    User toDomain(UserEntity entity);
+
+    default Email toEmail(String email) {
+        return Email.of(email);
+    }
+
+    default HashedPassword toHashedPassword(String passwordHash) {
+        return new HashedPassword(passwordHash);
+    }
+}
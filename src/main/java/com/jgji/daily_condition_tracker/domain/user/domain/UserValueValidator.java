@@ -0,0 +1,165 @@
+package com.jgji.daily_condition_tracker.domain.user.domain;
+
+/**
+ * 사용자 값 객체의 형식 검증
+ * 회원가입/로그인/토큰 재발급과 JWT 기반 사용자 생성마다 호출되므로
+ * String.matches(매 호출 Pattern 컴파일)나 split/stream 대신 문자 단위로 한 번만 훑어 추가 할당 없이 검증한다
+ */
+final class UserValueValidator {
+
+    private static final String PASSWORD_SPECIAL_CHARS = "!@#$%^&*()_+-=[]{}|;:,.<>?";
+
+    static final int PASSWORD_HAS_UPPER = 1;
+    static final int PASSWORD_HAS_LOWER = 1 << 1;
+    static final int PASSWORD_HAS_DIGIT = 1 << 2;
+    static final int PASSWORD_HAS_SPECIAL = 1 << 3;
+
+    private UserValueValidator() {
+    }
+
+    /**
+     * String.trim().isEmpty() 와 같은 기준(U+0020 이하 문자)으로 공백 여부 판단
+     */
+    static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int trimStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(String value) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * [start, end) 구간이 아래 정규식과 같은 형식인지 검사
+     * {@code ^[A-Za-z0-9+_-]+(?:\.[A-Za-z0-9+_-]+)*@[A-Za-z0-9-]+(?:\.[A-Za-z0-9-]+)*\.[A-Za-z]{2,}$}
+     *
+     * @return 형식이 올바르면 '@' 의 위치, 아니면 -1
+     */
+    static int scanEmail(String value, int start, int end) {
+        int at = -1;
+        int segmentLength = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (segmentLength == 0) {
+                    return -1;
+                }
+                at = i;
+                break;
+            }
+            if (c == '.') {
+                if (segmentLength == 0) {
+                    return -1;
+                }
+                segmentLength = 0;
+            } else if (isLocalChar(c)) {
+                segmentLength++;
+            } else {
+                return -1;
+            }
+        }
+        if (at < 0) {
+            return -1;
+        }
+
+        int domainSegments = 0;
+        segmentLength = 0;
+        boolean lastSegmentAlpha = true;
+
+        for (int i = at + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0) {
+                    return -1;
+                }
+                domainSegments++;
+                segmentLength = 0;
+                lastSegmentAlpha = true;
+            } else if (isDomainChar(c)) {
+                segmentLength++;
+                lastSegmentAlpha &= isAsciiLetter(c);
+            } else {
+                return -1;
+            }
+        }
+
+        // 마지막 구간(TLD)은 영문 2자 이상이고, 앞에 최소 1개의 도메인 구간이 있어야 함
+        if (domainSegments == 0 || segmentLength < 2 || !lastSegmentAlpha) {
+            return -1;
+        }
+        return at;
+    }
+
+    /**
+     * 해시 문자열이 {@code ^[A-Za-z0-9+/=.,$-]+$} 형식인지 검사
+     */
+    static boolean isHashFormat(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c)
+                    && c != '+' && c != '/' && c != '=' && c != '.' && c != ',' && c != '$' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비밀번호에 포함된 문자 종류를 비트 플래그로 반환
+     */
+    static int passwordCharacterClasses(String password) {
+        int classes = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (Character.isUpperCase(c)) {
+                classes |= PASSWORD_HAS_UPPER;
+            }
+            if (Character.isLowerCase(c)) {
+                classes |= PASSWORD_HAS_LOWER;
+            }
+            if (Character.isDigit(c)) {
+                classes |= PASSWORD_HAS_DIGIT;
+            }
+            if (PASSWORD_SPECIAL_CHARS.indexOf(c) >= 0) {
+                classes |= PASSWORD_HAS_SPECIAL;
+            }
+        }
+        return classes;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '+' || c == '_' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
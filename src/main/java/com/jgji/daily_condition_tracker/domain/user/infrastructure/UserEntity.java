@@ -2,6 +2,7 @@ package com.jgji.daily_condition_tracker.domain.user.infrastructure;
 
 import com.jgji.daily_condition_tracker.domain.user.domain.User;
 import com.jgji.daily_condition_tracker.domain.shared.domain.SoftDeletableEntity;
+import com.jgji.daily_condition_tracker.global.mapping.Default;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -56,9 +57,11 @@ public class UserEntity extends SoftDeletableEntity {
     @Column(name = "is_verified", nullable = false)
     private boolean isVerified;
 
+    // 생성자는 같은 패키지의 생성된 매퍼(UserEntityMapper)가 호출한다
+    @Default
     @Builder(access = AccessLevel.PRIVATE)
-    private UserEntity(Long userId, String email, String passwordHash, String socialProvider, String socialId,
-                       String nickname, boolean isActive, boolean isDeleted, boolean isSuperuser, boolean isVerified) {
+    UserEntity(Long userId, String email, String passwordHash, String socialProvider, String socialId,
+               String nickname, boolean isActive, boolean isDeleted, boolean isSuperuser, boolean isVerified) {
         this.userId = userId;
         this.email = email;
         this.passwordHash = passwordHash;
@@ -113,19 +116,7 @@ public class UserEntity extends SoftDeletableEntity {
 
     // 도메인 객체로부터 엔티티 생성 (신규 생성용)
     public static UserEntity fromDomain(User user) {
-
-        return UserEntity.builder()
-                .userId(user.getUserId())
-                .email(user.getEmail().getValue())
-                .passwordHash(user.getPasswordHash().getValue())
-                .socialProvider(user.getSocialProvider())
-                .socialId(user.getSocialId())
-                .nickname(user.getNickname())
-                .isActive(user.isActive())
-                .isDeleted(user.isDeleted())
-                .isSuperuser(user.isSuperuser())
-                .isVerified(user.isVerified())
-                .build();
+        return UserEntityMapper.INSTANCE.toEntity(user);
     }
 
     public User toDomain() {
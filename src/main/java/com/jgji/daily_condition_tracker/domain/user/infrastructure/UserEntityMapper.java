@@ -0,0 +1,22 @@
+package com.jgji.daily_condition_tracker.domain.user.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.user.domain.User;
+import com.jgji.daily_condition_tracker.global.mapping.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+// 도메인 -> 엔티티 변환, 구현은 컴파일 시 생성된다 (UserEntityMapperImpl)
+@Mapper(config = MappingConfig.class)
+interface UserEntityMapper {
+
+    UserEntityMapper INSTANCE = Mappers.getMapper(UserEntityMapper.class);
+
+    @Mapping(target = "email", source = "email.value")
+    @Mapping(target = "passwordHash", source = "passwordHash.value")
+    @Mapping(target = "isActive", source = "active")
+    @Mapping(target = "isDeleted", source = "deleted")
+    @Mapping(target = "isSuperuser", source = "superuser")
+    @Mapping(target = "isVerified", source = "verified")
+    UserEntity toEntity(User user);
+}
@@ -1,6 +1,11 @@
 package com.jgji.daily_condition_tracker.domain.user.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
@@ -8,4 +13,12 @@ interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmail(String email);
     
     Optional<UserEntity> findByEmail(String email);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update UserEntity u set u.passwordHash = :newPasswordHash, u.updatedAt = :updatedAt " +
+            "where u.userId = :userId and u.passwordHash = :expectedPasswordHash")
+    int updatePasswordHashIfUnchanged(@Param("userId") Long userId,
+                                      @Param("expectedPasswordHash") String expectedPasswordHash,
+                                      @Param("newPasswordHash") String newPasswordHash,
+                                      @Param("updatedAt") OffsetDateTime updatedAt);
 }
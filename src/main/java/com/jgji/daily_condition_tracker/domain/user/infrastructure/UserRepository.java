@@ -14,4 +14,12 @@ public interface UserRepository {
     User create(User user);
 
     User update(User user);
+
+    /**
+     * 저장된 해시가 expectedPasswordHash 와 같을 때만 비밀번호 해시를 교체
+     * 재해시 도중 비밀번호가 변경된 경우 변경된 비밀번호를 덮어쓰지 않기 위해 사용
+     *
+     * @return 교체되었으면 true
+     */
+    boolean updatePasswordHashIfUnchanged(Long userId, String expectedPasswordHash, String newPasswordHash);
 }
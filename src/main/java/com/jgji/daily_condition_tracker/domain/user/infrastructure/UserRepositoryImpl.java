@@ -3,6 +3,8 @@ package com.jgji.daily_condition_tracker.domain.user.infrastructure;
 import com.jgji.daily_condition_tracker.domain.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -44,4 +46,9 @@ class UserRepositoryImpl implements UserRepository {
         UserEntity savedEntity = userJPARepository.save(existingEntity);
         return savedEntity.toDomain();
     }
+
+    @Override
+    public boolean updatePasswordHashIfUnchanged(Long userId, String expectedPasswordHash, String newPasswordHash) {
+        return userJPARepository.updatePasswordHashIfUnchanged(userId, expectedPasswordHash, newPasswordHash, OffsetDateTime.now()) > 0;
+    }
 }
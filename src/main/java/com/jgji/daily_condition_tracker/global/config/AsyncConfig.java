@@ -0,0 +1,34 @@
+package com.jgji.daily_condition_tracker.global.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 한정자 없는 @Async 와 MVC 비동기 요청이 사용하는 기본 실행기
+     * passwordRehashExecutor, outboxEmailExecutor 같은 Executor 빈이 있으면 Boot 의 applicationTaskExecutor 자동 구성이
+     * 물러나고, @Async 는 플랫폼 스레드를 매번 새로 만드는 SimpleAsyncTaskExecutor 로 떨어지므로 직접 등록한다
+     * taskExecutor 별칭은 @EnableAsync 가 기본 실행기를 이름으로 찾을 때 사용
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor(Environment environment,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+}
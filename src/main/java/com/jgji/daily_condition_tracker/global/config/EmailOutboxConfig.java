@@ -0,0 +1,28 @@
+package com.jgji.daily_condition_tracker.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class EmailOutboxConfig {
+
+    /**
+     * 이메일 발송 대기열 전용 실행기
+     * fixedDelay @Scheduled 작업은 하나의 스케줄러 스레드에서 차례로 실행되므로, SMTP 호출을 그 스레드에서 하면
+     * RevocationBroadcaster.flush 같은 짧은 주기 작업이 발송이 끝날 때까지 밀린다
+     * 스레드 하나에 대기열 없이 두어 이전 발송이 진행 중이면 이번 주기의 발송 요청은 버린다
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxEmailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("outbox-email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,94 @@
+package com.jgji.daily_condition_tracker.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 기동 시 스레드 모델과 커넥션 풀 설정 점검
+ * 가상 스레드 모드에서는 Tomcat 스레드 수가 동시 요청을 제한하지 않으므로,
+ * DB 를 사용하는 요청의 동시성은 Hikari 풀 크기가 결정하고 초과 요청은 connection-timeout 동안 풀에서 대기한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ThreadingSelfCheck {
+
+    // 가상 스레드 모드에서 풀 대기가 이보다 길면 장애 시 요청이 쌓이기만 하고 실패하지 않음
+    private static final long MAX_RECOMMENDED_CONNECTION_TIMEOUT_MS = 5_000;
+    // Connector/J 9.0 부터 내부 synchronized 가 ReentrantLock 으로 교체되어 가상 스레드 고정이 발생하지 않음
+    private static final int MIN_PINNING_FREE_CONNECTOR_J_MAJOR = 9;
+
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final BeanFactory beanFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        log.info("요청 처리 스레드 모델: {}", virtual ? "virtual" : "platform");
+
+        checkPoolSizing(virtual);
+        if (virtual) {
+            checkAsyncExecutor();
+            checkDriver();
+        }
+    }
+
+    /**
+     * 한정자 없는 @Async 가 가상 스레드에서 실행되는지 확인
+     * 다른 Executor 빈이 추가되어 기본 실행기 등록이 물러나면 조용히 플랫폼 스레드로 바뀌므로 기동을 실패시킨다
+     */
+    private void checkAsyncExecutor() {
+        Executor executor = beanFactory.getBean(AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME, Executor.class);
+        boolean asyncVirtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).join();
+        if (!asyncVirtual) {
+            throw new IllegalStateException("기본 @Async 실행기가 가상 스레드를 사용하지 않습니다: " + executor.getClass().getName());
+        }
+        log.info("기본 @Async 실행기: {} (virtual)", executor.getClass().getSimpleName());
+    }
+
+    private void checkPoolSizing(boolean virtual) {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+
+        // HikariCP 권장식: connections = (core_count * 2) + effective_spindle_count
+        int recommended = Runtime.getRuntime().availableProcessors() * 2 + 1;
+        int maximumPoolSize = hikari.getMaximumPoolSize();
+        log.info("Hikari 풀 크기: maximumPoolSize={}, 권장값(코어 * 2 + 1)={}, connectionTimeout={}ms",
+                maximumPoolSize, recommended, hikari.getConnectionTimeout());
+
+        if (virtual && hikari.getConnectionTimeout() > MAX_RECOMMENDED_CONNECTION_TIMEOUT_MS) {
+            log.warn("가상 스레드 모드에서 connection-timeout 이 깁니다. DB 장애 시 대기 요청이 계속 늘어날 수 있으므로 {}ms 이하를 권장합니다: connectionTimeout={}ms",
+                    MAX_RECOMMENDED_CONNECTION_TIMEOUT_MS, hikari.getConnectionTimeout());
+        }
+    }
+
+    private void checkDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (metaData.getDriverName().contains("Connector/J")
+                    && metaData.getDriverMajorVersion() < MIN_PINNING_FREE_CONNECTOR_J_MAJOR) {
+                log.warn("MySQL Connector/J {} 는 내부에서 synchronized 를 사용하여 가상 스레드가 고정될 수 있습니다. 9.0 이상으로 업그레이드를 권장합니다.",
+                        metaData.getDriverVersion());
+            }
+        } catch (SQLException e) {
+            log.warn("JDBC 드라이버 점검 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jgji.daily_condition_tracker.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 가상 스레드가 캐리어 스레드를 놓지 못한 경우
+ * JFR jdk.VirtualThreadPinned 이벤트를 받아 jvm.threads.virtual.pinned{frame} 지표로 노출한다
+ * frame 은 스택에서 처음 만나는 JDK 외부 프레임(우리 코드 또는 의존 라이브러리)이다
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // JFR 기본 임계값과 동일, 이보다 짧은 고정은 기록하지 않음
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        this.recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        this.recordingStream.startAsync();
+        log.info("가상 스레드 고정 감지 시작: threshold={}ms", THRESHOLD.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = firstNonJdkFrame(event.getStackTrace());
+        Duration duration = event.getDuration();
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(duration);
+
+        // 같은 위치는 처음 한 번만 스택과 함께 기록
+        if (reportedFrames.add(frame)) {
+            log.warn("가상 스레드 고정 감지: frame={}, duration={}ms, thread={}\n{}",
+                    frame, duration.toMillis(), event.getThread("eventThread"), format(event.getStackTrace()));
+        }
+    }
+
+    private static String firstNonJdkFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(className::startsWith)) {
+                return className + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            builder.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+}
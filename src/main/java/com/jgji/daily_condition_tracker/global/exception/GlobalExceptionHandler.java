@@ -2,6 +2,7 @@ package com.jgji.daily_condition_tracker.global.exception;
 
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -115,6 +116,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(401, ex.getMessage()));
     }
 
+    /**
+     * 처리 용량 초과 (429)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("처리 용량 초과로 요청 거부: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.fail(429, ex.getMessage()));
+    }
+
     /**
      * 일반적인 예외 처리 (500)
      * 예상하지 못한 모든 예외를 처리
@@ -0,0 +1,16 @@
+package com.jgji.daily_condition_tracker.global.exception;
+
+/**
+ * 처리 용량을 초과한 요청을 거부할 때 발생하는 예외
+ * HTTP 429 Too Many Requests 상태 코드와 매핑됨
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jgji.daily_condition_tracker.global.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 생성된 매퍼가 대상 객체를 만들 때 사용할 생성자 표시
+ * MapStruct 는 패키지와 관계없이 이름이 Default 인 애너테이션이 붙은 생성자를 우선 사용한다
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.CONSTRUCTOR)
+public @interface Default {
+}
@@ -0,0 +1,18 @@
+package com.jgji.daily_condition_tracker.global.mapping;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * 엔티티/도메인/응답 DTO 변환 매퍼 공통 설정
+ * 빌더를 거치지 않고 @Default 생성자(레코드는 정식 생성자)로 필드를 직접 복사한다
+ * 대상 생성자의 인자를 빠뜨리면 기본값이 조용히 들어가므로 컴파일 오류로 처리한다
+ * 매퍼는 대상 클래스와 같은 패키지에 두어 package-private 생성자를 호출한다
+ */
+@MapperConfig(
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MappingConfig {
+}
@@ -1,20 +1,83 @@
 package com.jgji.daily_condition_tracker.global.security.config;
 
+import com.jgji.daily_condition_tracker.global.security.password.AdmissionControlledPasswordEncoder;
+import com.jgji.daily_condition_tracker.global.security.password.Argon2idPasswordEncoder;
+import com.jgji.daily_condition_tracker.global.security.password.PasswordHashCalibrator;
+import com.jgji.daily_condition_tracker.global.security.password.Pbkdf2Sha512PasswordEncoder;
 import com.jgji.daily_condition_tracker.global.security.password.Sha512PasswordEncoder;
+import com.jgji.daily_condition_tracker.global.security.password.VersionedPasswordEncoder;
 import com.jgji.daily_condition_tracker.global.security.value.PasswordProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @RequiredArgsConstructor
 @Configuration
 public class PasswordConfig {
 
     private final PasswordProperties passwordProperties;
 
+    @Bean(destroyMethod = "close")
+    public AdmissionControlledPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new AdmissionControlledPasswordEncoder(
+                versionedPasswordEncoder(),
+                passwordProperties.getHashingThreads(),
+                passwordProperties.getHashingQueueCapacity(),
+                passwordProperties.getHashingTimeoutMs(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 로그인 후 재해시 전용 실행기
+     * 재해시는 다음 로그인에서 다시 시도할 수 있으므로 대기열이 가득 차면 버린다
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new Sha512PasswordEncoder(passwordProperties.getPepper());
+    public ThreadPoolTaskExecutor passwordRehashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("password-rehash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    private PasswordEncoder versionedPasswordEncoder() {
+        String pepper = passwordProperties.getPepper();
+        String algorithm = passwordProperties.getAlgorithm();
+        long targetMs = passwordProperties.getCalibrationTargetMs();
+
+        int sha512Iterations = passwordProperties.getSha512Iterations();
+        int pbkdf2Iterations = passwordProperties.getPbkdf2Iterations();
+        int argon2Iterations = passwordProperties.getArgon2Iterations();
+        int argon2MemoryKib = passwordProperties.getArgon2MemoryKib();
+        int argon2Parallelism = passwordProperties.getArgon2Parallelism();
+
+        if (targetMs > 0) {
+            switch (algorithm) {
+                case Argon2idPasswordEncoder.ID -> argon2Iterations = PasswordHashCalibrator.calibrate(
+                        t -> new Argon2idPasswordEncoder(pepper, argon2MemoryKib, t, argon2Parallelism), argon2Iterations, targetMs);
+                case Pbkdf2Sha512PasswordEncoder.ID -> pbkdf2Iterations = PasswordHashCalibrator.calibrate(
+                        i -> new Pbkdf2Sha512PasswordEncoder(pepper, i), pbkdf2Iterations, targetMs);
+                case Sha512PasswordEncoder.ID -> sha512Iterations = PasswordHashCalibrator.calibrate(
+                        i -> new Sha512PasswordEncoder(pepper, i), sha512Iterations, targetMs);
+                default -> throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+            }
+        }
+
+        Sha512PasswordEncoder sha512 = new Sha512PasswordEncoder(pepper, sha512Iterations);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                Argon2idPasswordEncoder.ID, new Argon2idPasswordEncoder(pepper, argon2MemoryKib, argon2Iterations, argon2Parallelism),
+                Pbkdf2Sha512PasswordEncoder.ID, new Pbkdf2Sha512PasswordEncoder(pepper, pbkdf2Iterations),
+                Sha512PasswordEncoder.ID, sha512
+        );
+        return new VersionedPasswordEncoder(algorithm, encoders, sha512);
     }
 }
@@ -49,8 +49,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/health").permitAll() // 헬스 체크
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/password-reset/request").permitAll() // 로그아웃
                         .requestMatchers(HttpMethod.GET, "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll() // Swagger UI
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll() // 토큰 검증용 공개키
                         // 인증이 필요한 경로들
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout").authenticated() // 로그아웃
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout-all").authenticated() // 전체 기기 로그아웃
                         .requestMatchers(HttpMethod.GET, "/api/v1/users/me").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/v1/medications").authenticated() // 약 등록
                         .requestMatchers(HttpMethod.GET, "/api/v1/medications").authenticated() // 약 리스트 조회
@@ -31,10 +31,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String token = resolveToken(request);
+        VerifiedClaims claims = token != null ? jwtTokenProvider.tryParseVerified(token).orElse(null) : null;
 
-        if (token != null && jwtTokenProvider.validateToken(token) && !tokenRepository.isBlacklisted(token)) {
+        if (claims != null && !isRevoked(token, claims)) {
             try {
-                UserDetails userDetails = customUserDetailsService.loadUserFromToken(token);
+                UserDetails userDetails = customUserDetailsService.loadUserFromClaims(claims);
                 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -50,6 +51,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 사용자별 기준 시각 확인은 맵 조회 한 번이므로 토큰 다이제스트가 필요한 블랙리스트보다 먼저 수행
+    private boolean isRevoked(String token, VerifiedClaims claims) {
+        return tokenRepository.isRevokedForUser(claims.userId(), claims.issuedAtMillis())
+                || tokenRepository.isBlacklisted(token);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
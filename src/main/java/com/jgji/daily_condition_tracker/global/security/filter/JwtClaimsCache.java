@@ -0,0 +1,81 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT 클레임 캐시
+ * 토큰 다이제스트를 키로 사용하며, 각 항목은 토큰의 exp 시점에 만료된다
+ * 적중/미스 지표는 cache.gets{cache=jwt.claims} 로 노출된다
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final String CACHE_NAME = "jwt.claims";
+
+    private final Cache<TokenDigest, VerifiedClaims> cache;
+    private final Clock clock;
+
+    @Autowired
+    public JwtClaimsCache(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    JwtClaimsCache(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfter(new TokenExpiry(clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목 조회
+     * 만료 시점이 지난 항목은 만료 정리가 늦더라도 반환하지 않는다
+     */
+    public VerifiedClaims get(TokenDigest digest) {
+        VerifiedClaims claims = cache.getIfPresent(digest);
+        if (claims != null && claims.isExpired(clock.millis())) {
+            cache.invalidate(digest);
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(TokenDigest digest, VerifiedClaims claims) {
+        if (claims.isExpired(clock.millis())) {
+            return;
+        }
+        cache.put(digest, claims);
+    }
+
+    private record TokenExpiry(Clock clock) implements Expiry<TokenDigest, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedClaims value, long currentTime) {
+            long remainingMillis = Math.max(0L, value.expiresAtMillis() - clock.millis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import com.jgji.daily_condition_tracker.global.security.value.JwtSigningProperties;
+import com.jgji.daily_condition_tracker.global.security.value.JwtSigningProperties.ConfiguredKey;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.KeyException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWT 서명/검증 키 모음
+ * 현재 서명 키 하나와 kid 별 검증 키 여러 개를 보관하며, 검증 키는 디코딩된 상태로 유지하여 요청마다 키를 만들지 않는다
+ * 교체된 키는 가장 긴 토큰 수명 동안 검증용으로 남겨 두므로 키 교체 시 기존 토큰이 일괄 무효화되지 않는다
+ * 설정된 키가 없으면 노드 로컬 임시 키를 생성하며, 이 경우 다른 노드는 JWKS 로 공개키를 받아야 검증할 수 있다
+ */
+@Slf4j
+@Component
+public class JwtKeyring implements Locator<Key> {
+
+    private static final long ACTIVE = Long.MAX_VALUE;
+
+    private final JwtSigningAlgorithm algorithm;
+    private final SecretKey legacyKey;
+    private final boolean acceptLegacyHs256;
+    private final long rotationIntervalMs;
+    private final long retentionMs;
+    private final List<DecodedKey> configuredKeys;
+    private final Clock clock;
+    private final Map<String, VerificationKey> verificationKeys = new ConcurrentHashMap<>();
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    private volatile SigningKey current;
+    private volatile List<PublicJwk<?>> publicJwks = List.of();
+
+    @Autowired
+    public JwtKeyring(JwtProperties jwtProperties, JwtSigningProperties signingProperties) {
+        this(jwtProperties, signingProperties, Clock.systemUTC());
+    }
+
+    JwtKeyring(JwtProperties jwtProperties, JwtSigningProperties signingProperties, Clock clock) {
+        this.algorithm = signingProperties.getAlgorithm();
+        this.legacyKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.acceptLegacyHs256 = signingProperties.isAcceptLegacyHs256() || !algorithm.isAsymmetric();
+        this.rotationIntervalMs = signingProperties.getRotationIntervalMs();
+        this.retentionMs = Math.max(jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs());
+        this.clock = clock;
+        this.configuredKeys = algorithm.isAsymmetric() ? decode(signingProperties.getKeys()) : List.of();
+
+        if (!algorithm.isAsymmetric()) {
+            this.current = new SigningKey(null, legacyKey, clock.millis());
+            return;
+        }
+        if (configuredKeys.isEmpty()) {
+            log.warn("jwt.signing.keys 가 설정되지 않아 노드 로컬 임시 서명 키를 사용합니다. 재시작하거나 다른 노드에서는 발급된 토큰을 검증할 수 없습니다.");
+        }
+        configuredKeys.forEach(key -> verificationKeys.put(key.kid(), new VerificationKey(key.publicKey(), ACTIVE)));
+        rotate();
+    }
+
+    /**
+     * 현재 서명 키로 서명하고, 비대칭 키인 경우 kid 헤더를 기록
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        SigningKey signingKey = current;
+        if (signingKey.kid() != null) {
+            builder.header().keyId(signingKey.kid()).and();
+        }
+        return builder.signWith(signingKey.key(), signingAlgorithm());
+    }
+
+    /**
+     * 토큰 헤더의 kid 로 검증 키를 찾음
+     * kid 가 없는 토큰은 기존 HS256 토큰으로 간주하며, 허용된 경우에만 공유 비밀키로 검증한다
+     */
+    @Override
+    public Key locate(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            if (acceptLegacyHs256) {
+                return legacyKey;
+            }
+            throw new KeyException("kid 헤더가 없는 토큰은 허용되지 않습니다.");
+        }
+
+        VerificationKey verificationKey = verificationKeys.get(kid);
+        if (verificationKey == null) {
+            throw new KeyException("알 수 없는 서명 키입니다: kid=" + kid);
+        }
+        return verificationKey.key();
+    }
+
+    /**
+     * 검증 가능한 모든 공개키의 JWK 목록
+     */
+    public List<PublicJwk<?>> publicJwks() {
+        return publicJwks;
+    }
+
+    /**
+     * 설정된 키 중 활성 시점이 지난 가장 최신 키로 서명 키를 교체하고, 설정된 키가 없으면 교체 주기마다 임시 키를 생성
+     * 보존 기간이 지난 교체된 검증 키는 함께 정리한다
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval-ms:60000}")
+    public void rotate() {
+        if (!algorithm.isAsymmetric()) {
+            return;
+        }
+
+        rotationLock.lock();
+        try {
+            long now = clock.millis();
+            DecodedKey scheduled = activeConfiguredKey(now);
+            if (scheduled != null) {
+                if (current == null || !scheduled.kid().equals(current.kid())) {
+                    activate(scheduled.kid(), scheduled.privateKey(), scheduled.publicKey(), now);
+                }
+            } else if (current == null || now - current.activatedAtMillis() >= rotationIntervalMs) {
+                KeyPair keyPair = algorithm.generateKeyPair();
+                activate(UUID.randomUUID().toString(), keyPair.getPrivate(), keyPair.getPublic(), now);
+            }
+            removeRetiredKeys(now);
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    String currentKid() {
+        return current.kid();
+    }
+
+    private void activate(String kid, PrivateKey privateKey, PublicKey publicKey, long now) {
+        SigningKey previous = current;
+        verificationKeys.put(kid, new VerificationKey(publicKey, ACTIVE));
+        current = new SigningKey(kid, privateKey, now);
+        if (previous != null && previous.kid() != null) {
+            verificationKeys.computeIfPresent(previous.kid(), (previousKid, key) -> new VerificationKey(key.key(), now));
+        }
+        refreshPublicJwks();
+
+        log.info("JWT 서명 키 교체: algorithm={}, kid={}, previousKid={}", algorithm, kid, previous != null ? previous.kid() : null);
+    }
+
+    private void removeRetiredKeys(long now) {
+        boolean removed = verificationKeys.entrySet()
+                .removeIf(entry -> entry.getValue().retiredAtMillis() != ACTIVE && entry.getValue().retiredAtMillis() + retentionMs <= now);
+        if (removed) {
+            refreshPublicJwks();
+        }
+    }
+
+    private void refreshPublicJwks() {
+        List<PublicJwk<?>> jwks = new ArrayList<>();
+        verificationKeys.forEach((kid, key) -> jwks.add(Jwks.builder().key(key.key()).id(kid).build()));
+        publicJwks = List.copyOf(jwks);
+    }
+
+    private DecodedKey activeConfiguredKey(long now) {
+        return configuredKeys.stream()
+                .filter(key -> key.privateKey() != null && key.notBeforeMillis() <= now)
+                .max(Comparator.comparingLong(DecodedKey::notBeforeMillis))
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SecureDigestAlgorithm<Key, ?> signingAlgorithm() {
+        return (SecureDigestAlgorithm<Key, ?>) algorithm.algorithm();
+    }
+
+    private List<DecodedKey> decode(List<ConfiguredKey> keys) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm());
+            List<DecodedKey> decoded = new ArrayList<>();
+            for (ConfiguredKey key : keys) {
+                if (!StringUtils.hasText(key.kid()) || !StringUtils.hasText(key.publicKey())) {
+                    throw new IllegalStateException("jwt.signing.keys 항목에는 kid 와 public-key 가 필요합니다.");
+                }
+                PrivateKey privateKey = StringUtils.hasText(key.privateKey())
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.privateKey())))
+                        : null;
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.publicKey())));
+                long notBeforeMillis = key.notBefore() != null ? key.notBefore().toEpochMilli() : 0L;
+                decoded.add(new DecodedKey(key.kid(), privateKey, publicKey, notBeforeMillis));
+            }
+            return List.copyOf(decoded);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("jwt.signing.keys 의 키를 해석할 수 없습니다: algorithm=" + algorithm, e);
+        }
+    }
+
+    private record SigningKey(String kid, Key key, long activatedAtMillis) {
+    }
+
+    private record VerificationKey(PublicKey key, long retiredAtMillis) {
+    }
+
+    private record DecodedKey(String kid, PrivateKey privateKey, PublicKey publicKey, long notBeforeMillis) {
+    }
+}
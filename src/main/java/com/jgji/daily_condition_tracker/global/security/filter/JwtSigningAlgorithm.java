@@ -0,0 +1,49 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.KeyPair;
+
+/**
+ * 토큰 서명 알고리즘
+ * HS256 은 공유 비밀키 방식(키 ID 없음)이며, ES256/EdDSA 는 키 ID 로 식별되는 비대칭 키로 서명한다
+ */
+public enum JwtSigningAlgorithm {
+
+    HS256(Jwts.SIG.HS256, null),
+    ES256(Jwts.SIG.ES256, "EC"),
+    EDDSA(Jwts.SIG.EdDSA, "Ed25519");
+
+    private final SecureDigestAlgorithm<?, ?> algorithm;
+    private final String keyFactoryAlgorithm;
+
+    JwtSigningAlgorithm(SecureDigestAlgorithm<?, ?> algorithm, String keyFactoryAlgorithm) {
+        this.algorithm = algorithm;
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+    }
+
+    public boolean isAsymmetric() {
+        return keyFactoryAlgorithm != null;
+    }
+
+    SecureDigestAlgorithm<?, ?> algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 설정된 키를 디코딩할 때 사용할 KeyFactory 알고리즘 이름
+     */
+    String keyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+
+    KeyPair generateKeyPair() {
+        return switch (this) {
+            case ES256 -> Jwts.SIG.ES256.keyPair().build();
+            case EDDSA -> Jwks.CRV.Ed25519.keyPair().build();
+            case HS256 -> throw new UnsupportedOperationException("HS256 은 키 쌍을 사용하지 않습니다.");
+        };
+    }
+}
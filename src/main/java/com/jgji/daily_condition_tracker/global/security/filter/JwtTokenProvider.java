@@ -3,27 +3,31 @@ package com.jgji.daily_condition_tracker.global.security.filter;
 import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
 import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    private final JwtKeyring keyring;
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache claimsCache;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
-    public JwtTokenProvider(JwtProperties jwtProperties) {
-        this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(JwtProperties jwtProperties, JwtClaimsCache claimsCache, JwtKeyring keyring) {
+        this.keyring = keyring;
+        this.jwtParser = Jwts.parser().keyLocator(keyring).build();
+        this.claimsCache = claimsCache;
         this.accessTokenExpirationMs = jwtProperties.getAccessTokenExpirationMs();
         this.refreshTokenExpirationMs = jwtProperties.getRefreshTokenExpirationMs();
     }
@@ -38,7 +42,7 @@ public class JwtTokenProvider {
 
         CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(authentication.getName())
                 .claim("auth", authorities)
                 .claim("userId", userPrincipal.getUser().getUserId())
@@ -46,9 +50,9 @@ public class JwtTokenProvider {
                 .claim("nickname", userPrincipal.getUser().getNickname())
                 .claim("isSuperuser", userPrincipal.getUser().isSuperuser())
                 .issuedAt(new Date(now))
-                .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS256)
-                .compact();
+                .expiration(expiryDate);
+
+        return keyring.sign(builder).compact();
     }
 
     /**
@@ -58,37 +62,44 @@ public class JwtTokenProvider {
         long now = new Date().getTime();
         Date expiryDate = new Date(now + refreshTokenExpirationMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(authentication.getName())
                 .claim("type", "refresh")
                 .issuedAt(new Date(now))
-                .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS256)
-                .compact();
+                .expiration(expiryDate);
+
+        return keyring.sign(builder).compact();
     }
 
     /**
-     * 토큰에서 사용자명 추출
+     * 서명과 만료를 검증한 클레임 반환
+     * 같은 토큰은 노드당 수명 동안 한 번만 서명을 검증하고, 이후에는 캐시된 클레임을 재사용
+     *
+     * @throws JwtException 서명이 유효하지 않거나 만료된 토큰인 경우
+     * @throws IllegalArgumentException 토큰 문자열이 비어있는 경우
      */
-    public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public VerifiedClaims parseVerified(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT 문자열이 비어있습니다.");
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedClaims cached = claimsCache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedClaims claims = VerifiedClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+        claimsCache.put(digest, claims);
+        return claims;
     }
 
     /**
-     * 토큰 유효성 검증
+     * 검증에 실패하면 원인을 로그로 남기고 빈 값을 반환
      */
-    public boolean validateToken(String token) {
+    public Optional<VerifiedClaims> tryParseVerified(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(parseVerified(token));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -97,8 +108,24 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰에서 사용자명 추출
+     */
+    public String getUsername(String token) {
+        return parseVerified(token).subject();
+    }
+
+    /**
+     * 토큰 유효성 검증
+     */
+    public boolean validateToken(String token) {
+        return tryParseVerified(token).isPresent();
     }
 
     /**
@@ -106,15 +133,8 @@ public class JwtTokenProvider {
      */
     public boolean validateRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
             // refresh 타입인지 확인
-            String tokenType = claims.get("type", String.class);
-            return "refresh".equals(tokenType);
+            return parseVerified(token).isRefreshToken();
         } catch (Exception e) {
             log.error("Invalid refresh token: {}", e.getMessage());
             return false;
@@ -125,59 +145,34 @@ public class JwtTokenProvider {
      * 토큰에서 권한 정보 추출
      */
     public String getAuthorities(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("auth", String.class);
+        return parseVerified(token).authorities();
     }
 
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("userId", Long.class);
+        return parseVerified(token).userId();
     }
 
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("email", String.class);
+        return parseVerified(token).email();
     }
 
     /**
      * 토큰에서 닉네임 추출
      */
     public String getNickname(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("nickname", String.class);
+        return parseVerified(token).nickname();
     }
 
     /**
      * 토큰에서 관리자 여부 추출
      */
     public Boolean getIsSuperuser(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("isSuperuser", Boolean.class);
+        return parseVerified(token).isSuperuser();
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * JWT 문자열의 고정 크기(128비트) 식별자
+ * 토큰 원문 대신 SHA-256 다이제스트의 앞 16바이트를 키로 사용하여 캐시/블랙리스트의 메모리 사용량을 고정한다
+ */
+public record TokenDigest(long high, long low) {
+
+    private static final MessageDigest PROTOTYPE = createPrototype();
+
+    public static TokenDigest of(String token) {
+        byte[] hash = newDigest().digest(token.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new TokenDigest(buffer.getLong(0), buffer.getLong(8));
+    }
+
+    // MessageDigest.getInstance 의 provider 조회 비용을 피하기 위해 프로토타입을 복제
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createPrototype();
+        }
+    }
+
+    private static MessageDigest createPrototype() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 검증을 통과한 JWT 클레임의 불변 뷰
+ * 검증 이후에는 이 객체만 전달하여 같은 토큰을 다시 파싱하지 않도록 한다
+ */
+public record VerifiedClaims(
+        String subject,
+        Long userId,
+        String email,
+        String nickname,
+        boolean isSuperuser,
+        String authorities,
+        String type,
+        long issuedAtMillis,
+        long expiresAtMillis
+) {
+
+    private static final String REFRESH_TYPE = "refresh";
+
+    static VerifiedClaims from(Claims claims) {
+        Boolean isSuperuser = claims.get("isSuperuser", Boolean.class);
+
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("email", String.class),
+                claims.get("nickname", String.class),
+                isSuperuser != null && isSuperuser,
+                claims.get("auth", String.class),
+                claims.get("type", String.class),
+                toMillis(claims.getIssuedAt()),
+                toMillis(claims.getExpiration())
+        );
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(type);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    private static long toMillis(Date date) {
+        return date != null ? date.getTime() : 0L;
+    }
+}
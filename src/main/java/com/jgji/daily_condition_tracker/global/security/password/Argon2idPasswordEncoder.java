@@ -0,0 +1,109 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Argon2id 비밀번호 인코더 (메모리 하드 함수)
+ * 형식: v=19$m={memoryKib},t={iterations},p={parallelism}${salt}${hash}, 알고리즘 접두사는 {@link VersionedPasswordEncoder} 가 붙인다
+ * Pepper 는 Argon2 의 secret 입력으로 사용한다
+ */
+public class Argon2idPasswordEncoder implements PasswordEncoder {
+
+    public static final String ID = "argon2id";
+
+    private static final int HASH_LENGTH = 32;
+    // DB 에 저장된 해시의 파라미터로 과도한 메모리를 할당하지 않도록 상한을 둠
+    private static final int MAX_MEMORY_KIB = 1 << 20;
+
+    private final byte[] pepper;
+    private final int memoryKib;
+    private final int iterations;
+    private final int parallelism;
+
+    public Argon2idPasswordEncoder(String pepper, int memoryKib, int iterations, int parallelism) {
+        if (memoryKib < 8 * parallelism || memoryKib > MAX_MEMORY_KIB || iterations < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Argon2id 파라미터가 올바르지 않습니다.");
+        }
+        this.pepper = pepper.getBytes(StandardCharsets.UTF_8);
+        this.memoryKib = memoryKib;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = PasswordHashFormat.newSalt();
+        byte[] hash = derive(rawPassword, salt, memoryKib, iterations, parallelism);
+        return "v=" + Argon2Parameters.ARGON2_VERSION_13 + PasswordHashFormat.SEPARATOR
+                + "m=" + memoryKib + ",t=" + iterations + ",p=" + parallelism + PasswordHashFormat.SEPARATOR
+                + PasswordHashFormat.encode(salt) + PasswordHashFormat.SEPARATOR
+                + PasswordHashFormat.encode(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            String[] parts = encodedPassword.split("\\$");
+            if (parts.length != 4 || !parts[0].equals("v=" + Argon2Parameters.ARGON2_VERSION_13)) {
+                return false;
+            }
+            Map<String, Integer> params = PasswordHashFormat.parseParams(parts[1]);
+            int storedMemoryKib = PasswordHashFormat.requireParam(params, "m");
+            if (storedMemoryKib > MAX_MEMORY_KIB) {
+                return false;
+            }
+            byte[] salt = PasswordHashFormat.decode(parts[2]);
+            byte[] storedHash = PasswordHashFormat.decode(parts[3]);
+
+            byte[] inputHash = derive(rawPassword, salt, storedMemoryKib,
+                    PasswordHashFormat.requireParam(params, "t"), PasswordHashFormat.requireParam(params, "p"));
+            return MessageDigest.isEqual(storedHash, inputHash);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 저장된 메모리/반복 횟수가 현재 설정보다 작으면 재해시 대상
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        try {
+            String[] parts = encodedPassword.split("\\$");
+            Map<String, Integer> params = PasswordHashFormat.parseParams(parts[1]);
+            return PasswordHashFormat.requireParam(params, "m") < memoryKib
+                    || PasswordHashFormat.requireParam(params, "t") < iterations;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    private byte[] derive(CharSequence rawPassword, byte[] salt, int memoryKib, int iterations, int parallelism) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withSalt(salt)
+                .withSecret(pepper)
+                .withMemoryAsKB(memoryKib)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+
+        byte[] password = rawPassword.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] hash = new byte[HASH_LENGTH];
+        try {
+            generator.generateBytes(password, hash);
+            return hash;
+        } finally {
+            Arrays.fill(password, (byte) 0);
+        }
+    }
+}
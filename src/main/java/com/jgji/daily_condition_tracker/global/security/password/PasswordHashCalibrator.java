@@ -0,0 +1,51 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.IntFunction;
+
+/**
+ * 현재 하드웨어에서 목표 해시 시간에 맞는 비용 파라미터를 계산
+ * 해시 시간이 비용 파라미터(반복 횟수)에 비례한다고 보고, 기준 비용으로 측정한 시간을 목표 시간으로 환산한다
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration-Sample-1!";
+    private static final int SAMPLES = 3;
+    private static final int MAX_COST = 100_000_000;
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * @param encoderFactory 비용 파라미터로 인코더를 만드는 함수
+     * @param baselineCost 측정에 사용할 기준 비용
+     * @param targetMs 해시 한 번에 목표로 하는 시간(ms)
+     * @return 목표 시간에 맞춘 비용, 최소 1
+     */
+    public static int calibrate(IntFunction<PasswordEncoder> encoderFactory, int baselineCost, long targetMs) {
+        PasswordEncoder encoder = encoderFactory.apply(baselineCost);
+        // JIT 워밍업
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+
+        double measuredMs = Math.max(bestNanos / 1_000_000.0, 0.001);
+        long calibrated = Math.round(baselineCost * (targetMs / measuredMs));
+        int cost = (int) Math.max(1L, Math.min(MAX_COST, calibrated));
+
+        log.info("비밀번호 해시 비용 보정: baselineCost={}, measuredMs={}, targetMs={}, calibratedCost={}",
+                baselineCost, String.format("%.1f", measuredMs), targetMs, cost);
+        if (calibrated < 1) {
+            log.warn("최소 비용으로도 목표 해시 시간({}ms)을 초과합니다. 메모리 파라미터를 낮추는 것을 검토하세요.", targetMs);
+        }
+        return cost;
+    }
+}
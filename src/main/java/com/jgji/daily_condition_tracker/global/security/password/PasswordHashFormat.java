@@ -0,0 +1,62 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 버전이 있는 해시 형식($alg$params$salt$hash)의 공통 처리
+ * salt/hash 는 패딩 없는 Base64 로 인코딩하며, 파라미터는 "k=v,k=v" 형식이다
+ */
+final class PasswordHashFormat {
+
+    static final String SEPARATOR = "$";
+    static final int SALT_LENGTH = 16;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private PasswordHashFormat() {
+    }
+
+    static byte[] newSalt() {
+        byte[] salt = new byte[SALT_LENGTH];
+        SECURE_RANDOM.nextBytes(salt);
+        return salt;
+    }
+
+    static String encode(byte[] bytes) {
+        return ENCODER.encodeToString(bytes);
+    }
+
+    static byte[] decode(String value) {
+        return DECODER.decode(value);
+    }
+
+    /**
+     * "m=19456,t=2,p=1" 형식의 파라미터를 정수 맵으로 변환
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    static Map<String, Integer> parseParams(String params) {
+        Map<String, Integer> parsed = new HashMap<>();
+        for (String pair : params.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("해시 파라미터 형식이 올바르지 않습니다: " + params);
+            }
+            parsed.put(pair.substring(0, separator), Integer.parseInt(pair.substring(separator + 1)));
+        }
+        return parsed;
+    }
+
+    static int requireParam(Map<String, Integer> params, String name) {
+        Integer value = params.get(name);
+        if (value == null || value < 1) {
+            throw new IllegalArgumentException("해시 파라미터가 올바르지 않습니다: " + name);
+        }
+        return value;
+    }
+}
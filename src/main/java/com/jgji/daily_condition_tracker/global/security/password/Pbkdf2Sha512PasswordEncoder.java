@@ -0,0 +1,86 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * PBKDF2-HMAC-SHA512 비밀번호 인코더
+ * 형식: i={iterations}${salt}${hash}, 알고리즘 접두사는 {@link VersionedPasswordEncoder} 가 붙인다
+ */
+public class Pbkdf2Sha512PasswordEncoder implements PasswordEncoder {
+
+    public static final String ID = "pbkdf2-sha512";
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA512";
+    private static final int KEY_LENGTH_BITS = 512;
+
+    private final String pepper;
+    private final int iterations;
+
+    public Pbkdf2Sha512PasswordEncoder(String pepper, int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.pepper = pepper;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = PasswordHashFormat.newSalt();
+        byte[] hash = derive(rawPassword, salt, iterations);
+        return "i=" + iterations + PasswordHashFormat.SEPARATOR
+                + PasswordHashFormat.encode(salt) + PasswordHashFormat.SEPARATOR
+                + PasswordHashFormat.encode(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            String[] parts = encodedPassword.split("\\$");
+            if (parts.length != 3) {
+                return false;
+            }
+            int storedIterations = PasswordHashFormat.requireParam(PasswordHashFormat.parseParams(parts[0]), "i");
+            byte[] salt = PasswordHashFormat.decode(parts[1]);
+            byte[] storedHash = PasswordHashFormat.decode(parts[2]);
+
+            return MessageDigest.isEqual(storedHash, derive(rawPassword, salt, storedIterations));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 저장된 반복 횟수가 현재 설정보다 적으면 재해시 대상
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        try {
+            Map<String, Integer> params = PasswordHashFormat.parseParams(encodedPassword.split("\\$")[0]);
+            return PasswordHashFormat.requireParam(params, "i") < iterations;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    private byte[] derive(CharSequence rawPassword, byte[] salt, int iterations) {
+        // Pepper 는 비밀번호 뒤에 이어 붙여 PRF 키에 포함
+        char[] input = (rawPassword.toString() + pepper).toCharArray();
+        PBEKeySpec spec = new PBEKeySpec(input, salt, iterations, KEY_LENGTH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        } finally {
+            spec.clearPassword();
+            Arrays.fill(input, '\0');
+        }
+    }
+}
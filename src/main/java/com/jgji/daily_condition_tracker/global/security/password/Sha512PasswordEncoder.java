@@ -2,17 +2,28 @@ package com.jgji.daily_condition_tracker.global.security.password;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
+/**
+ * SHA-512 Key Stretching 비밀번호 인코더
+ * 형식: i={iterations}${salt}${hash}, 알고리즘 접두사는 {@link VersionedPasswordEncoder} 가 붙인다
+ * 접두사 없는 기존 형식({salt}${hash}, {iterations}${salt}${hash})도 검증한다
+ */
 public class Sha512PasswordEncoder implements PasswordEncoder {
+
+    public static final String ID = "sha512";
     
     private static final int SALT_LENGTH = 32;
-    private static final int ITERATIONS = 100000;
+    // 반복 횟수가 기록되지 않은 기존 해시({salt}${hash})의 반복 횟수
+    static final int LEGACY_ITERATIONS = 100000;
+    private static final MessageDigest PROTOTYPE = createPrototype();
     
-    private final String pepper; // 애플리케이션별 고정 시크릿
+    private final byte[] pepper; // 애플리케이션별 고정 시크릿
+    private final int iterations;
     private final SecureRandom secureRandom = new SecureRandom();
 
     /**
@@ -20,44 +31,64 @@ public class Sha512PasswordEncoder implements PasswordEncoder {
      * @param pepper 애플리케이션별 고정 시크릿
      */
     public Sha512PasswordEncoder(String pepper) {
-        this.pepper = pepper;
+        this(pepper, LEGACY_ITERATIONS);
+    }
+
+    /**
+     * Pepper와 반복 횟수를 지정하는 생성자
+     * 반복 횟수는 해시마다 함께 저장되므로 변경해도 기존 해시는 저장 당시의 반복 횟수로 검증된다
+     * @param pepper 애플리케이션별 고정 시크릿
+     * @param iterations 새로 만드는 해시의 Key Stretching 반복 횟수
+     */
+    public Sha512PasswordEncoder(String pepper, int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.pepper = pepper.getBytes(StandardCharsets.UTF_8);
+        this.iterations = iterations;
     }
 
     @Override
     public String encode(CharSequence rawPassword) {
-        try {
-            // 1. 랜덤 Salt 생성
-            byte[] salt = generateSalt();
-            
-            // 2. Key Stretching을 적용한 해시 생성
-            byte[] hashedPassword = hashWithSalt(rawPassword.toString(), salt);
-            
-            // 3. Salt + Hash를 Base64로 인코딩하여 저장
-            // 형식: {salt}${hash}
-            String encodedSalt = Base64.getEncoder().encodeToString(salt);
-            String encodedHash = Base64.getEncoder().encodeToString(hashedPassword);
-            
-            return encodedSalt + "$" + encodedHash;
-            
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-512 알고리즘을 찾을 수 없습니다.", e);
-        }
+        // 1. 랜덤 Salt 생성
+        byte[] salt = generateSalt();
+
+        // 2. Key Stretching을 적용한 해시 생성
+        byte[] hashedPassword = hashWithSalt(rawPassword.toString(), salt, iterations);
+
+        // 3. 반복 횟수 + Salt + Hash를 Base64로 인코딩하여 저장
+        // 형식: i={iterations}${salt}${hash}
+        String encodedSalt = Base64.getEncoder().encodeToString(salt);
+        String encodedHash = Base64.getEncoder().encodeToString(hashedPassword);
+
+        return "i=" + iterations + "$" + encodedSalt + "$" + encodedHash;
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
         try {
-            // 저장된 패스워드에서 Salt와 Hash 분리
+            // 저장된 패스워드에서 반복 횟수, Salt, Hash 분리
             String[] parts = encodedPassword.split("\\$");
-            if (parts.length != 2) {
+            int storedIterations;
+            int saltIndex;
+            if (parts.length == 3) {
+                storedIterations = parseIterations(parts[0]);
+                saltIndex = 1;
+            } else if (parts.length == 2) {
+                storedIterations = LEGACY_ITERATIONS;
+                saltIndex = 0;
+            } else {
+                return false;
+            }
+            if (storedIterations < 1) {
                 return false;
             }
             
-            byte[] salt = Base64.getDecoder().decode(parts[0]);
-            byte[] storedHash = Base64.getDecoder().decode(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[saltIndex]);
+            byte[] storedHash = Base64.getDecoder().decode(parts[saltIndex + 1]);
             
-            // 입력된 패스워드를 같은 Salt로 해시
-            byte[] inputHash = hashWithSalt(rawPassword.toString(), salt);
+            // 입력된 패스워드를 같은 Salt와 반복 횟수로 해시
+            byte[] inputHash = hashWithSalt(rawPassword.toString(), salt, storedIterations);
             
             // 해시 비교 (타이밍 공격 방지를 위한 상수 시간 비교)
             return MessageDigest.isEqual(storedHash, inputHash);
@@ -66,6 +97,27 @@ public class Sha512PasswordEncoder implements PasswordEncoder {
             return false;
         }
     }
+
+    /**
+     * 저장된 반복 횟수가 현재 설정보다 적으면 재해시 대상
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        String[] parts = encodedPassword.split("\\$");
+        if (parts.length != 3) {
+            return true;
+        }
+        try {
+            return parseIterations(parts[0]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    // "i=100000" 과 접두사 없는 "100000" 을 모두 허용
+    private static int parseIterations(String value) {
+        return Integer.parseInt(value.startsWith("i=") ? value.substring(2) : value);
+    }
     
     private byte[] generateSalt() {
         byte[] salt = new byte[SALT_LENGTH];
@@ -76,18 +128,17 @@ public class Sha512PasswordEncoder implements PasswordEncoder {
     /**
      * Salt와 Pepper를 사용한 Key Stretching 해시
      */
-    private byte[] hashWithSalt(String password, byte[] salt) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-512");
+    private byte[] hashWithSalt(String password, byte[] salt, int iterations) {
+        MessageDigest digest = newDigest();
         
         // 초기 해시: password + salt + pepper
-        digest.update(password.getBytes());
+        digest.update(password.getBytes(StandardCharsets.UTF_8));
         digest.update(salt);
-        digest.update(pepper.getBytes());
+        digest.update(pepper);
         byte[] hash = digest.digest();
         
         // Key Stretching: 지정된 횟수만큼 해시 반복
-        for (int i = 1; i < ITERATIONS; i++) {
-            digest.reset();
+        for (int i = 1; i < iterations; i++) {
             digest.update(hash);
             digest.update(salt); // 매 반복마다 Salt 추가
             hash = digest.digest();
@@ -95,4 +146,21 @@ public class Sha512PasswordEncoder implements PasswordEncoder {
         
         return hash;
     }
+
+    // MessageDigest.getInstance 의 provider 조회 비용을 피하기 위해 프로토타입을 복제
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createPrototype();
+        }
+    }
+
+    private static MessageDigest createPrototype() {
+        try {
+            return MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-512 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 알고리즘 식별자를 접두사로 붙이는 위임 인코더
+ * 새 해시는 $alg${인코더 출력} 형식으로 만들고, 검증 시에는 접두사로 인코더를 고른다
+ * 접두사가 없는 기존 해시({salt}${hash}, {iterations}${salt}${hash})는 기존 SHA-512 인코더로 검증한다
+ */
+public class VersionedPasswordEncoder implements PasswordEncoder {
+
+    private static final char SEPARATOR = '$';
+
+    private final String idForEncode;
+    private final PasswordEncoder encoderForEncode;
+    private final Map<String, PasswordEncoder> encoders;
+    private final PasswordEncoder legacyEncoder;
+
+    public VersionedPasswordEncoder(String idForEncode, Map<String, PasswordEncoder> encoders, PasswordEncoder legacyEncoder) {
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("등록되지 않은 비밀번호 해시 알고리즘입니다: " + idForEncode);
+        }
+        this.idForEncode = idForEncode;
+        this.encoderForEncode = encoders.get(idForEncode);
+        this.encoders = Map.copyOf(encoders);
+        this.legacyEncoder = legacyEncoder;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return SEPARATOR + idForEncode + SEPARATOR + encoderForEncode.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        String id = extractId(encodedPassword);
+        if (id == null) {
+            return legacyEncoder.matches(rawPassword, encodedPassword);
+        }
+
+        PasswordEncoder encoder = encoders.get(id);
+        return encoder != null && encoder.matches(rawPassword, encodedPassword.substring(id.length() + 2));
+    }
+
+    /**
+     * 기존 형식이거나, 다른 알고리즘이거나, 현재 설정보다 약한 파라미터로 만든 해시면 재해시 대상
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        String id = extractId(encodedPassword);
+        if (!idForEncode.equals(id)) {
+            return true;
+        }
+        return encoderForEncode.upgradeEncoding(encodedPassword.substring(id.length() + 2));
+    }
+
+    private static String extractId(String encodedPassword) {
+        if (encodedPassword.isEmpty() || encodedPassword.charAt(0) != SEPARATOR) {
+            return null;
+        }
+        int end = encodedPassword.indexOf(SEPARATOR, 1);
+        return end > 1 ? encodedPassword.substring(1, end) : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jgji.daily_condition_tracker.global.security.value;
+
+import com.jgji.daily_condition_tracker.global.security.filter.JwtSigningAlgorithm;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JwtSigningProperties {
+
+    JwtSigningAlgorithm getAlgorithm();
+
+    long getRotationIntervalMs();
+
+    boolean isAcceptLegacyHs256();
+
+    List<ConfiguredKey> getKeys();
+
+    /**
+     * 외부에서 배포한 서명 키
+     * 모든 노드에 같은 키 목록을 배포하고 notBefore 로 활성 시점을 지정하면 노드 간 조율 없이 키가 교체된다
+     *
+     * @param kid 토큰 헤더에 기록되는 키 ID
+     * @param privateKey PKCS#8 DER 의 Base64, 검증 전용 키는 비워둔다
+     * @param publicKey X.509 SubjectPublicKeyInfo DER 의 Base64
+     * @param notBefore 서명 키로 사용하기 시작하는 시각, 비어있으면 즉시 사용
+     */
+    record ConfiguredKey(String kid, String privateKey, String publicKey, Instant notBefore) {
+    }
+}
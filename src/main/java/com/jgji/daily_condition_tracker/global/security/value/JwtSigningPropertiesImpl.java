@@ -0,0 +1,46 @@
+package com.jgji.daily_condition_tracker.global.security.value;
+
+import com.jgji.daily_condition_tracker.global.security.filter.JwtSigningAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "jwt.signing")
+class JwtSigningPropertiesImpl implements JwtSigningProperties {
+
+    private final JwtSigningAlgorithm algorithm;
+    private final long rotationIntervalMs;
+    private final boolean acceptLegacyHs256;
+    private final List<ConfiguredKey> keys;
+
+    public JwtSigningPropertiesImpl(@DefaultValue("HS256") JwtSigningAlgorithm algorithm,
+                                    @DefaultValue("86400000") long rotationIntervalMs,
+                                    @DefaultValue("true") boolean acceptLegacyHs256,
+                                    List<ConfiguredKey> keys) {
+        this.algorithm = algorithm;
+        this.rotationIntervalMs = rotationIntervalMs;
+        this.acceptLegacyHs256 = acceptLegacyHs256;
+        this.keys = keys != null ? List.copyOf(keys) : List.of();
+    }
+
+    @Override
+    public JwtSigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public long getRotationIntervalMs() {
+        return rotationIntervalMs;
+    }
+
+    @Override
+    public boolean isAcceptLegacyHs256() {
+        return acceptLegacyHs256;
+    }
+
+    @Override
+    public List<ConfiguredKey> getKeys() {
+        return keys;
+    }
+}
@@ -3,4 +3,30 @@ package com.jgji.daily_condition_tracker.global.security.value;
 public interface PasswordProperties {
 
     String getPepper();
+
+    /**
+     * 새 해시에 사용할 알고리즘 식별자 (argon2id, pbkdf2-sha512, sha512)
+     */
+    String getAlgorithm();
+
+    int getSha512Iterations();
+
+    int getPbkdf2Iterations();
+
+    int getArgon2MemoryKib();
+
+    int getArgon2Iterations();
+
+    int getArgon2Parallelism();
+
+    /**
+     * 0 보다 크면 기동 시 해시 한 번이 이 시간에 맞도록 비용 파라미터를 보정
+     */
+    long getCalibrationTargetMs();
+
+    int getHashingThreads();
+
+    int getHashingQueueCapacity();
+
+    long getHashingTimeoutMs();
 }
@@ -2,18 +2,144 @@ package com.jgji.daily_condition_tracker.global.security.value;
 
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.security.password")
 class PasswordPropertiesImpl implements PasswordProperties {
 
     private final String pepper;
+    private final String algorithm;
+    private final Sha512 sha512;
+    private final Pbkdf2 pbkdf2;
+    private final Argon2 argon2;
+    private final Calibration calibration;
+    private final Hashing hashing;
 
-    public PasswordPropertiesImpl(String pepper) {
+    public PasswordPropertiesImpl(String pepper,
+                                  @DefaultValue("argon2id") String algorithm,
+                                  @DefaultValue Sha512 sha512,
+                                  @DefaultValue Pbkdf2 pbkdf2,
+                                  @DefaultValue Argon2 argon2,
+                                  @DefaultValue Calibration calibration,
+                                  @DefaultValue Hashing hashing) {
         this.pepper = pepper;
+        this.algorithm = algorithm;
+        this.sha512 = sha512;
+        this.pbkdf2 = pbkdf2;
+        this.argon2 = argon2;
+        this.calibration = calibration;
+        this.hashing = hashing;
     }
 
     @Override
     public String getPepper() {
         return pepper;
     }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public int getSha512Iterations() {
+        return sha512.iterations;
+    }
+
+    @Override
+    public int getPbkdf2Iterations() {
+        return pbkdf2.iterations;
+    }
+
+    @Override
+    public int getArgon2MemoryKib() {
+        return argon2.memoryKib;
+    }
+
+    @Override
+    public int getArgon2Iterations() {
+        return argon2.iterations;
+    }
+
+    @Override
+    public int getArgon2Parallelism() {
+        return argon2.parallelism;
+    }
+
+    @Override
+    public long getCalibrationTargetMs() {
+        return calibration.targetMs;
+    }
+
+    @Override
+    public int getHashingThreads() {
+        return hashing.threads > 0 ? hashing.threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public int getHashingQueueCapacity() {
+        return hashing.queueCapacity;
+    }
+
+    @Override
+    public long getHashingTimeoutMs() {
+        return hashing.timeoutMs;
+    }
+
+    private static class Sha512 {
+
+        private final int iterations;
+
+        public Sha512(@DefaultValue("100000") int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    private static class Pbkdf2 {
+
+        private final int iterations;
+
+        public Pbkdf2(@DefaultValue("210000") int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    private static class Argon2 {
+
+        private final int memoryKib;
+        private final int iterations;
+        private final int parallelism;
+
+        public Argon2(@DefaultValue("19456") int memoryKib,
+                      @DefaultValue("2") int iterations,
+                      @DefaultValue("1") int parallelism) {
+            this.memoryKib = memoryKib;
+            this.iterations = iterations;
+            this.parallelism = parallelism;
+        }
+    }
+
+    private static class Calibration {
+
+        private final long targetMs;
+
+        public Calibration(@DefaultValue("0") long targetMs) {
+            this.targetMs = targetMs;
+        }
+    }
+
+    private static class Hashing {
+
+        private final int threads;
+        private final int queueCapacity;
+        private final long timeoutMs;
+
+        public Hashing(@DefaultValue("0") int threads,
+                       @DefaultValue("64") int queueCapacity,
+                       @DefaultValue("3000") long timeoutMs) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.timeoutMs = timeoutMs;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package com.jgji.daily_condition_tracker.global.security.value;
+
+public interface RevocationProperties {
+
+    String getNodeId();
+
+    long getMaxPropagationMs();
+
+    long getFlushIntervalMs();
+
+    long getPollIntervalMs();
+
+    int getMaxPendingEvents();
+}
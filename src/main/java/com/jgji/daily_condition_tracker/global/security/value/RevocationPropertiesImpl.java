@@ -0,0 +1,64 @@
+package com.jgji.daily_condition_tracker.global.security.value;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+@ConfigurationProperties(prefix = "jwt.revocation")
+class RevocationPropertiesImpl implements RevocationProperties {
+
+    private final String nodeId;
+    private final long maxPropagationMs;
+    private final long flushIntervalMs;
+    private final long pollIntervalMs;
+    private final int maxPendingEvents;
+
+    public RevocationPropertiesImpl(String nodeId,
+                                    @DefaultValue("1000") long maxPropagationMs,
+                                    @DefaultValue("200") long flushIntervalMs,
+                                    @DefaultValue("200") long pollIntervalMs,
+                                    @DefaultValue("10000") int maxPendingEvents) {
+        if (flushIntervalMs <= 0 || pollIntervalMs <= 0) {
+            throw new IllegalArgumentException("jwt.revocation.flush-interval-ms 와 poll-interval-ms 는 0보다 커야 합니다.");
+        }
+        // 발행 노드의 flush 대기와 수신 노드의 poll 대기를 합친 값이 최대 전파 지연 안에 들어야 함
+        if (flushIntervalMs + pollIntervalMs >= maxPropagationMs) {
+            throw new IllegalArgumentException("jwt.revocation.flush-interval-ms 와 poll-interval-ms 의 합은 max-propagation-ms 보다 작아야 합니다.");
+        }
+        if (maxPendingEvents <= 0) {
+            throw new IllegalArgumentException("jwt.revocation.max-pending-events 는 0보다 커야 합니다.");
+        }
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.maxPropagationMs = maxPropagationMs;
+        this.flushIntervalMs = flushIntervalMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public long getMaxPropagationMs() {
+        return maxPropagationMs;
+    }
+
+    @Override
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    @Override
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    @Override
+    public int getMaxPendingEvents() {
+        return maxPendingEvents;
+    }
+}
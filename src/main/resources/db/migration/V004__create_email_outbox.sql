@@ -0,0 +1,21 @@
+-- V004: 이메일 발송 대기열(아웃박스) 테이블 추가
+-- 요청 트랜잭션에서는 발송 내용만 저장하고, SMTP 발송은 별도 워커가 일괄 처리하기 위함
+
+CREATE TABLE email_outbox (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    recipient VARCHAR(100) NOT NULL COMMENT '수신자 이메일',
+    subject VARCHAR(255) NOT NULL COMMENT '제목',
+    body TEXT NOT NULL COMMENT '본문',
+    status VARCHAR(20) NOT NULL COMMENT '발송 상태 (PENDING, SENT, DEAD)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    next_attempt_at TIMESTAMP(6) NOT NULL COMMENT '다음 발송 시도 시각',
+    last_error VARCHAR(500) NULL DEFAULT NULL COMMENT '마지막 발송 오류',
+    sent_at TIMESTAMP(6) NULL DEFAULT NULL COMMENT '발송 완료 시각',
+    created_at TIMESTAMP(6) NOT NULL COMMENT '생성 일시',
+    updated_at TIMESTAMP(6) NOT NULL COMMENT '수정 일시',
+    PRIMARY KEY (id),
+    -- 워커의 발송 대상 조회 (status = 'PENDING' AND next_attempt_at <= now)
+    INDEX idx_email_outbox_status_next_attempt (status ASC, next_attempt_at ASC),
+    -- 발송 완료 메일 정리
+    INDEX idx_email_outbox_status_sent_at (status ASC, sent_at ASC)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '이메일 발송 대기열';
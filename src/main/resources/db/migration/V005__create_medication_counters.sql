@@ -0,0 +1,17 @@
+-- V005: 사용자별 약 개수 카운터 테이블 추가
+-- 목록 조회 시 COUNT(*) 대신 추정 개수(count=estimated)를 제공하기 위함
+
+CREATE TABLE medication_counters (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    total_count BIGINT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 약 개수',
+    active_count BIGINT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 활성 약 개수',
+    updated_at TIMESTAMP(6) NOT NULL COMMENT '수정 일시',
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '사용자별 약 개수 카운터';
+
+-- 기존 데이터로 초기값 채우기
+INSERT INTO medication_counters (user_id, total_count, active_count, updated_at)
+SELECT user_id, COUNT(*), SUM(is_active), CURRENT_TIMESTAMP(6)
+FROM medications
+WHERE is_deleted = 0
+GROUP BY user_id;
@@ -0,0 +1,13 @@
+-- V006: 약 목록 조회용 복합 인덱스 추가
+-- 목록 조회는 (user_id, is_deleted, is_active) 로 필터링하고 정렬 컬럼 + medication_id 순으로 정렬되므로
+-- 정렬 컬럼별로 인덱스를 두어 filesort 없이 인덱스 순서대로 LIMIT 건만 읽도록 한다
+-- COUNT 쿼리는 (user_id, is_deleted, is_active) 접두사만으로 인덱스 안에서 처리된다
+-- V003 의 idx_user_not_deleted 는 활성 상태 필터가 없는 조회에서 계속 사용된다
+
+CREATE INDEX idx_user_active_medication_id ON medications (user_id ASC, is_deleted ASC, is_active ASC, medication_id ASC);
+
+CREATE INDEX idx_user_active_created_at ON medications (user_id ASC, is_deleted ASC, is_active ASC, created_at ASC, medication_id ASC);
+
+CREATE INDEX idx_user_active_updated_at ON medications (user_id ASC, is_deleted ASC, is_active ASC, updated_at ASC, medication_id ASC);
+
+CREATE INDEX idx_user_active_name ON medications (user_id ASC, is_deleted ASC, is_active ASC, name ASC, medication_id ASC);
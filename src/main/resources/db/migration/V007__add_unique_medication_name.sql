@@ -0,0 +1,41 @@
+-- V007: 사용자별 약 이름 유니크 제약 추가
+-- 수정 시 이름 중복 확인 쿼리 대신 DB 제약으로 중복을 막기 위함
+-- 삭제된 약은 같은 이름이 여러 건 있을 수 있으므로 is_deleted 대신 삭제되지 않은 행만 1, 삭제된 행은 NULL 인 가상 컬럼을 사용한다
+-- 이 제약부터 POST /api/v1/medications 도 이름이 중복되면 400 을 반환한다 (docs/medications/create-medication-api-design.md)
+
+-- 1. 기존 중복 데이터 확인
+-- 사용자 데이터는 스키마 마이그레이션에서 바꾸지 않는다. 아래 조회 결과가 있으면 2 단계에서 실패하므로
+-- 해당 사용자와 합의하여 이름을 바꾸거나 약을 삭제하는 데이터 수정을 별도로 검토/적용한 뒤 다시 실행한다
+SELECT user_id, name, COUNT(*) AS duplicates, GROUP_CONCAT(medication_id ORDER BY medication_id) AS medication_ids
+FROM medications
+WHERE is_deleted = 0
+GROUP BY user_id, name
+HAVING COUNT(*) > 1
+ORDER BY user_id, name;
+
+-- 2. 중복이 있으면 스키마를 바꾸기 전에 실패 (CHECK 제약 v007_no_duplicate_medication_names 위반)
+-- 임시 테이블은 세션이 끝나면 사라지며, 암묵적 커밋을 일으키지 않는다
+CREATE TEMPORARY TABLE v007_duplicate_medication_names (
+    conflicting_groups INT NOT NULL,
+    CONSTRAINT v007_no_duplicate_medication_names CHECK (conflicting_groups = 0)
+);
+
+INSERT INTO v007_duplicate_medication_names (conflicting_groups)
+SELECT COUNT(*)
+FROM (
+    SELECT 1
+    FROM medications
+    WHERE is_deleted = 0
+    GROUP BY user_id, name
+    HAVING COUNT(*) > 1
+) d;
+
+DROP TEMPORARY TABLE v007_duplicate_medication_names;
+
+-- 3. 삭제되지 않은 행 표시용 가상 컬럼
+ALTER TABLE medications
+ADD COLUMN is_alive TINYINT(1) GENERATED ALWAYS AS (IF(is_deleted = 0, 1, NULL)) VIRTUAL COMMENT '삭제되지 않은 약이면 1, 삭제된 약이면 NULL (유니크 제약용)';
+
+-- 4. 유니크 제약 (NULL 은 서로 충돌하지 않으므로 삭제된 약은 제외됨)
+ALTER TABLE medications
+ADD CONSTRAINT uk_medications_user_name_alive UNIQUE (user_id, name, is_alive);
@@ -0,0 +1,6 @@
+-- V008: 사용자별 약 목록 버전 추가
+-- 약 등록/수정/삭제 시마다 1씩 증가하며, 조회 응답의 ETag 로 사용된다
+-- If-None-Match 요청은 이 값만 PK 로 조회하여 약 테이블을 읽지 않고 304 를 반환한다
+
+ALTER TABLE medication_counters
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT '약 목록 버전' AFTER active_count;
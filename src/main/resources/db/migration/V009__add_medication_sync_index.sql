@@ -0,0 +1,6 @@
+-- V009: 약 변경분 동기화용 인덱스 추가
+-- GET /api/v1/medications/changes 는 사용자별로 (updated_at, medication_id) 위치 이후의 약을 삭제 여부와 관계없이 조회한다
+-- V003 의 소프트 삭제는 deleted_at 과 함께 updated_at 도 갱신하므로 삭제된 약도 이 인덱스로 tombstone 으로 조회된다
+-- medication_id 는 같은 updated_at 을 가진 약들 사이의 키셋 순서를 고정하기 위해 포함한다
+
+CREATE INDEX idx_user_updated_at ON medications (user_id ASC, updated_at ASC, medication_id ASC);
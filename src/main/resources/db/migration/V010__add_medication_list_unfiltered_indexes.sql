@@ -0,0 +1,15 @@
+-- V010: 활성 상태 필터가 없는 약 목록 조회용 복합 인덱스 추가
+-- 기본 목록 조회는 is_active 조건 없이 (user_id, is_deleted) 로만 필터링하므로
+-- V006 의 (user_id, is_deleted, is_active, 정렬 컬럼, medication_id) 인덱스로는 정렬 순서를 얻지 못해 filesort 가 발생한다
+-- 정렬 컬럼별로 is_active 를 뺀 인덱스를 두어 필터 유무와 관계없이 인덱스 순서대로 LIMIT 건만 읽도록 한다
+
+CREATE INDEX idx_user_not_deleted_medication_id ON medications (user_id ASC, is_deleted ASC, medication_id ASC);
+
+CREATE INDEX idx_user_not_deleted_created_at ON medications (user_id ASC, is_deleted ASC, created_at ASC, medication_id ASC);
+
+CREATE INDEX idx_user_not_deleted_updated_at ON medications (user_id ASC, is_deleted ASC, updated_at ASC, medication_id ASC);
+
+CREATE INDEX idx_user_not_deleted_name ON medications (user_id ASC, is_deleted ASC, name ASC, medication_id ASC);
+
+-- V003 의 (user_id, is_deleted) 인덱스는 idx_user_not_deleted_medication_id 의 접두사이므로 제거
+DROP INDEX idx_user_not_deleted ON medications;
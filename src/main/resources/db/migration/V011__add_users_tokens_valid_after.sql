@@ -0,0 +1,9 @@
+-- V011: 사용자별 토큰 폐기 기준 시각 추가
+-- 전체 로그아웃/비밀번호 재설정 시 요청 트랜잭션에서 기록하며, 이 시각(epoch ms) 이전에 발급된 토큰은 모두 무효
+-- 노드 메모리의 기준 시각은 이 값의 near-cache 이므로 재시작/배포 후에도 폐기된 리프레시 토큰이 되살아나지 않는다
+
+ALTER TABLE users
+    ADD COLUMN tokens_valid_after BIGINT NULL DEFAULT NULL COMMENT '토큰 폐기 기준 시각 (epoch ms)';
+
+-- 기동 시 보존 기간 안의 기준 시각만 읽어 메모리에 적재
+CREATE INDEX idx_users_tokens_valid_after ON users (tokens_valid_after ASC);
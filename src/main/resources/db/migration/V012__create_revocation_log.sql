@@ -0,0 +1,29 @@
+-- V012: 노드 간 토큰 폐기 전파용 로그 테이블 추가
+-- 각 노드는 flush 주기마다 폐기 이벤트를 묶어 기록하고, poll 주기마다 마지막으로 읽은 순번 이후의 로그를 읽는다
+-- AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로, 발행 트랜잭션이 revocation_sequence 행을 잠그고 받은 순번으로 읽는다
+
+CREATE TABLE revocation_sequence (
+    id TINYINT UNSIGNED NOT NULL,
+    seq BIGINT NOT NULL COMMENT '마지막으로 발행된 순번',
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '토큰 폐기 로그 발행 순번';
+
+INSERT INTO revocation_sequence (id, seq) VALUES (1, 0);
+
+CREATE TABLE revocation_log (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    seq BIGINT NOT NULL COMMENT '발행 순번, 커밋 순서와 같음',
+    origin_node_id VARCHAR(64) NOT NULL COMMENT '발행 노드 식별자',
+    kind VARCHAR(20) NOT NULL COMMENT '폐기 종류 (TOKEN, USER_EPOCH)',
+    digest_high BIGINT NULL DEFAULT NULL COMMENT '토큰 다이제스트 상위 64비트',
+    digest_low BIGINT NULL DEFAULT NULL COMMENT '토큰 다이제스트 하위 64비트',
+    user_id BIGINT NOT NULL DEFAULT 0 COMMENT '사용자 전체 폐기 대상 사용자 ID',
+    threshold_at BIGINT NOT NULL COMMENT '토큰 만료 시각 또는 사용자 토큰 폐기 기준 시각 (epoch ms)',
+    revoked_at BIGINT NOT NULL COMMENT '발행 노드에서 폐기된 시각 (epoch ms)',
+    expires_at BIGINT NOT NULL COMMENT '이 시각 이후에는 무효화할 토큰이 없어 정리 대상 (epoch ms)',
+    PRIMARY KEY (id),
+    -- 노드별 폴링 (seq, id) > (마지막 순번, 마지막 id)
+    INDEX idx_revocation_log_seq (seq ASC, id ASC),
+    -- 기동 스냅샷과 만료 로그 정리
+    INDEX idx_revocation_log_expires_at (expires_at ASC)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '토큰 폐기 전파 로그';
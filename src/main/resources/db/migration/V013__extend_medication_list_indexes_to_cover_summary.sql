@@ -0,0 +1,31 @@
+-- V013: 약 목록 인덱스에 요약 컬럼을 추가하여 커버링 인덱스로 변경
+-- 목록 조회(MedicationJpaRepository.SELECT_SUMMARY)는 medication_id, name, dosage, unit, is_active, created_at, updated_at 을 읽는데
+-- V006/V010 인덱스는 필터와 정렬 컬럼만 포함하여, 페이지마다 OFFSET + LIMIT 건을 클러스터 인덱스에서 다시 읽었다
+-- 정렬 순서 뒤에 나머지 요약 컬럼을 붙여 인덱스만 읽고 응답하도록 한다 (EXPLAIN Extra: Using index)
+-- 인덱스 이름과 앞부분 컬럼 순서는 그대로이므로 정렬과 COUNT 쿼리의 인덱스 사용은 바뀌지 않는다
+
+ALTER TABLE medications
+    DROP INDEX idx_user_active_medication_id,
+    ADD INDEX idx_user_active_medication_id (user_id ASC, is_deleted ASC, is_active ASC, medication_id ASC,
+                                             name, dosage, unit, created_at, updated_at),
+    DROP INDEX idx_user_active_created_at,
+    ADD INDEX idx_user_active_created_at (user_id ASC, is_deleted ASC, is_active ASC, created_at ASC, medication_id ASC,
+                                          name, dosage, unit, updated_at),
+    DROP INDEX idx_user_active_updated_at,
+    ADD INDEX idx_user_active_updated_at (user_id ASC, is_deleted ASC, is_active ASC, updated_at ASC, medication_id ASC,
+                                          name, dosage, unit, created_at),
+    DROP INDEX idx_user_active_name,
+    ADD INDEX idx_user_active_name (user_id ASC, is_deleted ASC, is_active ASC, name ASC, medication_id ASC,
+                                    dosage, unit, created_at, updated_at),
+    DROP INDEX idx_user_not_deleted_medication_id,
+    ADD INDEX idx_user_not_deleted_medication_id (user_id ASC, is_deleted ASC, medication_id ASC,
+                                                  name, dosage, unit, is_active, created_at, updated_at),
+    DROP INDEX idx_user_not_deleted_created_at,
+    ADD INDEX idx_user_not_deleted_created_at (user_id ASC, is_deleted ASC, created_at ASC, medication_id ASC,
+                                               name, dosage, unit, is_active, updated_at),
+    DROP INDEX idx_user_not_deleted_updated_at,
+    ADD INDEX idx_user_not_deleted_updated_at (user_id ASC, is_deleted ASC, updated_at ASC, medication_id ASC,
+                                               name, dosage, unit, is_active, created_at),
+    DROP INDEX idx_user_not_deleted_name,
+    ADD INDEX idx_user_not_deleted_name (user_id ASC, is_deleted ASC, name ASC, medication_id ASC,
+                                         dosage, unit, is_active, created_at, updated_at);
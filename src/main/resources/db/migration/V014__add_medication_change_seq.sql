@@ -0,0 +1,14 @@
+-- V014: 약 변경분 동기화 기준을 updated_at 에서 커밋 순서의 변경 순번(change_seq)으로 변경
+-- updated_at 은 문장 실행 시점의 애플리케이션 시각이라, 늦게 커밋된 변경이 이미 넘어간 워터마크보다 앞에 기록될 수 있었다
+-- 쓰기 트랜잭션은 약 행을 쓰기 전에 medication_counters.version 을 먼저 올리고, 그 값을 수정한 약 행의 change_seq 로 기록한다
+-- 카운터 행 잠금이 커밋까지 유지되어 같은 사용자의 쓰기가 직렬화되므로, 사용자별 change_seq 순서는 커밋 순서와 같다
+-- 기존 행은 0 으로 두며, 이후의 쓰기는 항상 1 이상의 버전을 받으므로 기존 행보다 뒤에 위치한다
+
+ALTER TABLE medications
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0 COMMENT '변경 순번 (쓰기 시점의 medication_counters.version)';
+
+-- 삭제 여부와 관계없이 (change_seq, medication_id) 위치 이후의 약을 인덱스 순서대로 읽음
+CREATE INDEX idx_user_change_seq ON medications (user_id ASC, change_seq ASC, medication_id ASC);
+
+-- V009 의 updated_at 기준 동기화 인덱스는 더 이상 사용하지 않음
+DROP INDEX idx_user_updated_at ON medications;
@@ -0,0 +1,80 @@
+package com.jgji.daily_condition_tracker.domain.auth.application;
+
+import com.jgji.daily_condition_tracker.fake.FakeJwtProperties;
+import com.jgji.daily_condition_tracker.fake.FakeUserRepository;
+import com.jgji.daily_condition_tracker.global.security.filter.JwtClaimsCache;
+import com.jgji.daily_condition_tracker.global.security.filter.JwtKeyring;
+import com.jgji.daily_condition_tracker.global.security.filter.JwtTokenProvider;
+import com.jgji.daily_condition_tracker.global.security.filter.VerifiedClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomUserDetailsServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private FakeUserRepository userRepository;
+    private CustomUserDetailsService customUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        FakeJwtProperties properties = new FakeJwtProperties("test-secret-key-for-custom-user-details-0123456", 60_000L);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                properties,
+                new JwtClaimsCache(new SimpleMeterRegistry()),
+                new JwtKeyring(properties, properties)
+        );
+        userRepository = new FakeUserRepository();
+        customUserDetailsService = new CustomUserDetailsService(userRepository, jwtTokenProvider);
+    }
+
+    @DisplayName("검증된 클레임으로 사용자 정보 생성")
+    @Nested
+    class LoadUserFromClaims {
+
+        @Test
+        @DisplayName("클레임 값으로 사용자 정보를 만들고 DB 를 조회하지 않는다")
+        void buildFromClaimsWithoutQuery() {
+            UserDetails userDetails = customUserDetailsService.loadUserFromClaims(claims(false));
+
+            assertThat(userDetails).isInstanceOf(CustomUserPrincipal.class);
+            CustomUserPrincipal principal = (CustomUserPrincipal) userDetails;
+            assertThat(principal.getUser().getUserId()).isEqualTo(1L);
+            assertThat(principal.getUsername()).isEqualTo("user@example.com");
+            assertThat(principal.getUser().getNickname()).isEqualTo("사용자");
+            assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER");
+            assertThat(userRepository.getQueryCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("관리자 클레임이면 관리자 권한을 함께 부여한다")
+        void superuserAuthority() {
+            UserDetails userDetails = customUserDetailsService.loadUserFromClaims(claims(true));
+
+            assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        }
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰으로는 사용자 정보를 만들지 않는다")
+    void rejectInvalidToken() {
+        assertThatThrownBy(() -> customUserDetailsService.loadUserFromToken("not-a-jwt"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private static VerifiedClaims claims(boolean isSuperuser) {
+        return new VerifiedClaims("user@example.com", 1L, "user@example.com", "사용자", isSuperuser,
+                "ROLE_USER", null, NOW, NOW + 60_000L);
+    }
+}
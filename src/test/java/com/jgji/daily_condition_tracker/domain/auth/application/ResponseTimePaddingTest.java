@@ -0,0 +1,60 @@
+package com.jgji.daily_condition_tracker.domain.auth.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseTimePaddingTest {
+
+    private static final long MINIMUM_MS = 100;
+
+    private final ResponseTimePadding padding = new ResponseTimePadding(MINIMUM_MS, 0);
+
+    @AfterEach
+    void tearDown() {
+        padding.close();
+    }
+
+    @DisplayName("시작 시각으로부터 최소 시간이 지난 뒤 완료")
+    @Test
+    void completesAfterMinimum() throws Exception {
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<Void> future = padding.padFrom(startedAt);
+
+        assertThat(future).isNotDone();
+        future.get(1, TimeUnit.SECONDS);
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(MINIMUM_MS));
+    }
+
+    @DisplayName("처리 시간이 이미 최소 시간을 넘었으면 즉시 완료")
+    @Test
+    void completesImmediatelyWhenAlreadyElapsed() {
+        long startedAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(MINIMUM_MS + 1);
+
+        CompletableFuture<Void> future = padding.padFrom(startedAt);
+
+        assertThat(future).isDone();
+    }
+
+    @DisplayName("대기 중인 요청 수와 관계없이 타이머 스레드 하나로 모두 완료")
+    @Test
+    void completesManyPendingRequests() throws Exception {
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            futures.add(padding.padFrom(startedAt));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlacklistBloomFilterTest {
+
+    @DisplayName("생성")
+    @Nested
+    class Create {
+
+        @Test
+        @DisplayName("예상 삽입 수가 0 이하면 예외가 발생한다")
+        void invalidExpectedInsertions() {
+            assertThatThrownBy(() -> BlacklistBloomFilter.create(0, 0.01))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("오탐률이 0과 1 사이가 아니면 예외가 발생한다")
+        void invalidFalsePositiveRate() {
+            assertThatThrownBy(() -> BlacklistBloomFilter.create(100, 1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("조회")
+    @Nested
+    class MightContain {
+
+        @Test
+        @DisplayName("등록된 다이제스트는 항상 양성으로 판정된다")
+        void noFalseNegatives() {
+            BlacklistBloomFilter filter = BlacklistBloomFilter.create(1_000, 0.01);
+            for (int i = 0; i < 1_000; i++) {
+                filter.put(TokenDigest.of("token-" + i));
+            }
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(filter.mightContain(TokenDigest.of("token-" + i))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 다이제스트의 오탐률은 목표치 근처에 머문다")
+        void falsePositiveRateWithinBound() {
+            BlacklistBloomFilter filter = BlacklistBloomFilter.create(1_000, 0.01);
+            for (int i = 0; i < 1_000; i++) {
+                filter.put(TokenDigest.of("token-" + i));
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain(TokenDigest.of("other-" + i))) {
+                    falsePositives++;
+                }
+            }
+
+            assertThat(falsePositives).isLessThan(300);
+        }
+
+        @Test
+        @DisplayName("예상 삽입 수에 도달하면 포화 상태가 된다")
+        void saturated() {
+            BlacklistBloomFilter filter = BlacklistBloomFilter.create(2, 0.01);
+            filter.put(TokenDigest.of("token-a"));
+            assertThat(filter.isSaturated()).isFalse();
+
+            filter.put(TokenDigest.of("token-b"));
+            assertThat(filter.isSaturated()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenRepositoryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long ONE_MINUTE = 60_000L;
+
+    private FakeClock clock;
+    private LocalTokenRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(NOW);
+        repository = new LocalTokenRepository(3, clock);
+    }
+
+    @DisplayName("블랙리스트 등록 및 조회")
+    @Nested
+    class AddAndLookup {
+
+        @Test
+        @DisplayName("등록된 토큰은 만료 전까지 블랙리스트로 조회된다")
+        void blacklistedUntilExpiry() {
+            TokenDigest digest = TokenDigest.of("token-a");
+
+            repository.addToBlacklist(digest, NOW + ONE_MINUTE);
+
+            assertThat(repository.isBlacklisted(digest)).isTrue();
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-b"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("토큰의 만료 시각이 지나면 블랙리스트에서 조회되지 않는다")
+        void notBlacklistedAfterExpiry() {
+            TokenDigest digest = TokenDigest.of("token-a");
+            repository.addToBlacklist(digest, NOW + ONE_MINUTE);
+
+            clock.advance(ONE_MINUTE);
+
+            assertThat(repository.isBlacklisted(digest)).isFalse();
+        }
+
+        @Test
+        @DisplayName("이미 만료된 토큰은 저장하지 않는다")
+        void ignoreExpiredToken() {
+            repository.addToBlacklist(TokenDigest.of("token-a"), NOW - 1);
+
+            assertThat(repository.size()).isZero();
+        }
+    }
+
+    @DisplayName("만료 항목 정리")
+    @Nested
+    class Sweep {
+
+        @Test
+        @DisplayName("만료 버킷이 지난 항목만 정리된다")
+        void sweepExpiredBuckets() {
+            repository.addToBlacklist(TokenDigest.of("token-a"), NOW + ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-b"), NOW + 10 * ONE_MINUTE);
+
+            clock.advance(2 * ONE_MINUTE);
+            repository.sweepExpired();
+
+            assertThat(repository.size()).isEqualTo(1);
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-b"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("경고 기준 크기에 도달하면 만료된 항목을 즉시 정리한다")
+        void removeExpiredWhenThresholdReached() {
+            repository.addToBlacklist(TokenDigest.of("token-a"), NOW + ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-b"), NOW + 5 * ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-c"), NOW + 10 * ONE_MINUTE);
+
+            clock.advance(2 * ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-d"), NOW + 20 * ONE_MINUTE);
+
+            assertThat(repository.size()).isEqualTo(3);
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-b"))).isTrue();
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-d"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("경고 기준 크기를 넘어도 만료되지 않은 토큰은 제거하지 않고 계속 거부한다")
+        void keepLiveEntriesOverThreshold() {
+            repository.addToBlacklist(TokenDigest.of("token-a"), NOW + ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-b"), NOW + 5 * ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-c"), NOW + 10 * ONE_MINUTE);
+
+            repository.addToBlacklist(TokenDigest.of("token-d"), NOW + 20 * ONE_MINUTE);
+            repository.addToBlacklist(TokenDigest.of("token-e"), NOW + 20 * ONE_MINUTE);
+            repository.sweepExpired();
+
+            assertThat(repository.size()).isEqualTo(5);
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-a"))).isTrue();
+            assertThat(repository.isBlacklisted(TokenDigest.of("token-e"))).isTrue();
+        }
+    }
+}
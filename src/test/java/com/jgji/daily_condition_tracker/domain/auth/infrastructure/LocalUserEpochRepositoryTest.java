@@ -0,0 +1,91 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.fake.FakeUserEpochRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalUserEpochRepositoryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long RETENTION_MS = 600_000L;
+
+    private FakeClock clock;
+    private FakeUserEpochRepository userEpochRepository;
+    private LocalUserEpochRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(NOW);
+        userEpochRepository = new FakeUserEpochRepository();
+        repository = new LocalUserEpochRepository(userEpochRepository, RETENTION_MS, clock);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 발급된 토큰만 폐기된 것으로 판정된다")
+    void revokedBeforeEpoch() {
+        repository.revokeIssuedBefore(1L, NOW);
+
+        assertThat(repository.isRevoked(1L, NOW - 1_000)).isTrue();
+        assertThat(repository.isRevoked(1L, NOW)).isFalse();
+        assertThat(repository.isRevoked(2L, NOW - 1_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("더 이른 기준 시각으로는 기존 기준 시각을 되돌릴 수 없다")
+    void keepLatestEpoch() {
+        repository.revokeIssuedBefore(1L, NOW);
+        repository.revokeIssuedBefore(1L, NOW - 10_000);
+
+        assertThat(repository.isRevoked(1L, NOW - 1_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 기준 시각은 정리된다")
+    void sweepExpiredEpochs() {
+        repository.revokeIssuedBefore(1L, NOW);
+        repository.revokeIssuedBefore(2L, NOW + RETENTION_MS);
+
+        clock.advance(RETENTION_MS);
+        repository.sweepExpired();
+
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.isRevoked(2L, NOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자는 영구 저장소의 기준 시각으로 판정한다")
+    void readThroughOnMiss() {
+        userEpochRepository.raise(1L, NOW);
+
+        LocalUserEpochRepository restarted = new LocalUserEpochRepository(userEpochRepository, RETENTION_MS, clock);
+
+        assertThat(restarted.isRevoked(1L, NOW - 1_000)).isTrue();
+        assertThat(restarted.isRevoked(1L, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각이 없는 사용자도 한 번만 영구 저장소를 조회한다")
+    void cacheMissingEpoch() {
+        assertThat(repository.isRevoked(1L, NOW)).isFalse();
+        assertThat(repository.isRevoked(1L, NOW)).isFalse();
+
+        assertThat(userEpochRepository.getFindCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 시 보존 기간 안의 기준 시각만 적재하고 조회 시 영구 저장소를 다시 읽지 않는다")
+    void loadSnapshotWithinRetention() {
+        userEpochRepository.raise(1L, NOW);
+        userEpochRepository.raise(2L, NOW - RETENTION_MS);
+
+        repository.loadSnapshot();
+
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.isRevoked(1L, NOW - 1_000)).isTrue();
+        assertThat(userEpochRepository.getFindCount()).isZero();
+    }
+}
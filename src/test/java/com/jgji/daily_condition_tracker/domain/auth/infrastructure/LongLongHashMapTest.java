@@ -0,0 +1,68 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("저장하지 않은 키는 NO_VALUE 를 반환한다")
+    void missingKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThat(map.get(1L)).isEqualTo(LongLongHashMap.NO_VALUE);
+    }
+
+    @Test
+    @DisplayName("기존 값이 있으면 merger 결과로 갱신된다")
+    void mergeExisting() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.merge(1L, 100L, Math::max);
+        map.merge(1L, 50L, Math::max);
+
+        assertThat(map.get(1L)).isEqualTo(100L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘게 저장해도 모든 키를 조회할 수 있다")
+    void growBeyondInitialCapacity() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long key = 1; key <= 1_000; key++) {
+            map.merge(key, key * 10, Math::max);
+        }
+
+        assertThat(map.size()).isEqualTo(1_000);
+        for (long key = 1; key <= 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목만 제거되고 나머지는 조회된다")
+    void removeIf() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long key = 1; key <= 100; key++) {
+            map.merge(key, key, Math::max);
+        }
+
+        int removed = map.removeIf((key, value) -> value % 2 == 0);
+
+        assertThat(removed).isEqualTo(50);
+        assertThat(map.size()).isEqualTo(50);
+        assertThat(map.get(2L)).isEqualTo(LongLongHashMap.NO_VALUE);
+        assertThat(map.get(99L)).isEqualTo(99L);
+    }
+
+    @Test
+    @DisplayName("키 0 은 저장할 수 없다")
+    void reservedKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThatThrownBy(() -> map.merge(0L, 1L, Math::max))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.global.security.filter.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBroadcasterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long MAX_PROPAGATION_MS = 1_000L;
+    private static final int MAX_PENDING_EVENTS = 2;
+
+    private FakeClock clock;
+    private InProcessRevocationTransport transport;
+    private RevocationBroadcaster nodeA;
+    private RevocationBroadcaster nodeB;
+    private List<RevocationEvent> receivedByA;
+    private List<RevocationEvent> receivedByB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InProcessRevocationTransport();
+        clock = new FakeClock(NOW);
+        nodeA = new RevocationBroadcaster(transport, "node-a", MAX_PROPAGATION_MS, MAX_PENDING_EVENTS, new SimpleMeterRegistry(), clock);
+        nodeB = new RevocationBroadcaster(transport, "node-b", MAX_PROPAGATION_MS, MAX_PENDING_EVENTS, new SimpleMeterRegistry(), clock);
+        receivedByA = new ArrayList<>();
+        receivedByB = new ArrayList<>();
+        nodeA.subscribe(receivedByA::add);
+        nodeB.subscribe(receivedByB::add);
+    }
+
+    @Test
+    @DisplayName("flush 전에는 다른 노드로 이벤트가 전파되지 않는다")
+    void notPublishedBeforeFlush() {
+        nodeA.enqueueToken(TokenDigest.of("token-a"), NOW + 60_000);
+
+        assertThat(receivedByB).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush 하면 다른 노드에만 이벤트가 전달된다")
+    void publishedToOtherNodesOnly() {
+        TokenDigest digest = TokenDigest.of("token-a");
+        nodeA.enqueueToken(digest, NOW + 60_000);
+
+        nodeA.flush();
+
+        assertThat(receivedByA).isEmpty();
+        assertThat(receivedByB).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.originNodeId()).isEqualTo("node-a");
+                    assertThat(event.kind()).isEqualTo(RevocationEvent.Kind.TOKEN);
+                    assertThat(event.digest()).isEqualTo(digest);
+                    assertThat(event.thresholdMillis()).isEqualTo(NOW + 60_000);
+                });
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기 이벤트는 사용자 ID 와 기준 시각을 전달한다")
+    void publishUserEpoch() {
+        nodeA.enqueueUserEpoch(42L, NOW + 1_000);
+
+        nodeA.flush();
+
+        assertThat(receivedByB).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.kind()).isEqualTo(RevocationEvent.Kind.USER_EPOCH);
+                    assertThat(event.userId()).isEqualTo(42L);
+                    assertThat(event.thresholdMillis()).isEqualTo(NOW + 1_000);
+                });
+    }
+
+    @Test
+    @DisplayName("한 번 발행된 이벤트는 다음 flush 에서 다시 발행되지 않는다")
+    void notRepublished() {
+        nodeA.enqueueToken(TokenDigest.of("token-a"), NOW + 60_000);
+        nodeA.flush();
+        nodeA.flush();
+
+        assertThat(receivedByB).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발행 대기열이 가득 차면 넘치는 이벤트는 버리고 집계한다")
+    void dropWhenPendingIsFull() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RevocationBroadcaster node = new RevocationBroadcaster(transport, "node-c", MAX_PROPAGATION_MS, MAX_PENDING_EVENTS, meterRegistry, clock);
+
+        for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
+            node.enqueueToken(TokenDigest.of("token-" + i), NOW + 60_000);
+        }
+        node.flush();
+
+        assertThat(receivedByB).hasSize(MAX_PENDING_EVENTS);
+        assertThat(meterRegistry.get("auth.revocation.events").tag("direction", "dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 이벤트가 최대 전파 지연보다 오래 남으면 지연 허용치를 넘는다")
+    void publishLagExceedsBound() {
+        RevocationBroadcaster node = new RevocationBroadcaster(new FailingTransport(Long.MAX_VALUE), "node-c", MAX_PROPAGATION_MS, MAX_PENDING_EVENTS,
+                new SimpleMeterRegistry(), clock);
+        node.enqueueToken(TokenDigest.of("token-a"), NOW + 60_000);
+
+        clock.advance(MAX_PROPAGATION_MS + 1);
+        node.flush();
+
+        assertThat(node.propagationLagMillis()).isGreaterThan(MAX_PROPAGATION_MS);
+    }
+
+    @Test
+    @DisplayName("수신 동기화가 밀리면 대기 중인 이벤트가 없어도 지연 허용치를 넘는다")
+    void receiveLagExceedsBound() {
+        FailingTransport stale = new FailingTransport(NOW);
+        RevocationBroadcaster node = new RevocationBroadcaster(stale, "node-c", MAX_PROPAGATION_MS, MAX_PENDING_EVENTS,
+                new SimpleMeterRegistry(), clock);
+
+        assertThat(node.propagationLagMillis()).isZero();
+
+        clock.advance(MAX_PROPAGATION_MS + 1);
+
+        assertThat(node.propagationLagMillis()).isEqualTo(MAX_PROPAGATION_MS + 1);
+    }
+
+    @Test
+    @DisplayName("동기 전달 전송은 대기 중인 이벤트가 없으면 지연이 없다")
+    void inProcessHasNoReceiveLag() {
+        clock.advance(10 * MAX_PROPAGATION_MS);
+
+        assertThat(nodeA.propagationLagMillis()).isZero();
+    }
+
+    // 발행은 항상 실패하고, 마지막 동기화 시각이 고정된 전송
+    private static class FailingTransport implements RevocationTransport {
+
+        private final long lastSyncedAtMillis;
+
+        FailingTransport(long lastSyncedAtMillis) {
+            this.lastSyncedAtMillis = lastSyncedAtMillis;
+        }
+
+        @Override
+        public void publish(List<RevocationEvent> events) {
+            throw new IllegalStateException("publish failed");
+        }
+
+        @Override
+        public void subscribe(Consumer<RevocationEvent> listener) {
+        }
+
+        @Override
+        public long lastSyncedAtMillis() {
+            return lastSyncedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jgji.daily_condition_tracker.domain.auth.infrastructure;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.fake.FakeUserEpochRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRepositoryImplTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long ONE_MINUTE = 60_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakeUserEpochRepository userEpochRepository;
+    private TokenRepositoryImpl tokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        FakeClock clock = new FakeClock(NOW);
+        userEpochRepository = new FakeUserEpochRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRepository = new TokenRepositoryImpl(
+                new LocalTokenRepository(2, clock),
+                new LocalUserEpochRepository(userEpochRepository, ONE_MINUTE, clock),
+                userEpochRepository,
+                new RevocationBroadcaster(new InProcessRevocationTransport(), "node-a", 1_000, 100, meterRegistry, clock),
+                meterRegistry,
+                clock
+        );
+    }
+
+    @Test
+    @DisplayName("블랙리스트가 경고 기준 크기를 넘어도 먼저 폐기된 만료 전 토큰은 계속 거부된다")
+    void earliestRevocationSurvivesOverThreshold() {
+        tokenRepository.addToBlacklist("token-a", NOW + ONE_MINUTE);
+        for (int i = 0; i < 10; i++) {
+            tokenRepository.addToBlacklist("token-" + i, NOW + 10 * ONE_MINUTE);
+        }
+
+        assertThat(tokenRepository.isBlacklisted("token-a")).isTrue();
+        assertThat(meterRegistry.get("auth.blacklist.entries").gauge().value()).isEqualTo(11.0);
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기 기준 시각은 영구 저장소에 기록된다")
+    void revokeAllForUserPersistsEpoch() {
+        tokenRepository.revokeAllForUser(1L);
+
+        assertThat(userEpochRepository.findByUserId(1L)).hasValue(NOW + 1_000);
+        assertThat(tokenRepository.isRevokedForUser(1L, NOW)).isTrue();
+    }
+}
@@ -0,0 +1,224 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkOperation;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkOperation.Type;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationBulkResult;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationCreateRequest;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationSummaryResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageRequest;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationBatchRepository;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationCounterRepository;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MedicationBulkServiceTest {
+
+    private FakeMedicationRepository medicationRepository;
+    private FakeMedicationBatchRepository medicationBatchRepository;
+    private FakeMedicationCounterRepository medicationCounterRepository;
+    private MedicationService medicationService;
+    private MedicationBulkService medicationBulkService;
+
+    @BeforeEach
+    void setUp() {
+        medicationRepository = new FakeMedicationRepository();
+        medicationBatchRepository = new FakeMedicationBatchRepository(medicationRepository);
+        medicationCounterRepository = new FakeMedicationCounterRepository(medicationRepository);
+        MedicationCountCache medicationCountCache = new MedicationCountCache();
+        MedicationListCache medicationListCache = new MedicationListCache();
+        medicationService = new MedicationService(medicationRepository, medicationCounterRepository,
+                medicationCountCache, medicationListCache);
+        medicationBulkService = new MedicationBulkService(medicationBatchRepository, medicationCounterRepository,
+                medicationCountCache, medicationListCache, Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @DisplayName("일괄 처리 성공")
+    @Nested
+    class Success {
+
+        @DisplayName("등록/수정/삭제를 함께 처리하고 작업별 결과를 요청 순서대로 반환")
+        @Test
+        void applyMixedOperations() {
+            long aspirinId = createMedication("아스피린", true);
+            long tylenolId = createMedication("타이레놀", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, List.of(
+                    create("비타민C", true),
+                    update(aspirinId, JsonNullable.undefined(), JsonNullable.of(false)),
+                    delete(tylenolId)
+            ));
+
+            assertThat(response.succeeded()).isEqualTo(3);
+            assertThat(response.failed()).isZero();
+            assertThat(response.results()).extracting(MedicationBulkResult::index).containsExactly(0, 1, 2);
+            assertThat(response.results()).extracting(MedicationBulkResult::status).containsExactly(201, 200, 204);
+            assertThat(response.results().get(0).medicationId()).isNotNull();
+
+            assertThat(medicationRepository.findByIdAndUserId(aspirinId, 1L))
+                    .hasValueSatisfying(medication -> assertThat(medication.isActive()).isFalse());
+            assertThat(medicationRepository.findByIdAndUserId(tylenolId, 1L)).isEmpty();
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isEqualTo(2);
+            assertThat(medicationCounterRepository.findByUserId(1L).activeCount()).isEqualTo(1);
+        }
+
+        @DisplayName("작업 수와 관계없이 종류별로 한 번씩만 배치로 전송")
+        @Test
+        void sendOneBatchPerOperationType() {
+            List<MedicationBulkOperation> operations = IntStream.range(0, 500)
+                    .mapToObj(i -> create("약-" + i, i % 2 == 0))
+                    .toList();
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, operations);
+
+            assertThat(response.succeeded()).isEqualTo(500);
+            assertThat(medicationBatchRepository.getBatchCalls()).isEqualTo(1);
+            assertThat(medicationCounterRepository.findByUserId(1L).activeCount()).isEqualTo(250);
+        }
+
+        @DisplayName("같은 요청에서 삭제한 약의 이름으로 등록 가능")
+        @Test
+        void createWithNameFreedByDelete() {
+            long aspirinId = createMedication("아스피린", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, List.of(
+                    delete(aspirinId),
+                    create("아스피린", false)
+            ));
+
+            assertThat(response.results()).extracting(MedicationBulkResult::status).containsExactly(204, 201);
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isEqualTo(1);
+            assertThat(medicationCounterRepository.findByUserId(1L).activeCount()).isZero();
+        }
+
+        @DisplayName("수정 후 같은 요청에서 삭제하면 삭제만 실행")
+        @Test
+        void updateThenDelete() {
+            long aspirinId = createMedication("아스피린", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, List.of(
+                    update(aspirinId, JsonNullable.of("타이레놀"), JsonNullable.of(false)),
+                    delete(aspirinId)
+            ));
+
+            assertThat(response.results()).extracting(MedicationBulkResult::status).containsExactly(200, 204);
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isZero();
+            assertThat(medicationCounterRepository.findByUserId(1L).activeCount()).isZero();
+        }
+
+        @DisplayName("일괄 처리 후에는 목록 캐시가 무효화됨")
+        @Test
+        void evictListCache() {
+            long aspirinId = createMedication("아스피린", true);
+            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "asc", MedicationSortKeys.REGISTRY);
+            medicationService.findMedicationsByUserId(1L, pageRequest, null);
+
+            medicationBulkService.applyOperations(1L, List.of(
+                    delete(aspirinId),
+                    create("비타민C", true)
+            ));
+
+            assertThat(medicationService.findMedicationsByUserId(1L, pageRequest, null).content())
+                    .extracting(MedicationSummaryResponse::name)
+                    .containsExactly("비타민C");
+        }
+    }
+
+    @DisplayName("작업별 실패")
+    @Nested
+    class Failure {
+
+        @DisplayName("실패한 작업만 결과에 표시되고 나머지 작업은 반영됨")
+        @Test
+        void partialFailure() {
+            long aspirinId = createMedication("아스피린", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, List.of(
+                    create("비타민C", true),
+                    create("비타민c", true),
+                    update(999L, JsonNullable.of("오메가3"), JsonNullable.undefined()),
+                    update(aspirinId, JsonNullable.of("비타민C"), JsonNullable.undefined()),
+                    delete(999L),
+                    new MedicationBulkOperation(Type.UPDATE, aspirinId, null, null),
+                    new MedicationBulkOperation(Type.CREATE, null, null, null)
+            ));
+
+            assertThat(response.succeeded()).isEqualTo(1);
+            assertThat(response.failed()).isEqualTo(6);
+            assertThat(response.results()).extracting(MedicationBulkResult::status)
+                    .containsExactly(201, 400, 404, 400, 404, 400, 400);
+            assertThat(response.results().get(1).message()).contains("이미 동일한 이름의 약물이 존재합니다");
+            assertThat(response.results().get(3).message()).contains("이미 동일한 이름의 약물이 존재합니다");
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isEqualTo(2);
+        }
+
+        @DisplayName("요청 제약을 위반한 작업만 400 으로 응답하고 나머지 작업은 반영됨")
+        @Test
+        void invalidOperationFailsAlone() {
+            long aspirinId = createMedication("아스피린", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(1L, Arrays.asList(
+                    create(" ", true),
+                    create("비타민C", true),
+                    update(aspirinId, JsonNullable.of("가".repeat(101)), JsonNullable.undefined()),
+                    null,
+                    new MedicationBulkOperation(null, aspirinId, null, null),
+                    update(aspirinId, JsonNullable.undefined(), JsonNullable.of(false))
+            ));
+
+            assertThat(response.results()).extracting(MedicationBulkResult::status)
+                    .containsExactly(400, 201, 400, 400, 400, 200);
+            assertThat(response.results()).extracting(MedicationBulkResult::index)
+                    .containsExactly(0, 1, 2, 3, 4, 5);
+            assertThat(response.results().get(0).message()).isEqualTo("약 이름은 필수입니다.");
+            assertThat(response.results().get(2).message()).isEqualTo("약물 이름은 100자를 초과할 수 없습니다.");
+            assertThat(response.results().get(3).message()).isEqualTo("작업 종류는 필수입니다.");
+            assertThat(medicationRepository.findByIdAndUserId(aspirinId, 1L))
+                    .hasValueSatisfying(medication -> {
+                        assertThat(medication.getName()).isEqualTo("아스피린");
+                        assertThat(medication.isActive()).isFalse();
+                    });
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isEqualTo(2);
+        }
+
+        @DisplayName("다른 사용자의 약은 찾을 수 없음")
+        @Test
+        void otherUsersMedication() {
+            long aspirinId = createMedication("아스피린", true);
+
+            MedicationBulkResponse response = medicationBulkService.applyOperations(2L, List.of(delete(aspirinId)));
+
+            assertThat(response.results()).extracting(MedicationBulkResult::status).containsExactly(404);
+            assertThat(medicationRepository.findByIdAndUserId(aspirinId, 1L)).isPresent();
+        }
+    }
+
+    private long createMedication(String name, boolean isActive) {
+        return medicationService.createMedication(1L, new MedicationCreateRequest(name, 500, "mg", null, isActive)).medicationId();
+    }
+
+    private MedicationBulkOperation create(String name, boolean isActive) {
+        return new MedicationBulkOperation(Type.CREATE, null, new MedicationCreateRequest(name, 500, "mg", null, isActive), null);
+    }
+
+    private MedicationBulkOperation update(long medicationId, JsonNullable<String> name, JsonNullable<Boolean> isActive) {
+        return new MedicationBulkOperation(Type.UPDATE, medicationId, null, new MedicationUpdateRequest(
+                name, JsonNullable.undefined(), JsonNullable.undefined(), JsonNullable.undefined(), isActive));
+    }
+
+    private MedicationBulkOperation delete(long medicationId) {
+        return new MedicationBulkOperation(Type.DELETE, medicationId, null, null);
+    }
+}
@@ -1,15 +1,24 @@
 package com.jgji.daily_condition_tracker.domain.medication.application;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationCreateRequest;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationSummaryResponse;
 import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationCounterRepository;
 import com.jgji.daily_condition_tracker.fake.FakeMedicationRepository;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.ApiResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CountMode;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.CursorPageResponse;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageRequest;
 import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponseStreamWriter;
+import com.jgji.daily_condition_tracker.global.config.JacksonConfig;
 import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
 import com.jgji.daily_condition_tracker.global.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +31,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openapitools.jackson.nullable.JsonNullable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -31,13 +44,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class MedicationServiceTest {
 
     private FakeMedicationRepository medicationRepository;
+    private FakeMedicationCounterRepository medicationCounterRepository;
     private MedicationService medicationService;
     private FixtureMonkey fixtureMonkey;
 
     @BeforeEach
     void setUp() {
         medicationRepository = new FakeMedicationRepository();
-        medicationService = new MedicationService(medicationRepository);
+        medicationCounterRepository = new FakeMedicationCounterRepository(medicationRepository);
+        medicationService = new MedicationService(medicationRepository, medicationCounterRepository,
+                new MedicationCountCache(), new MedicationListCache());
         fixtureMonkey = FixtureMonkey.builder()
                 .objectIntrospector(BuilderArbitraryIntrospector.INSTANCE)
                 .build();
@@ -113,7 +129,7 @@ class MedicationServiceTest {
         @ParameterizedTest(name = "{index} => 페이지={0}, 조회된 데이터 갯수={1}")
         @MethodSource("pageRequestScenarios")
         void findAllMedicationsByUserId(int page, int size) {
-            PageRequest pageRequest = PageRequest.of(page, size, "medicationId", "desc");
+            PageRequest pageRequest = PageRequest.of(page, size, "medicationId", "desc", MedicationSortKeys.REGISTRY);
 
             PageResponse<MedicationSummaryResponse> response = 
                     medicationService.findMedicationsByUserId(1L, pageRequest, null);
@@ -136,7 +152,7 @@ class MedicationServiceTest {
         @ParameterizedTest(name = "{index} => 활성상태={0}, 예상개수={1}")
         @MethodSource("activeStatusScenarios")
         void findMedicationsByActiveStatus(Boolean isActive, int expectedCount) {
-            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "desc");
+            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "desc", MedicationSortKeys.REGISTRY);
 
             PageResponse<MedicationSummaryResponse> response = 
                     medicationService.findMedicationsByUserId(1L, pageRequest, isActive);
@@ -159,7 +175,7 @@ class MedicationServiceTest {
         @Test
         @DisplayName("다른 사용자 약물은 조회되지 않음")
         void findMedicationsForDifferentUser() {
-            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "desc");
+            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "desc", MedicationSortKeys.REGISTRY);
 
             PageResponse<MedicationSummaryResponse> response = 
                     medicationService.findMedicationsByUserId(999L, pageRequest, null);
@@ -169,6 +185,433 @@ class MedicationServiceTest {
         }
     }
 
+    @DisplayName("약물 목록 개수 계산 방식")
+    @Nested
+    class CountModes {
+
+        private final PageRequest pageRequest = PageRequest.of(0, 2, "medicationId", "desc", MedicationSortKeys.REGISTRY);
+
+        @BeforeEach
+        void setUpMedications() {
+            // 목록 캐시를 사용하지 않는 사용자의 DB 조회 경로 검증
+            medicationService = new MedicationService(medicationRepository, medicationCounterRepository,
+                    new MedicationCountCache(), new MedicationListCache(0));
+            medicationRepository.clear();
+            medicationCounterRepository.clear();
+            createMedication("아스피린", true);
+            createMedication("타이레놀", false);
+            createMedication("비타민C", true);
+        }
+
+        @DisplayName("EXACT - 캐시된 개수가 있으면 COUNT 쿼리를 다시 실행하지 않음")
+        @Test
+        void exactCountIsCached() {
+            PageResponse<MedicationSummaryResponse> first =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, null, CountMode.EXACT);
+            int countQueriesAfterFirst = medicationRepository.getCountQueries();
+            PageResponse<MedicationSummaryResponse> second =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, null, CountMode.EXACT);
+
+            assertThat(first.totalElements()).isEqualTo(3);
+            assertThat(second.totalElements()).isEqualTo(3);
+            assertThat(second.last()).isFalse();
+            assertThat(medicationRepository.getCountQueries()).isEqualTo(countQueriesAfterFirst);
+        }
+
+        @DisplayName("EXACT - 등록/삭제 후에는 캐시가 무효화되어 새 개수를 반환")
+        @Test
+        void exactCountIsEvictedOnWrite() {
+            medicationService.findMedicationsByUserId(1L, pageRequest, true, CountMode.EXACT);
+
+            MedicationResponse created = createMedication("오메가3", true);
+            PageResponse<MedicationSummaryResponse> afterCreate =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, true, CountMode.EXACT);
+            medicationService.deleteMedication(1L, created.medicationId());
+            PageResponse<MedicationSummaryResponse> afterDelete =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, true, CountMode.EXACT);
+
+            assertThat(afterCreate.totalElements()).isEqualTo(3);
+            assertThat(afterDelete.totalElements()).isEqualTo(2);
+        }
+
+        @DisplayName("EXACT - 다른 노드의 쓰기로 목록 버전이 바뀌면 캐시된 개수를 사용하지 않음")
+        @Test
+        void exactCountIsRecountedWhenVersionChanges() {
+            medicationService.findMedicationsByUserId(1L, pageRequest, true, CountMode.EXACT);
+
+            // 이 노드의 캐시를 무효화하지 않는 쓰기
+            medicationRepository.save(Medication.create(1L, "오메가3", 500, "mg", null, true));
+            medicationCounterRepository.increment(1L, 1, 1);
+            Versioned<PageResponse<MedicationSummaryResponse>> afterWrite =
+                    medicationService.findVersionedMedicationsByUserId(1L, pageRequest, true, CountMode.EXACT);
+
+            assertThat(afterWrite.value().totalElements()).isEqualTo(3);
+            assertThat(afterWrite.version()).isEqualTo(medicationService.findVersion(1L));
+        }
+
+        @DisplayName("ESTIMATED - 카운터 값을 사용하고 COUNT 쿼리를 실행하지 않음")
+        @ParameterizedTest(name = "{index} => 활성상태={0}, 예상개수={1}")
+        @MethodSource("estimatedScenarios")
+        void estimatedCountFromCounter(Boolean isActive, long expectedCount) {
+            PageResponse<MedicationSummaryResponse> response =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, isActive, CountMode.ESTIMATED);
+
+            assertThat(response.totalElements()).isEqualTo(expectedCount);
+            assertThat(medicationRepository.getCountQueries()).isZero();
+        }
+
+        static Stream<Arguments> estimatedScenarios() {
+            return Stream.of(
+                    Arguments.of(null, 3L),
+                    Arguments.of(true, 2L),
+                    Arguments.of(false, 1L)
+            );
+        }
+
+        @DisplayName("ESTIMATED - 활성 상태 변경과 삭제가 카운터에 반영됨")
+        @Test
+        void estimatedCountFollowsUpdatesAndDeletes() {
+            MedicationResponse created = createMedication("오메가3", true);
+            medicationService.updateMedication(1L, created.medicationId(), new MedicationUpdateRequest(
+                    JsonNullable.undefined(), JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.of(false)));
+
+            assertThat(medicationService.findMedicationsByUserId(1L, pageRequest, false, CountMode.ESTIMATED).totalElements())
+                    .isEqualTo(2);
+
+            medicationService.deleteMedication(1L, created.medicationId());
+
+            assertThat(medicationService.findMedicationsByUserId(1L, pageRequest, null, CountMode.ESTIMATED).totalElements())
+                    .isEqualTo(3);
+            assertThat(medicationService.findMedicationsByUserId(1L, pageRequest, false, CountMode.ESTIMATED).totalElements())
+                    .isEqualTo(1);
+        }
+
+        @DisplayName("NONE - 개수 없이 다음 페이지 존재 여부만 반환")
+        @Test
+        void noCount() {
+            PageResponse<MedicationSummaryResponse> firstPage =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, null, CountMode.NONE);
+            PageResponse<MedicationSummaryResponse> lastPage =
+                    medicationService.findMedicationsByUserId(1L, PageRequest.of(1, 2, "medicationId", "desc", MedicationSortKeys.REGISTRY), null, CountMode.NONE);
+
+            assertThat(firstPage.totalElements()).isNull();
+            assertThat(firstPage.totalPages()).isNull();
+            assertThat(firstPage.last()).isFalse();
+            assertThat(lastPage.content()).hasSize(1);
+            assertThat(lastPage.last()).isTrue();
+            assertThat(medicationRepository.getCountQueries()).isZero();
+        }
+
+        @DisplayName("지원하지 않는 count 값은 예외 발생")
+        @ParameterizedTest(name = "{index} => count={0}")
+        @ValueSource(strings = {"", "approximate", "all"})
+        void invalidCountMode(String count) {
+            assertThatThrownBy(() -> CountMode.from(count))
+                    .isInstanceOf(BusinessRuleViolationException.class);
+        }
+
+        private MedicationResponse createMedication(String name, boolean isActive) {
+            return medicationService.createMedication(1L, new MedicationCreateRequest(name, 500, "mg", null, isActive));
+        }
+    }
+
+    @DisplayName("약물 목록 스트리밍 조회")
+    @Nested
+    class StreamMedications {
+
+        private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+        @BeforeEach
+        void setUpMedications() {
+            medicationRepository.clear();
+            medicationRepository.saveAll(List.of(
+                    createTestMedication(1L, "아스피린", true),
+                    createTestMedication(1L, "타이레놀", false),
+                    createTestMedication(1L, "비타민C", true),
+                    createTestMedication(2L, "오메가3", true)
+            ));
+        }
+
+        @DisplayName("일반 목록 조회와 같은 응답을 스트리밍으로 씀")
+        @ParameterizedTest(name = "{index} => 페이지={0}, 크기={1}, 활성상태={2}, count={3}")
+        @MethodSource("streamScenarios")
+        void streamsSameResponseAsList(int page, int size, Boolean isActive, CountMode countMode) throws IOException {
+            PageRequest pageRequest = PageRequest.of(page, size, "name", "asc", MedicationSortKeys.REGISTRY);
+            PageResponse<MedicationSummaryResponse> expected =
+                    medicationService.findMedicationsByUserId(1L, pageRequest, isActive, countMode);
+
+            JsonNode streamed = objectMapper.readTree(stream(pageRequest, isActive, countMode));
+
+            assertThat(streamed).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(ApiResponse.success(expected))));
+        }
+
+        static Stream<Arguments> streamScenarios() {
+            return Stream.of(
+                    Arguments.of(0, 2, null, CountMode.EXACT),
+                    Arguments.of(1, 2, null, CountMode.EXACT),
+                    Arguments.of(0, 10, true, CountMode.EXACT),
+                    Arguments.of(0, 2, null, CountMode.NONE),
+                    Arguments.of(5, 2, false, CountMode.NONE)
+            );
+        }
+
+        @DisplayName("큰 페이지는 STREAM_CHUNK_SIZE 건씩 나누어 조회해도 중복/누락 없이 씀")
+        @Test
+        void streamsLargePageInChunks() throws IOException {
+            medicationRepository.clear();
+            List<Medication> medications = new ArrayList<>();
+            for (int i = 0; i < MedicationService.STREAM_CHUNK_SIZE * 2 + 1; i++) {
+                medications.add(Medication.create(1L, "약" + i, 500, "mg", null, true));
+            }
+            medicationRepository.saveAll(medications);
+            PageRequest pageRequest = PageRequest.of(0, MedicationService.STREAM_CHUNK_SIZE * 2, "medicationId", "asc", MedicationSortKeys.REGISTRY);
+
+            JsonNode streamed = objectMapper.readTree(stream(pageRequest, null, CountMode.NONE));
+
+            List<Long> medicationIds = new ArrayList<>();
+            streamed.path("data").path("content").forEach(node -> medicationIds.add(node.path("medication_id").asLong()));
+            assertThat(medicationIds).hasSize(MedicationService.STREAM_CHUNK_SIZE * 2).doesNotHaveDuplicates().isSorted();
+            assertThat(streamed.path("data").path("last").asBoolean()).isFalse();
+            // 500 + 500 건을 읽은 뒤 다음 페이지 확인용 1 건을 한 번 더 읽음
+            assertThat(medicationRepository.getSummaryQueries()).isEqualTo(3);
+        }
+
+        private String stream(PageRequest pageRequest, Boolean isActive, CountMode countMode) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (PageResponseStreamWriter<MedicationSummaryResponse> writer = PageResponseStreamWriter.open(objectMapper, out)) {
+                medicationService.streamMedicationsByUserId(1L, pageRequest, isActive, countMode, writer);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @DisplayName("약물 목록 캐시")
+    @Nested
+    class ListCache {
+
+        private final PageRequest pageRequest = PageRequest.of(0, 10, "name", "asc", MedicationSortKeys.REGISTRY);
+
+        @BeforeEach
+        void setUpMedications() {
+            medicationRepository.clear();
+            createMedication("타이레놀", false);
+            createMedication("aspirin", true);
+            createMedication("Biotin", true);
+        }
+
+        @DisplayName("두 번째 목록/상세 조회는 저장소를 조회하지 않음")
+        @Test
+        void secondReadIsServedFromCache() {
+            PageResponse<MedicationSummaryResponse> first = medicationService.findMedicationsByUserId(1L, pageRequest, null);
+            PageResponse<MedicationSummaryResponse> second = medicationService.findMedicationsByUserId(1L, pageRequest, true);
+            MedicationResponse detail = medicationService.findMedicationById(first.content().get(0).medicationId(), 1L);
+
+            assertThat(first.totalElements()).isEqualTo(3);
+            assertThat(second.totalElements()).isEqualTo(2);
+            assertThat(detail.name()).isEqualTo("aspirin");
+            assertThat(medicationRepository.getFindAllQueries()).isEqualTo(1);
+            assertThat(medicationRepository.getCountQueries()).isZero();
+        }
+
+        @DisplayName("메모리 정렬은 이름의 대소문자를 구분하지 않음")
+        @Test
+        void sortsInMemory() {
+            PageResponse<MedicationSummaryResponse> ascending = medicationService.findMedicationsByUserId(1L, pageRequest, null);
+            PageResponse<MedicationSummaryResponse> secondPage = medicationService.findMedicationsByUserId(
+                    1L, PageRequest.of(1, 2, "name", "desc", MedicationSortKeys.REGISTRY), null, CountMode.NONE);
+
+            assertThat(ascending.content()).extracting(MedicationSummaryResponse::name)
+                    .containsExactly("aspirin", "Biotin", "타이레놀");
+            assertThat(secondPage.content()).extracting(MedicationSummaryResponse::name)
+                    .containsExactly("aspirin");
+            assertThat(secondPage.last()).isTrue();
+        }
+
+        @DisplayName("등록/수정/삭제 후에는 캐시가 무효화되어 변경된 목록을 반환")
+        @Test
+        void writesEvictCache() {
+            medicationService.findMedicationsByUserId(1L, pageRequest, null);
+
+            MedicationResponse created = createMedication("Omega3", true);
+            medicationService.updateMedication(1L, created.medicationId(), new MedicationUpdateRequest(
+                    JsonNullable.of("Calcium"), JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined()));
+            PageResponse<MedicationSummaryResponse> afterUpdate = medicationService.findMedicationsByUserId(1L, pageRequest, null);
+            medicationService.deleteMedication(1L, created.medicationId());
+            PageResponse<MedicationSummaryResponse> afterDelete = medicationService.findMedicationsByUserId(1L, pageRequest, null);
+
+            assertThat(afterUpdate.content()).extracting(MedicationSummaryResponse::name)
+                    .containsExactly("aspirin", "Biotin", "Calcium", "타이레놀");
+            assertThat(afterDelete.totalElements()).isEqualTo(3);
+            assertThatThrownBy(() -> medicationService.findMedicationById(created.medicationId(), 1L))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @DisplayName("다른 노드의 쓰기로 목록 버전이 바뀌면 무효화 없이도 다시 읽음")
+        @Test
+        void reloadsWhenVersionChanges() {
+            medicationService.findMedicationsByUserId(1L, pageRequest, null);
+
+            // 이 노드의 캐시를 무효화하지 않는 쓰기
+            Medication saved = medicationRepository.save(Medication.create(1L, "Calcium", 500, "mg", null, true));
+            medicationCounterRepository.increment(1L, 1, 1);
+            PageResponse<MedicationSummaryResponse> afterWrite = medicationService.findMedicationsByUserId(1L, pageRequest, null);
+            MedicationResponse detail = medicationService.findMedicationById(saved.getMedicationId(), 1L);
+
+            assertThat(afterWrite.content()).extracting(MedicationSummaryResponse::name)
+                    .containsExactly("aspirin", "Biotin", "Calcium", "타이레놀");
+            assertThat(detail.name()).isEqualTo("Calcium");
+            assertThat(medicationRepository.getFindAllQueries()).isEqualTo(2);
+        }
+
+        private MedicationResponse createMedication(String name, boolean isActive) {
+            return medicationService.createMedication(1L, new MedicationCreateRequest(name, 500, "mg", null, isActive));
+        }
+    }
+
+    @DisplayName("약물 목록 버전")
+    @Nested
+    class ListVersion {
+
+        @DisplayName("조회 결과에는 본문을 만들 때 읽은 버전이 함께 반환됨")
+        @Test
+        void versionedReadsReturnVersionOfBody() {
+            MedicationResponse created = medicationService.createMedication(1L,
+                    new MedicationCreateRequest("아스피린", 500, "mg", null, true));
+            PageRequest pageRequest = PageRequest.of(0, 10, "medicationId", "desc", MedicationSortKeys.REGISTRY);
+            medicationService.findMedicationsByUserId(1L, pageRequest, null);
+
+            // 다른 노드에서 수정되어 버전만 올라간 상태
+            medicationCounterRepository.increment(1L, 0, 0);
+            long version = medicationService.findVersion(1L);
+            medicationRepository.update(1L, created.medicationId(), new MedicationPatch(
+                    JsonNullable.of("타이레놀"), JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined()), version);
+
+            Versioned<PageResponse<MedicationSummaryResponse>> list =
+                    medicationService.findVersionedMedicationsByUserId(1L, pageRequest, null, CountMode.EXACT);
+            Versioned<CursorPageResponse<MedicationSummaryResponse>> cursorPage =
+                    medicationService.findVersionedMedicationsByUserIdWithCursor(1L, "", 10, "medicationId", "desc", null);
+            Versioned<MedicationResponse> detail = medicationService.findVersionedMedicationById(created.medicationId(), 1L);
+
+            assertThat(list.version()).isEqualTo(version);
+            assertThat(list.value().content()).extracting(MedicationSummaryResponse::name).containsExactly("타이레놀");
+            assertThat(cursorPage.version()).isEqualTo(version);
+            assertThat(detail.version()).isEqualTo(version);
+            assertThat(detail.value().name()).isEqualTo("타이레놀");
+        }
+
+        @DisplayName("등록/수정/삭제마다 버전이 증가하고 조회는 버전을 바꾸지 않음")
+        @Test
+        void versionIncreasesOnEveryWrite() {
+            long initial = medicationService.findVersion(1L);
+
+            MedicationResponse created = medicationService.createMedication(1L,
+                    new MedicationCreateRequest("아스피린", 500, "mg", null, true));
+            long afterCreate = medicationService.findVersion(1L);
+            medicationService.updateMedication(1L, created.medicationId(), new MedicationUpdateRequest(
+                    JsonNullable.undefined(), JsonNullable.of(1000), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined()));
+            long afterUpdate = medicationService.findVersion(1L);
+            medicationService.findMedicationById(created.medicationId(), 1L);
+            long afterRead = medicationService.findVersion(1L);
+            medicationService.deleteMedication(1L, created.medicationId());
+            long afterDelete = medicationService.findVersion(1L);
+
+            assertThat(initial).isZero();
+            assertThat(afterCreate).isGreaterThan(initial);
+            assertThat(afterUpdate).isGreaterThan(afterCreate);
+            assertThat(afterRead).isEqualTo(afterUpdate);
+            assertThat(afterDelete).isGreaterThan(afterUpdate);
+            assertThat(medicationService.findVersion(2L)).isZero();
+        }
+    }
+
+    @DisplayName("약물 목록 커서 조회")
+    @Nested
+    class FindMedicationsByUserIdWithCursor {
+
+        @BeforeEach
+        void setUpMedications() {
+            medicationRepository.clear();
+            List<Medication> medications = List.of(
+                    createTestMedication(1L, "아스피린", true),
+                    createTestMedication(1L, "타이레놀", false),
+                    createTestMedication(1L, "비타민C", true),
+                    createTestMedication(1L, "오메가3", true),
+                    createTestMedication(2L, "마그네슘", true)
+            );
+            medicationRepository.saveAll(medications);
+        }
+
+        @DisplayName("다음 커서로 이어서 조회하면 중복/누락 없이 모든 약물을 조회")
+        @ParameterizedTest(name = "{index} => 정렬={0} {1}, 페이지 크기={2}")
+        @MethodSource("cursorScenarios")
+        void scrollAllMedications(String sortBy, String direction, int size) {
+            List<Long> medicationIds = new ArrayList<>();
+            String cursor = "";
+            CursorPageResponse<MedicationSummaryResponse> response;
+            do {
+                response = medicationService.findMedicationsByUserIdWithCursor(1L, cursor, size, sortBy, direction, null);
+                assertThat(response.content()).hasSizeLessThanOrEqualTo(size);
+                response.content().forEach(medication -> medicationIds.add(medication.medicationId()));
+                cursor = response.nextCursor();
+            } while (response.hasNext());
+
+            assertThat(medicationIds).hasSize(4).doesNotHaveDuplicates();
+        }
+
+        static Stream<Arguments> cursorScenarios() {
+            return Stream.of(
+                    Arguments.of("medicationId", "desc", 1),
+                    Arguments.of("medicationId", "asc", 3),
+                    Arguments.of("name", "asc", 2),
+                    Arguments.of("name", "desc", 10)
+            );
+        }
+
+        @DisplayName("정렬 순서대로 조회되고 마지막 페이지에는 다음 커서가 없음")
+        @Test
+        void scrollInSortOrder() {
+            CursorPageResponse<MedicationSummaryResponse> first =
+                    medicationService.findMedicationsByUserIdWithCursor(1L, "", 2, "name", "asc", null);
+            CursorPageResponse<MedicationSummaryResponse> second =
+                    medicationService.findMedicationsByUserIdWithCursor(1L, first.nextCursor(), 2, "medicationId", "desc", null);
+
+            assertThat(first.content()).extracting(MedicationSummaryResponse::name).containsExactly("비타민C", "아스피린");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.content()).extracting(MedicationSummaryResponse::name).containsExactly("오메가3", "타이레놀");
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @DisplayName("활성 상태로 필터링")
+        @Test
+        void scrollByActiveStatus() {
+            CursorPageResponse<MedicationSummaryResponse> response =
+                    medicationService.findMedicationsByUserIdWithCursor(1L, "", 10, "medicationId", "desc", true);
+
+            assertThat(response.content()).hasSize(3).allMatch(MedicationSummaryResponse::isActive);
+        }
+
+        @DisplayName("잘못된 커서나 지원하지 않는 정렬 기준이면 실패")
+        @ParameterizedTest(name = "{index} => 커서={0}, 정렬={1}")
+        @MethodSource("invalidCursorScenarios")
+        void failWithInvalidCursor(String cursor, String sortBy) {
+            assertThatThrownBy(() -> medicationService.findMedicationsByUserIdWithCursor(1L, cursor, 10, sortBy, "desc", null))
+                    .isInstanceOf(BusinessRuleViolationException.class);
+        }
+
+        static Stream<Arguments> invalidCursorScenarios() {
+            return Stream.of(
+                    Arguments.of("not-a-cursor!", "medicationId"),
+                    Arguments.of("AQ", "medicationId"),
+                    Arguments.of("", "dosage")
+            );
+        }
+    }
+
     @DisplayName("약물 상세 조회")
     @Nested
     class FindMedicationById {
@@ -232,6 +675,24 @@ class MedicationServiceTest {
             assertThat(response.isActive()).isFalse();
         }
 
+        @Test
+        @DisplayName("활성 상태를 수정하면 저장된 값과 다를 때만 활성 개수가 바뀐다")
+        void updateIsActiveAdjustsActiveCount() {
+            MedicationResponse created = medicationService.createMedication(1L,
+                    new MedicationCreateRequest("아스피린", 500, "mg", null, true));
+            MedicationUpdateRequest deactivate = new MedicationUpdateRequest(JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined(), JsonNullable.of(false));
+
+            medicationService.updateMedication(1L, created.medicationId(), deactivate);
+            long afterFirst = medicationCounterRepository.findByUserId(1L).activeCount();
+            medicationService.updateMedication(1L, created.medicationId(), deactivate);
+            long afterSecond = medicationCounterRepository.findByUserId(1L).activeCount();
+
+            assertThat(afterFirst).isZero();
+            assertThat(afterSecond).isZero();
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isEqualTo(1);
+        }
+
         @DisplayName("부분 수정 성공")
         @ParameterizedTest(name = "{index} => {0}")
         @MethodSource("partialUpdateScenarios")
@@ -315,6 +776,56 @@ class MedicationServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("약");
         }
+
+        @Test
+        @DisplayName("삭제된 약물과 같은 이름으로는 수정 가능")
+        void updateToNameOfDeletedMedication() {
+            Medication savedMedication = medicationRepository.save(createTestMedication(1L, "아스피린", true));
+            Medication deletedMedication = medicationRepository.save(createTestMedication(1L, "타이레놀", true));
+            medicationService.deleteMedication(1L, deletedMedication.getMedicationId());
+
+            MedicationUpdateRequest request = new MedicationUpdateRequest(
+                    JsonNullable.of("타이레놀"),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined()
+            );
+
+            MedicationResponse response = medicationService.updateMedication(1L, savedMedication.getMedicationId(), request);
+
+            assertThat(response.name()).isEqualTo("타이레놀");
+            assertThat(response.isActive()).isTrue();
+        }
+
+        @Test
+        @DisplayName("설명을 null 로 수정하면 설명이 제거됨")
+        void clearDescription() {
+            Medication savedMedication = medicationRepository.save(createTestMedication(1L, "아스피린", true));
+
+            MedicationUpdateRequest request = new MedicationUpdateRequest(
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined(),
+                    JsonNullable.of(null),
+                    JsonNullable.undefined()
+            );
+
+            MedicationResponse response = medicationService.updateMedication(1L, savedMedication.getMedicationId(), request);
+
+            assertThat(response.description()).isNull();
+            assertThat(response.dosage()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("같은 이름의 약물 등록 시 실패")
+        void createFailWithDuplicateName() {
+            medicationRepository.save(createTestMedication(1L, "아스피린", true));
+
+            assertThatThrownBy(() -> medicationService.createMedication(1L, new MedicationCreateRequest("아스피린", 500, "mg", null, true)))
+                    .isInstanceOf(BusinessRuleViolationException.class)
+                    .hasMessageContaining("이미 동일한 이름의 약물이 존재합니다");
+        }
     }
 
     @DisplayName("약물 삭제")
@@ -351,6 +862,37 @@ class MedicationServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("약");
         }
+
+        @Test
+        @DisplayName("이미 삭제된 약물 삭제 실패")
+        void deleteAlreadyDeletedMedication() {
+            Medication savedMedication = medicationRepository.save(createTestMedication(1L, "아스피린", true));
+            medicationService.deleteMedication(1L, savedMedication.getMedicationId());
+
+            assertThatThrownBy(() -> medicationService.deleteMedication(1L, savedMedication.getMedicationId()))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(medicationCounterRepository.findByUserId(1L).totalCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("삭제된 약물은 수정되지 않음")
+        void updateAfterDeleteFails() {
+            Medication savedMedication = medicationRepository.save(createTestMedication(1L, "아스피린", true));
+            medicationService.deleteMedication(1L, savedMedication.getMedicationId());
+
+            MedicationUpdateRequest request = new MedicationUpdateRequest(
+                    JsonNullable.undefined(),
+                    JsonNullable.of(1000),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined(),
+                    JsonNullable.undefined()
+            );
+
+            assertThatThrownBy(() -> medicationService.updateMedication(1L, savedMedication.getMedicationId(), request))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(medicationRepository.findStoredById(savedMedication.getMedicationId()))
+                    .hasValueSatisfying(medication -> assertThat(medication.getDosage()).isEqualTo(500));
+        }
     }
 
     private Medication createTestMedication(long userId, String name, boolean isActive) {
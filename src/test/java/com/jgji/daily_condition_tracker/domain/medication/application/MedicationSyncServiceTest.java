@@ -0,0 +1,219 @@
+package com.jgji.daily_condition_tracker.domain.medication.application;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationChangeResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationChangesResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationUpdateRequest;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationCounterRepository;
+import com.jgji.daily_condition_tracker.fake.FakeMedicationRepository;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MedicationSyncServiceTest {
+
+    private FakeMedicationRepository medicationRepository;
+    private FakeMedicationCounterRepository medicationCounterRepository;
+    private MedicationService medicationService;
+    private MedicationSyncService medicationSyncService;
+    private FixtureMonkey fixtureMonkey;
+
+    private long aspirinId;
+    private long tylenolId;
+    private long vitaminId;
+
+    @BeforeEach
+    void setUp() {
+        medicationRepository = new FakeMedicationRepository();
+        medicationCounterRepository = new FakeMedicationCounterRepository(medicationRepository);
+        medicationService = new MedicationService(medicationRepository, medicationCounterRepository,
+                new MedicationCountCache(), new MedicationListCache());
+        medicationSyncService = new MedicationSyncService(medicationRepository);
+        fixtureMonkey = FixtureMonkey.builder()
+                .objectIntrospector(BuilderArbitraryIntrospector.INSTANCE)
+                .build();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        aspirinId = save(1L, "아스피린", now.minusHours(3));
+        tylenolId = save(1L, "타이레놀", now.minusHours(2));
+        vitaminId = save(1L, "비타민C", now.minusHours(1));
+        save(2L, "오메가3", now.minusHours(1));
+    }
+
+    @DisplayName("변경분 조회 성공")
+    @Nested
+    class Success {
+
+        @DisplayName("since 가 없으면 사용자의 모든 약을 변경 순서대로 반환")
+        @Test
+        void initialSync() {
+            MedicationChangesResponse response = medicationSyncService.findChanges(1L, null, 100);
+
+            assertThat(response.changes()).extracting(MedicationChangeResponse::medicationId)
+                    .containsExactly(aspirinId, tylenolId, vitaminId);
+            assertThat(response.hasMore()).isFalse();
+        }
+
+        @DisplayName("변경이 없으면 빈 목록과 같은 워터마크를 반환")
+        @Test
+        void noChanges() {
+            String watermark = medicationSyncService.findChanges(1L, null, 100).watermark();
+
+            MedicationChangesResponse response = medicationSyncService.findChanges(1L, watermark, 100);
+
+            assertThat(response.changes()).isEmpty();
+            assertThat(response.watermark()).isEqualTo(watermark);
+        }
+
+        @DisplayName("워터마크 이후 수정/삭제된 약만 반환하고 삭제된 약은 tombstone 으로 반환")
+        @Test
+        void changesSinceWatermark() {
+            String watermark = medicationSyncService.findChanges(1L, null, 100).watermark();
+
+            medicationService.updateMedication(1L, tylenolId, new MedicationUpdateRequest(
+                    JsonNullable.undefined(), JsonNullable.of(1000), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined()));
+            medicationService.deleteMedication(1L, aspirinId);
+
+            MedicationChangesResponse response = medicationSyncService.findChanges(1L, watermark, 100);
+
+            assertThat(response.changes()).extracting(MedicationChangeResponse::medicationId)
+                    .containsExactly(tylenolId, aspirinId);
+            assertThat(response.changes()).filteredOn(change -> change.medicationId() == tylenolId)
+                    .singleElement()
+                    .satisfies(change -> {
+                        assertThat(change.deleted()).isFalse();
+                        assertThat(change.dosage()).isEqualTo(1000);
+                    });
+            assertThat(response.changes()).filteredOn(change -> change.medicationId() == aspirinId)
+                    .singleElement()
+                    .satisfies(change -> {
+                        assertThat(change.deleted()).isTrue();
+                        assertThat(change.name()).isNull();
+                        assertThat(change.deletedAt()).isNotNull();
+                    });
+        }
+
+        @DisplayName("변경은 지연 없이 바로 반환되며 약 ID 가 아닌 변경 순서를 따름")
+        @Test
+        void changesAreOrderedByChangeSeq() {
+            String watermark = medicationSyncService.findChanges(1L, null, 100).watermark();
+            medicationService.deleteMedication(1L, vitaminId);
+            medicationService.updateMedication(1L, aspirinId, new MedicationUpdateRequest(
+                    JsonNullable.undefined(), JsonNullable.of(1000), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined()));
+
+            MedicationChangesResponse response = medicationSyncService.findChanges(1L, watermark, 100);
+
+            assertThat(response.changes()).extracting(MedicationChangeResponse::medicationId)
+                    .containsExactly(vitaminId, aspirinId);
+        }
+
+        @DisplayName("수정 일시가 워터마크 이전인 변경도 워터마크 이후에 커밋되면 반환")
+        @Test
+        void lateCommitWithEarlierUpdatedAt() {
+            String watermark = medicationSyncService.findChanges(1L, null, 100).watermark();
+
+            // 수정 일시를 받은 뒤 커밋이 늦어진 트랜잭션, 변경 순번은 카운터를 올린 시점의 버전
+            medicationCounterRepository.increment(1L, 1, 1);
+            long changeSeq = medicationCounterRepository.findVersion(1L);
+            long lateId = save(1L, "오메가3", OffsetDateTime.now().minusDays(1), changeSeq);
+
+            MedicationChangesResponse response = medicationSyncService.findChanges(1L, watermark, 100);
+
+            assertThat(response.changes()).extracting(MedicationChangeResponse::medicationId).containsExactly(lateId);
+        }
+
+        @DisplayName("size 보다 변경이 많으면 워터마크로 이어서 조회")
+        @Test
+        void pagesThroughChanges() {
+            MedicationChangesResponse first = medicationSyncService.findChanges(1L, null, 2);
+            MedicationChangesResponse second = medicationSyncService.findChanges(1L, first.watermark(), 2);
+
+            assertThat(first.changes()).extracting(MedicationChangeResponse::medicationId).containsExactly(aspirinId, tylenolId);
+            assertThat(first.hasMore()).isTrue();
+            assertThat(second.changes()).extracting(MedicationChangeResponse::medicationId).containsExactly(vitaminId);
+            assertThat(second.hasMore()).isFalse();
+        }
+    }
+
+    @DisplayName("변경분 조회 실패")
+    @Nested
+    class Failure {
+
+        @DisplayName("유효하지 않은 워터마크는 예외 발생")
+        @ParameterizedTest(name = "{index} => since={0}")
+        @ValueSource(strings = {"abc", "AAAA", "not-base64!"})
+        void invalidWatermark(String since) {
+            assertThatThrownBy(() -> medicationSyncService.findChanges(1L, since, 100))
+                    .isInstanceOf(BusinessRuleViolationException.class);
+        }
+    }
+
+    @DisplayName("워터마크는 인코딩 후 같은 위치로 복원됨")
+    @Test
+    void watermarkRoundTrip() {
+        MedicationSyncWatermark watermark = new MedicationSyncWatermark(7L, 42L);
+
+        MedicationSyncWatermark decoded = MedicationSyncWatermark.decode(watermark.encode());
+
+        assertThat(decoded).isEqualTo(watermark);
+    }
+
+    @DisplayName("updated_at 기준의 이전 워터마크는 처음부터 다시 동기화")
+    @Test
+    void legacyWatermarkRestartsSync() throws IOException {
+        Instant updatedAt = Instant.now();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeLong(updatedAt.getEpochSecond());
+            out.writeInt(updatedAt.getNano());
+            out.writeLong(vitaminId);
+        }
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        MedicationChangesResponse response = medicationSyncService.findChanges(1L, legacy, 100);
+
+        assertThat(response.changes()).extracting(MedicationChangeResponse::medicationId)
+                .containsExactly(aspirinId, tylenolId, vitaminId);
+    }
+
+    private long save(long userId, String name, OffsetDateTime updatedAt) {
+        medicationCounterRepository.increment(userId, 1, 1);
+        return save(userId, name, updatedAt, medicationCounterRepository.findVersion(userId));
+    }
+
+    private long save(long userId, String name, OffsetDateTime updatedAt, long changeSeq) {
+        Medication medication = fixtureMonkey.giveMeBuilder(Medication.class)
+                .set("userId", userId)
+                .set("name", name)
+                .set("dosage", 500)
+                .set("unit", "mg")
+                .set("isActive", true)
+                .set("isDeleted", false)
+                .setNull("deletedAt")
+                .set("createdAt", updatedAt)
+                .set("updatedAt", updatedAt)
+                .set("changeSeq", changeSeq)
+                .sample();
+        return medicationRepository.save(medication).getMedicationId();
+    }
+}
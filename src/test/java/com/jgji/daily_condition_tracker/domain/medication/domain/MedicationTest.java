@@ -2,6 +2,8 @@ package com.jgji.daily_condition_tracker.domain.medication.domain;
 
 import com.jgji.daily_condition_tracker.constants.MedicationConstants;
 import com.jgji.daily_condition_tracker.domain.medication.infrastructure.MedicationEntity;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationResponse;
+import com.jgji.daily_condition_tracker.domain.medication.presentation.dto.MedicationSummaryResponse;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import org.junit.jupiter.api.DisplayName;
@@ -175,6 +177,7 @@ class MedicationTest {
             assertThat(medication.getDeletedAt()).isEqualTo(entity.getDeletedAt());
             assertThat(medication.getCreatedAt()).isEqualTo(entity.getCreatedAt());
             assertThat(medication.getUpdatedAt()).isEqualTo(entity.getUpdatedAt());
+            assertThat(medication.getChangeSeq()).isEqualTo(entity.getChangeSeq());
         }
 
         @DisplayName("엔티티로부터 약물 객체 생성 - 선택적 필드 null")
@@ -219,6 +222,38 @@ class MedicationTest {
         }
     }
 
+    @DisplayName("응답 변환")
+    @Nested
+    class ToResponse {
+
+        @DisplayName("엔티티 -> 도메인 -> 응답 변환 시 모든 필드 유지")
+        @Test
+        void convertsEntityToResponses() {
+            MedicationEntity entity = fixtureMonkey.giveMeBuilder(MedicationEntity.class)
+                    .set("medicationId", 1L)
+                    .set("isActive", false)
+                    .sample();
+
+            Medication medication = Medication.of(entity);
+            MedicationResponse response = MedicationResponse.from(medication);
+            MedicationSummaryResponse summaryResponse = MedicationSummaryResponse.from(medication);
+
+            assertThat(response.medicationId()).isEqualTo(1L);
+            assertThat(response.name()).isEqualTo(entity.getName());
+            assertThat(response.dosage()).isEqualTo(entity.getDosage());
+            assertThat(response.unit()).isEqualTo(entity.getUnit());
+            assertThat(response.description()).isEqualTo(entity.getDescription());
+            assertThat(response.isActive()).isFalse();
+            assertThat(response.createdAt()).isEqualTo(entity.getCreatedAt());
+            assertThat(response.updatedAt()).isEqualTo(entity.getUpdatedAt());
+            assertThat(summaryResponse).isEqualTo(new MedicationSummaryResponse(1L, entity.getName(), entity.getDosage(),
+                    entity.getUnit(), false, entity.getCreatedAt(), entity.getUpdatedAt()));
+            assertThat(MedicationSummaryResponse.from(new MedicationSummary(1L, entity.getName(), entity.getDosage(),
+                    entity.getUnit(), false, entity.getCreatedAt(), entity.getUpdatedAt())))
+                    .isEqualTo(summaryResponse);
+        }
+    }
+
     @DisplayName("약물 소프트 삭제")
     @Nested
     class SoftDelete {
@@ -0,0 +1,185 @@
+package com.jgji.daily_condition_tracker.domain.medication.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.medication.application.MedicationSortKeys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정렬 허용 목록과 인덱스 일치 여부 검증
+ * 마이그레이션이 적용된 MySQL 이 필요하며 TEST_MYSQL_URL(, TEST_MYSQL_USERNAME, TEST_MYSQL_PASSWORD) 이 없으면 실행하지 않는다
+ * medications 와 같은 구조의 임시 테이블에 데이터를 채운 뒤 목록 쿼리의 EXPLAIN 결과로 인덱스 사용 여부를 확인한다
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_MYSQL_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MedicationSortIndexTest {
+
+    private static final String TABLE = "medications_sort_index_test";
+    // MedicationJpaRepository.SELECT_SUMMARY 가 읽는 컬럼
+    private static final List<String> SUMMARY_COLUMNS = List.of(
+            "medication_id", "name", "dosage", "unit", "is_active", "created_at", "updated_at");
+    private static final long USER_ID = 1L;
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv("TEST_MYSQL_URL"),
+                System.getenv().getOrDefault("TEST_MYSQL_USERNAME", "root"),
+                System.getenv().getOrDefault("TEST_MYSQL_PASSWORD", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " LIKE medications");
+        }
+        seed();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @DisplayName("허용된 정렬 기준마다 활성 상태 필터 유무별 (user_id, is_deleted[, is_active], 정렬 컬럼, medication_id, 요약 컬럼) 인덱스가 존재")
+    @Test
+    void everySortKeyHasIndex() throws SQLException {
+        List<List<String>> indexes = indexColumns();
+
+        for (String sortBy : MedicationSortKeys.REGISTRY.keys()) {
+            List<String> orderColumns = orderColumns(MedicationSortKeys.REGISTRY.sort(sortBy, "asc"));
+
+            List<String> activeFiltered = new ArrayList<>(List.of("user_id", "is_deleted", "is_active"));
+            activeFiltered.addAll(orderColumns);
+            List<String> unfiltered = new ArrayList<>(List.of("user_id", "is_deleted"));
+            unfiltered.addAll(orderColumns);
+
+            for (List<String> prefix : List.of(activeFiltered, unfiltered)) {
+                assertThat(indexes)
+                        .as("정렬 기준 %s 에 대한 %s 로 시작하고 요약 컬럼을 모두 포함하는 인덱스", sortBy, prefix)
+                        .anySatisfy(index -> {
+                            assertThat(index.subList(0, Math.min(prefix.size(), index.size()))).isEqualTo(prefix);
+                            assertThat(index).containsAll(SUMMARY_COLUMNS);
+                        });
+            }
+        }
+    }
+
+    @DisplayName("목록 조회는 활성 상태 필터 유무와 관계없이 filesort 없이 인덱스만 읽어 조회")
+    @ParameterizedTest(name = "{index} => sortBy={0}, direction={1}, isActive={2}")
+    @MethodSource("sortScenarios")
+    void sortServedByIndex(String sortBy, String direction, Boolean isActive) throws SQLException {
+        Sort sort = MedicationSortKeys.REGISTRY.sort(sortBy, direction);
+        String orderBy = sort.stream()
+                .map(order -> column(order.getProperty()) + " " + order.getDirection().name())
+                .collect(Collectors.joining(", "));
+        String activeFilter = isActive != null ? " AND is_active = " + (isActive ? 1 : 0) : "";
+
+        Map<String, String> plan = explain("SELECT medication_id, name, dosage, unit, is_active, created_at, updated_at FROM " + TABLE
+                + " WHERE user_id = " + USER_ID + " AND is_deleted = 0" + activeFilter + " ORDER BY " + orderBy + " LIMIT 20 OFFSET 40");
+
+        assertThat(plan.get("key")).as("사용한 인덱스").isNotNull();
+        assertThat(plan.get("type")).as("접근 방식").isNotEqualTo("ALL");
+        assertThat(String.valueOf(plan.get("Extra"))).as("추가 정보")
+                .doesNotContain("Using filesort")
+                .doesNotContain("Using index condition")
+                .contains("Using index");
+    }
+
+    Stream<Arguments> sortScenarios() {
+        return MedicationSortKeys.REGISTRY.keys().stream()
+                .flatMap(sortBy -> Stream.of("asc", "desc")
+                        .flatMap(direction -> Stream.of(
+                                Arguments.of(sortBy, direction, null),
+                                Arguments.of(sortBy, direction, true))));
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (user_id, name, dosage, unit, description, is_active, is_deleted, created_at, updated_at)"
+                + " VALUES (?, ?, 500, 'mg', ?, ?, ?, NOW(6) - INTERVAL ? MINUTE, NOW(6) - INTERVAL ? SECOND)")) {
+            for (int i = 0; i < 20_000; i++) {
+                insert.setLong(1, i < 2_000 ? USER_ID : 2 + i % 500);
+                insert.setString(2, "약-" + (i * 7919 % 20_000));
+                insert.setString(3, "메모".repeat(50));
+                insert.setBoolean(4, i % 5 != 0);
+                insert.setBoolean(5, i % 10 == 0);
+                insert.setInt(6, i * 31 % 100_000);
+                insert.setInt(7, i * 17 % 100_000);
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private Map<String, String> explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            assertThat(resultSet.next()).isTrue();
+            Map<String, String> plan = new LinkedHashMap<>();
+            for (int column = 1; column <= resultSet.getMetaData().getColumnCount(); column++) {
+                plan.put(resultSet.getMetaData().getColumnLabel(column), resultSet.getString(column));
+            }
+            return plan;
+        }
+    }
+
+    private List<List<String>> indexColumns() throws SQLException {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW INDEX FROM " + TABLE)) {
+            while (resultSet.next()) {
+                indexes.computeIfAbsent(resultSet.getString("Key_name"), key -> new ArrayList<>())
+                        .add(resultSet.getString("Column_name"));
+            }
+        }
+        return new ArrayList<>(indexes.values());
+    }
+
+    private List<String> orderColumns(Sort sort) {
+        return sort.stream().map(order -> column(order.getProperty())).toList();
+    }
+
+    // 엔티티 속성명 -> 컬럼명 (CamelCaseToUnderscoresNamingStrategy 와 같은 규칙)
+    private String column(String property) {
+        return property.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
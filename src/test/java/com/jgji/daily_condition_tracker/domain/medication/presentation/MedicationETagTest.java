@@ -0,0 +1,48 @@
+package com.jgji.daily_condition_tracker.domain.medication.presentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MedicationETagTest {
+
+    @DisplayName("상세 ETag 는 같은 시각이면 오프셋과 관계없이 같은 값")
+    @Test
+    void detailTagUsesInstant() {
+        OffsetDateTime utc = OffsetDateTime.of(2025, 5, 1, 0, 0, 0, 123_456_000, ZoneOffset.UTC);
+
+        assertThat(MedicationETag.of(1L, 3L, utc))
+                .isEqualTo(MedicationETag.of(1L, 3L, utc.withOffsetSameInstant(ZoneOffset.ofHours(9))))
+                .startsWith("\"1-3-")
+                .endsWith("\"");
+    }
+
+    @DisplayName("현재 버전의 목록/상세 태그가 있으면 해당 태그를 반환")
+    @ParameterizedTest(name = "{index} => If-None-Match={0}")
+    @ValueSource(strings = {"\"1-3\"", "W/\"1-3\"", "\"1-2\", \"1-3-1746057600123456\"", "\"9-9\",\"1-3\""})
+    void matchesCurrentVersion(String ifNoneMatch) {
+        assertThat(MedicationETag.findMatching(ifNoneMatch, 1L, 3L))
+                .hasValueSatisfying(tag -> assertThat(tag).startsWith("\"1-3"));
+    }
+
+    @DisplayName("다른 버전이나 다른 사용자의 태그는 일치하지 않음")
+    @ParameterizedTest(name = "{index} => If-None-Match={0}")
+    @ValueSource(strings = {"\"1-2\"", "\"1-33\"", "\"2-3\"", "\"11-3\"", "*"})
+    void doesNotMatchOtherVersionOrUser(String ifNoneMatch) {
+        assertThat(MedicationETag.findMatching(ifNoneMatch, 1L, 3L)).isEmpty();
+    }
+
+    @DisplayName("If-None-Match 가 없으면 일치하지 않음")
+    @ParameterizedTest
+    @NullAndEmptySource
+    void noHeader(String ifNoneMatch) {
+        assertThat(MedicationETag.findMatching(ifNoneMatch, 1L, 3L)).isEmpty();
+    }
+}
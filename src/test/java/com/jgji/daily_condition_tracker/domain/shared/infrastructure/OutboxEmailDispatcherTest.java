@@ -0,0 +1,225 @@
+package com.jgji.daily_condition_tracker.domain.shared.infrastructure;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import com.jgji.daily_condition_tracker.domain.shared.value.EmailProperties;
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.fake.FakeJavaMailSender;
+import com.jgji.daily_condition_tracker.fake.FakeOutboxEmailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEmailDispatcherTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 1_000L;
+
+    private FakeClock clock;
+    private FakeJavaMailSender mailSender;
+    private FakeOutboxEmailRepository repository;
+    private OutboxEmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(NOW);
+        mailSender = new FakeJavaMailSender();
+        repository = new FakeOutboxEmailRepository();
+        dispatcher = new OutboxEmailDispatcher(mailSender, repository, emailProperties(), new SimpleMeterRegistry(), Runnable::run, clock);
+    }
+
+    @DisplayName("발송 성공")
+    @Nested
+    class Success {
+
+        @DisplayName("대기 중인 이메일을 배치 단위로 한 연결에 묶어 발송")
+        @Test
+        void sendsPendingEmailsInBatches() {
+            OutboxEmail first = enqueue("a@test.com");
+            OutboxEmail second = enqueue("b@test.com");
+            OutboxEmail third = enqueue("c@test.com");
+
+            dispatcher.dispatch();
+
+            assertThat(mailSender.getSentMessages()).hasSize(3);
+            assertThat(mailSender.getConnections()).isEqualTo(2);
+            assertThat(mailSender.getSentMessages().get(0).getTo()).containsExactly("a@test.com");
+            assertThat(status(first)).isEqualTo(OutboxEmail.Status.SENT);
+            assertThat(status(second)).isEqualTo(OutboxEmail.Status.SENT);
+            assertThat(status(third)).isEqualTo(OutboxEmail.Status.SENT);
+        }
+
+        @DisplayName("발송된 이메일은 다시 발송하지 않음")
+        @Test
+        void doesNotResendSentEmails() {
+            enqueue("a@test.com");
+
+            dispatcher.dispatch();
+            dispatcher.dispatch();
+
+            assertThat(mailSender.getSentMessages()).hasSize(1);
+        }
+
+        @DisplayName("보관 기간이 지난 발송 완료 이메일 삭제")
+        @Test
+        void purgesSentEmailsAfterRetention() {
+            enqueue("a@test.com");
+            dispatcher.dispatch();
+
+            clock.advance(86_400_000L + 1);
+            dispatcher.purgeSent();
+
+            assertThat(repository.size()).isZero();
+        }
+    }
+
+    @DisplayName("발송 실행기")
+    @Nested
+    class DispatchExecutor {
+
+        @DisplayName("스케줄러 스레드는 발송을 실행기에 넘기고 바로 반환")
+        @Test
+        void handsOffToExecutor() {
+            List<Runnable> submitted = new ArrayList<>();
+            OutboxEmailDispatcher deferred = new OutboxEmailDispatcher(
+                    mailSender, repository, emailProperties(), new SimpleMeterRegistry(), submitted::add, clock);
+            OutboxEmail email = enqueue("a@test.com");
+
+            deferred.dispatch();
+
+            assertThat(mailSender.getSentMessages()).isEmpty();
+            assertThat(status(email)).isEqualTo(OutboxEmail.Status.PENDING);
+
+            submitted.forEach(Runnable::run);
+
+            assertThat(mailSender.getSentMessages()).hasSize(1);
+            assertThat(status(email)).isEqualTo(OutboxEmail.Status.SENT);
+        }
+    }
+
+    @DisplayName("발송 실패")
+    @Nested
+    class Fail {
+
+        @DisplayName("거부된 수신자만 재시도 대기로 남기고 나머지는 발송")
+        @Test
+        void retriesOnlyRejectedRecipients() {
+            OutboxEmail rejected = enqueue("rejected@test.com");
+            OutboxEmail accepted = enqueue("ok@test.com");
+            mailSender.rejectRecipient("rejected@test.com");
+
+            dispatcher.dispatch();
+
+            OutboxEmail failed = repository.findById(rejected.getOutboxEmailId()).orElseThrow();
+            assertThat(failed.getStatus()).isEqualTo(OutboxEmail.Status.PENDING);
+            assertThat(failed.getAttempts()).isEqualTo(1);
+            assertThat(failed.getNextAttemptAt()).isEqualTo(at(NOW + INITIAL_BACKOFF_MS));
+            assertThat(failed.getLastError()).contains("rejected@test.com");
+            assertThat(status(accepted)).isEqualTo(OutboxEmail.Status.SENT);
+        }
+
+        @DisplayName("재시도 간격은 시도마다 두 배로 증가")
+        @Test
+        void backsOffExponentially() {
+            OutboxEmail email = enqueue("a@test.com");
+            mailSender.setConnectionDown(true);
+
+            dispatcher.dispatch();
+            clock.advance(INITIAL_BACKOFF_MS - 1);
+            dispatcher.dispatch();
+
+            assertThat(repository.findById(email.getOutboxEmailId()).orElseThrow().getAttempts()).isEqualTo(1);
+
+            clock.advance(1);
+            dispatcher.dispatch();
+
+            OutboxEmail retried = repository.findById(email.getOutboxEmailId()).orElseThrow();
+            assertThat(retried.getAttempts()).isEqualTo(2);
+            assertThat(retried.getNextAttemptAt()).isEqualTo(at(clock.millis() + INITIAL_BACKOFF_MS * 2));
+        }
+
+        @DisplayName("최대 시도 횟수를 넘기면 DEAD 로 전환하고 더 이상 발송하지 않음")
+        @Test
+        void deadLettersAfterMaxAttempts() {
+            OutboxEmail email = enqueue("a@test.com");
+            mailSender.setConnectionDown(true);
+
+            for (int i = 0; i < MAX_ATTEMPTS; i++) {
+                dispatcher.dispatch();
+                clock.advance(INITIAL_BACKOFF_MS << i);
+            }
+            mailSender.setConnectionDown(false);
+            dispatcher.dispatch();
+
+            assertThat(status(email)).isEqualTo(OutboxEmail.Status.DEAD);
+            assertThat(mailSender.getSentMessages()).isEmpty();
+        }
+    }
+
+    private OutboxEmail enqueue(String recipient) {
+        return repository.save(OutboxEmail.create(recipient, "제목", "본문", at(clock.millis())));
+    }
+
+    private OutboxEmail.Status status(OutboxEmail email) {
+        return repository.findById(email.getOutboxEmailId()).orElseThrow().getStatus();
+    }
+
+    private static OffsetDateTime at(long millis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static EmailProperties emailProperties() {
+        return new EmailProperties() {
+            @Override
+            public String getFrom() {
+                return "noreply@test.com";
+            }
+
+            @Override
+            public String getFrontEndUrl() {
+                return "https://test.com";
+            }
+
+            @Override
+            public int getOutboxBatchSize() {
+                return BATCH_SIZE;
+            }
+
+            @Override
+            public int getOutboxMaxAttempts() {
+                return MAX_ATTEMPTS;
+            }
+
+            @Override
+            public long getOutboxInitialBackoffMs() {
+                return INITIAL_BACKOFF_MS;
+            }
+
+            @Override
+            public long getOutboxMaxBackoffMs() {
+                return 60_000L;
+            }
+
+            @Override
+            public long getOutboxLeaseMs() {
+                return 60_000L;
+            }
+
+            @Override
+            public long getOutboxRetentionMs() {
+                return 86_400_000L;
+            }
+        };
+    }
+}
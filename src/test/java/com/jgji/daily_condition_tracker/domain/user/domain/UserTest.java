@@ -1,6 +1,7 @@
 package com.jgji.daily_condition_tracker.domain.user.domain;
 
 import com.jgji.daily_condition_tracker.constants.UserConstants;
+import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserEntity;
 import com.jgji.daily_condition_tracker.fake.FakePasswordEncoder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
@@ -20,6 +21,37 @@ class UserTest {
 
     PasswordEncoder passwordEncoder = new FakePasswordEncoder("test");
 
+    @DisplayName("엔티티 변환")
+    @Nested
+    class EntityConversion {
+
+        @DisplayName("도메인 -> 엔티티 -> 도메인 변환 시 모든 필드 유지")
+        @Test
+        void roundTripKeepsAllFields() {
+            User user = User.createRegularUser(
+                    UserConstants.DEFAULT_EMAIL,
+                    UserConstants.DEFAULT_PASSWORD_HASH,
+                    UserConstants.DEFAULT_NICKNAME
+            ).verify().grantSuperuserPrivileges().deactivate();
+
+            UserEntity entity = UserEntity.fromDomain(user);
+            User converted = entity.toDomain();
+
+            assertThat(entity.getEmail()).isEqualTo(user.getEmail().getValue());
+            assertThat(entity.getPasswordHash()).isEqualTo(user.getPasswordHash().getValue());
+            assertThat(entity.isActive()).isFalse();
+            assertThat(entity.isSuperuser()).isTrue();
+            assertThat(entity.isVerified()).isTrue();
+            assertThat(converted.getEmail().getValue()).isEqualTo(user.getEmail().getValue());
+            assertThat(converted.getPasswordHash().getValue()).isEqualTo(user.getPasswordHash().getValue());
+            assertThat(converted.getNickname()).isEqualTo(user.getNickname());
+            assertThat(converted.isActive()).isFalse();
+            assertThat(converted.isSuperuser()).isTrue();
+            assertThat(converted.isVerified()).isTrue();
+            assertThat(converted.isDeleted()).isFalse();
+        }
+    }
+
     @DisplayName("유저 생성 - 성공 케이스")
     @Nested
     class Success {
@@ -0,0 +1,89 @@
+package com.jgji.daily_condition_tracker.domain.user.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserValueValidatorTest {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_-]+(?:\\.[A-Za-z0-9+_-]+)*@[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$");
+    private static final Pattern LEGACY_HASH_PATTERN = Pattern.compile("^[A-Za-z0-9+/=.,$-]+$");
+
+    @DisplayName("이메일 형식 검사")
+    @Nested
+    class ScanEmail {
+
+        @DisplayName("기존 정규식과 같은 결과를 반환")
+        @ParameterizedTest(name = "{index} => email={0}")
+        @ValueSource(strings = {
+                "test@example.com", "a@b.co", "user+tag@sub.domain.org", "a-b_c@d-e.fg",
+                "test@example.c", "test@example.c0m", "test@123.com", "test@example.123",
+                "user..name@domain.com", "user.@domain.com", ".user@domain.com",
+                "user@domain..com", "user@domain.", "user@.domain.com", "user@domain",
+                "test@@example.com", "test@exa@mple.com", "@example.com", "test@",
+                "us er@domain.com", "user@domain .com", "유저@domain.com", "user@도메인.com",
+                "user@-domain-.com", "user@domain.co.kr", "a.b.c@d.e.fg", ".", "@", "a@b"
+        })
+        void matchesLegacyRegex(String email) {
+            boolean expected = LEGACY_EMAIL_PATTERN.matcher(email).matches();
+
+            int at = UserValueValidator.scanEmail(email, 0, email.length());
+
+            assertThat(at >= 0).isEqualTo(expected);
+            if (expected) {
+                assertThat(at).isEqualTo(email.indexOf('@'));
+            }
+        }
+
+        @DisplayName("앞뒤 공백을 제외한 구간만 검사")
+        @Test
+        void scansTrimmedRange() {
+            String email = "  test@example.com\t";
+
+            int start = UserValueValidator.trimStart(email);
+            int end = UserValueValidator.trimEnd(email);
+
+            assertThat(email.substring(start, end)).isEqualTo("test@example.com");
+            assertThat(UserValueValidator.scanEmail(email, start, end)).isEqualTo(6);
+        }
+    }
+
+    @DisplayName("해시 형식 검사")
+    @Nested
+    class HashFormat {
+
+        @DisplayName("기존 정규식과 같은 결과를 반환")
+        @ParameterizedTest(name = "{index} => hash={0}")
+        @ValueSource(strings = {
+                "$argon2id$v=19$m=19456,t=2,p=1$c2FsdA$aGFzaA", "abc+/=.,$-XYZ09",
+                "has space", "tab\there", "한글", "under_score", "", "semi;colon"
+        })
+        void matchesLegacyRegex(String hash) {
+            assertThat(UserValueValidator.isHashFormat(hash))
+                    .isEqualTo(LEGACY_HASH_PATTERN.matcher(hash).matches());
+        }
+    }
+
+    @DisplayName("비밀번호 문자 종류 검사")
+    @Nested
+    class PasswordCharacterClasses {
+
+        @DisplayName("포함된 문자 종류만 플래그로 반환")
+        @Test
+        void returnsPresentClasses() {
+            assertThat(UserValueValidator.passwordCharacterClasses("Abc123!@"))
+                    .isEqualTo(UserValueValidator.PASSWORD_HAS_UPPER | UserValueValidator.PASSWORD_HAS_LOWER
+                            | UserValueValidator.PASSWORD_HAS_DIGIT | UserValueValidator.PASSWORD_HAS_SPECIAL);
+            assertThat(UserValueValidator.passwordCharacterClasses("abcdefgh"))
+                    .isEqualTo(UserValueValidator.PASSWORD_HAS_LOWER);
+            assertThat(UserValueValidator.passwordCharacterClasses("        ")).isZero();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 로컬 SMTP 대용
+ * 실제 연결 없이 발송된 메일과 연결(send 호출) 횟수를 기록하며, 수신자별 실패와 연결 실패를 흉내낼 수 있다
+ */
+public class FakeJavaMailSender implements JavaMailSender {
+
+    private final List<SimpleMailMessage> sentMessages = new ArrayList<>();
+    private final Set<String> rejectedRecipients = new HashSet<>();
+    private boolean connectionDown;
+    private int connections;
+
+    public void rejectRecipient(String recipient) {
+        rejectedRecipients.add(recipient);
+    }
+
+    public void acceptRecipient(String recipient) {
+        rejectedRecipients.remove(recipient);
+    }
+
+    public void setConnectionDown(boolean connectionDown) {
+        this.connectionDown = connectionDown;
+    }
+
+    public List<SimpleMailMessage> getSentMessages() {
+        return sentMessages;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    @Override
+    public void send(SimpleMailMessage simpleMessage) {
+        send(new SimpleMailMessage[]{simpleMessage});
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        if (connectionDown) {
+            throw new MailSendException("SMTP 서버에 연결할 수 없습니다.");
+        }
+        connections++;
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (SimpleMailMessage message : simpleMessages) {
+            String recipient = Objects.requireNonNull(message.getTo())[0];
+            if (rejectedRecipients.contains(recipient)) {
+                failedMessages.put(message, new MailSendException("수신자 거부: " + recipient));
+            } else {
+                sentMessages.add(message);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage((Session) null);
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void send(MimeMessage mimeMessage) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void send(MimeMessagePreparator mimeMessagePreparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void send(MimeMessagePreparator... mimeMessagePreparators) {
+        throw new UnsupportedOperationException();
+    }
+}
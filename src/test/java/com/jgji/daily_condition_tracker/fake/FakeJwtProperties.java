@@ -0,0 +1,56 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.global.security.filter.JwtSigningAlgorithm;
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import com.jgji.daily_condition_tracker.global.security.value.JwtSigningProperties;
+
+import java.util.List;
+
+/**
+ * HS256 공유 비밀키로 서명하는 테스트용 JWT 설정
+ */
+public class FakeJwtProperties implements JwtProperties, JwtSigningProperties {
+
+    private final String secret;
+    private final long accessTokenExpirationMs;
+
+    public FakeJwtProperties(String secret, long accessTokenExpirationMs) {
+        this.secret = secret;
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+    }
+
+    @Override
+    public String getSecret() {
+        return secret;
+    }
+
+    @Override
+    public long getAccessTokenExpirationMs() {
+        return accessTokenExpirationMs;
+    }
+
+    @Override
+    public long getRefreshTokenExpirationMs() {
+        return accessTokenExpirationMs * 2;
+    }
+
+    @Override
+    public JwtSigningAlgorithm getAlgorithm() {
+        return JwtSigningAlgorithm.HS256;
+    }
+
+    @Override
+    public long getRotationIntervalMs() {
+        return 86_400_000L;
+    }
+
+    @Override
+    public boolean isAcceptLegacyHs256() {
+        return true;
+    }
+
+    @Override
+    public List<ConfiguredKey> getKeys() {
+        return List.of();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationBatchRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationState;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationUpdate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class FakeMedicationBatchRepository implements MedicationBatchRepository {
+
+    private final FakeMedicationRepository medicationRepository;
+    private int batchCalls;
+
+    public FakeMedicationBatchRepository(FakeMedicationRepository medicationRepository) {
+        this.medicationRepository = medicationRepository;
+    }
+
+    @Override
+    public List<MedicationState> findLiveForUpdate(long userId, Collection<Long> medicationIds) {
+        return liveMedications(userId).stream()
+                .filter(medication -> medicationIds.contains(medication.getMedicationId()))
+                .map(this::toState)
+                .toList();
+    }
+
+    // 실제 저장소의 대소문자 무시 collation 과 같은 비교
+    @Override
+    public List<MedicationState> findLiveByNames(long userId, Collection<String> names) {
+        Set<String> keys = names.stream().map(name -> name.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        return liveMedications(userId).stream()
+                .filter(medication -> keys.contains(medication.getName().toLowerCase(Locale.ROOT)))
+                .map(this::toState)
+                .toList();
+    }
+
+    @Override
+    public List<Long> insertAll(List<Medication> medications, long changeSeq) {
+        if (!medications.isEmpty()) {
+            batchCalls++;
+        }
+        return medications.stream()
+                .map(medication -> medicationRepository.save(medication.withChangeSeq(changeSeq)).getMedicationId())
+                .toList();
+    }
+
+    @Override
+    public void updateAll(long userId, List<MedicationUpdate> updates, long changeSeq) {
+        if (!updates.isEmpty()) {
+            batchCalls++;
+        }
+        updates.forEach(update -> medicationRepository.update(userId, update.medicationId(), update.patch(), changeSeq));
+    }
+
+    @Override
+    public void softDeleteAll(long userId, Collection<Long> medicationIds, long changeSeq) {
+        if (!medicationIds.isEmpty()) {
+            batchCalls++;
+        }
+        medicationIds.forEach(medicationId -> medicationRepository.softDelete(userId, medicationId, changeSeq));
+    }
+
+    // 실제 저장소에서 DB 로 전송되는 배치(문장) 수
+    public int getBatchCalls() {
+        return batchCalls;
+    }
+
+    private List<Medication> liveMedications(long userId) {
+        return medicationRepository.findAllStored().stream()
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .toList();
+    }
+
+    private MedicationState toState(Medication medication) {
+        return new MedicationState(medication.getMedicationId(), medication.getName(), medication.isActive());
+    }
+}
@@ -0,0 +1,66 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounter;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationCounterRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeMedicationCounterRepository implements MedicationCounterRepository {
+
+    private final Map<Long, MedicationCounter> store = new HashMap<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+    private final FakeMedicationRepository medicationRepository;
+
+    public FakeMedicationCounterRepository(FakeMedicationRepository medicationRepository) {
+        this.medicationRepository = medicationRepository;
+    }
+
+    @Override
+    public MedicationCounter findByUserId(long userId) {
+        return store.getOrDefault(userId, MedicationCounter.EMPTY);
+    }
+
+    @Override
+    public long findVersion(long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    @Override
+    public void increment(long userId, long totalDelta, long activeDelta) {
+        versions.merge(userId, 1L, Long::sum);
+        MedicationCounter current = findByUserId(userId);
+        store.put(userId, new MedicationCounter(
+                Math.max(0, current.totalCount() + totalDelta),
+                Math.max(0, current.activeCount() + activeDelta)
+        ));
+    }
+
+    // 실제 저장소에서는 삭제할 약이 없으면 뒤따르는 삭제가 실패하여 롤백되므로, 개수는 바꾸지 않고 버전만 올림
+    @Override
+    public void decrementDeleted(long userId, long medicationId) {
+        Optional<Medication> live = medicationRepository.findStoredById(medicationId)
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted());
+        if (live.isEmpty()) {
+            increment(userId, 0, 0);
+            return;
+        }
+        increment(userId, -1, live.get().isActive() ? -1 : 0);
+    }
+
+    @Override
+    public void applyActiveChange(long userId, long medicationId, boolean isActive) {
+        long activeDelta = medicationRepository.findStoredById(medicationId)
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .map(medication -> (isActive ? 1L : 0L) - (medication.isActive() ? 1L : 0L))
+                .orElse(0L);
+        increment(userId, 0, activeDelta);
+    }
+
+    public void clear() {
+        store.clear();
+        versions.clear();
+    }
+}
@@ -1,13 +1,23 @@
 package com.jgji.daily_condition_tracker.fake;
 
 import com.jgji.daily_condition_tracker.domain.medication.domain.Medication;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationPatch;
 import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationRepository;
+import com.jgji.daily_condition_tracker.domain.medication.domain.MedicationSummary;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -18,6 +28,9 @@ public class FakeMedicationRepository implements MedicationRepository {
 
     private final Map<Long, Medication> store = new HashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private int countQueries;
+    private int findAllQueries;
+    private int summaryQueries;
 
     FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
             .objectIntrospector(BuilderArbitraryIntrospector.INSTANCE)
@@ -25,6 +38,8 @@ public class FakeMedicationRepository implements MedicationRepository {
 
     @Override
     public Medication save(Medication medication) {
+        validateUniqueName(medication.getUserId(), medication.getName(), medication.getMedicationId(), medication.isDeleted());
+
         if (medication.getMedicationId() == null) {
             long newId = idGenerator.getAndIncrement();
 
@@ -37,6 +52,10 @@ public class FakeMedicationRepository implements MedicationRepository {
                     .set("description", medication.getDescription())
                     .set("isActive", medication.isActive())
                     .set("isDeleted", false)
+                    // 서비스에서 생성한 약은 생성 시각을 유지하여 동기화 순서가 실제 저장소와 같도록 함
+                    .set("createdAt", Optional.ofNullable(medication.getCreatedAt()).orElseGet(OffsetDateTime::now))
+                    .set("updatedAt", Optional.ofNullable(medication.getUpdatedAt()).orElseGet(OffsetDateTime::now))
+                    .set("changeSeq", medication.getChangeSeq())
                     .sample();
 
             store.put(newId, newMedication);
@@ -54,7 +73,7 @@ public class FakeMedicationRepository implements MedicationRepository {
     }
 
     @Override
-    public Page<Medication> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
+    public Page<MedicationSummary> findByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
         List<Medication> filtered = store.values().stream()
                 .filter(medication -> medication.getUserId() == userId && 
                                     !medication.isDeleted() && 
@@ -65,7 +84,7 @@ public class FakeMedicationRepository implements MedicationRepository {
     }
 
     @Override
-    public Page<Medication> findByUserId(long userId, Pageable pageable) {
+    public Page<MedicationSummary> findByUserId(long userId, Pageable pageable) {
         List<Medication> filtered = store.values().stream()
                 .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
                 .collect(Collectors.toList());
@@ -74,15 +93,213 @@ public class FakeMedicationRepository implements MedicationRepository {
     }
 
     @Override
-    public boolean existsByNameAndUserIdAndIdNot(String name, long userId, long medicationId) {
+    public int update(long userId, long medicationId, MedicationPatch patch, long changeSeq) {
+        Optional<Medication> found = findByIdAndUserId(medicationId, userId);
+        if (found.isEmpty()) {
+            return 0;
+        }
+
+        Medication original = found.get();
+        String name = patch.name().orElse(original.getName());
+        validateUniqueName(userId, name, medicationId, false);
+
+        Medication updated = original.withUpdates(
+                name,
+                patch.dosage().orElse(original.getDosage()),
+                patch.unit().orElse(original.getUnit()),
+                patch.description().orElse(original.getDescription()),
+                patch.isActive().orElse(original.isActive())
+        ).withChangeSeq(changeSeq);
+        store.put(medicationId, updated);
+        return 1;
+    }
+
+    @Override
+    public int softDelete(long userId, long medicationId, long changeSeq) {
+        Optional<Medication> found = findByIdAndUserId(medicationId, userId);
+        if (found.isEmpty()) {
+            return 0;
+        }
+        store.put(medicationId, found.get().delete().withChangeSeq(changeSeq));
+        return 1;
+    }
+
+    @Override
+    public List<Medication> findAllByUserId(long userId, int limit) {
+        findAllQueries++;
         return store.values().stream()
-                .anyMatch(medication -> medication.getName().equals(name) && 
-                                      medication.getUserId() == userId && 
-                                      medication.getMedicationId() != medicationId &&
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .sorted(Comparator.comparing(Medication::getMedicationId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Medication> findChangedSince(long userId, long changeSeqAfter, long medicationIdAfter, int limit) {
+        return store.values().stream()
+                .filter(medication -> medication.getUserId() == userId)
+                .filter(medication -> medication.getChangeSeq() > changeSeqAfter
+                        || (medication.getChangeSeq() == changeSeqAfter && medication.getMedicationId() > medicationIdAfter))
+                .sorted(Comparator.comparingLong(Medication::getChangeSeq)
+                        .thenComparing(Medication::getMedicationId))
+                .limit(limit)
+                .toList();
+    }
+
+    public List<Medication> findAllStored() {
+        return new ArrayList<>(store.values());
+    }
+
+    // 삭제 여부와 관계없이 저장된 약 조회
+    public Optional<Medication> findStoredById(long medicationId) {
+        return Optional.ofNullable(store.get(medicationId));
+    }
+
+    // 실제 저장소의 (user_id, name, is_alive) 유니크 제약과 같은 규칙
+    private void validateUniqueName(long userId, String name, Long medicationId, boolean isDeleted) {
+        if (isDeleted) {
+            return;
+        }
+        boolean duplicated = store.values().stream()
+                .anyMatch(medication -> medication.getName().equals(name) &&
+                                      medication.getUserId() == userId &&
+                                      !medication.getMedicationId().equals(medicationId) &&
                                       !medication.isDeleted());
+        if (duplicated) {
+            throw new BusinessRuleViolationException("이미 동일한 이름의 약물이 존재합니다: " + name);
+        }
+    }
+
+    @Override
+    public Slice<MedicationSummary> findSliceByUserIdAndIsActive(long userId, boolean isActive, Pageable pageable) {
+        List<Medication> filtered = store.values().stream()
+                .filter(medication -> medication.getUserId() == userId &&
+                                    !medication.isDeleted() &&
+                                    medication.isActive() == isActive)
+                .collect(Collectors.toList());
+
+        return createSlice(filtered, pageable);
+    }
+
+    @Override
+    public Slice<MedicationSummary> findSliceByUserId(long userId, Pageable pageable) {
+        List<Medication> filtered = store.values().stream()
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .collect(Collectors.toList());
+
+        return createSlice(filtered, pageable);
+    }
+
+    @Override
+    public List<MedicationSummary> findSummaries(long userId, Boolean isActive, Sort sort, long offset, int limit) {
+        summaryQueries++;
+        List<Medication> medications = store.values().stream()
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .filter(medication -> isActive == null || medication.isActive() == isActive)
+                .sorted(comparatorOf(sort))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+        return toSummaries(medications);
+    }
+
+    @Override
+    public long countByUserIdAndIsActive(long userId, boolean isActive) {
+        countQueries++;
+        return store.values().stream()
+                .filter(medication -> medication.getUserId() == userId &&
+                                    !medication.isDeleted() &&
+                                    medication.isActive() == isActive)
+                .count();
+    }
+
+    @Override
+    public long countByUserId(long userId) {
+        countQueries++;
+        return store.values().stream()
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .count();
     }
 
-    private Page<Medication> createPage(List<Medication> medications, Pageable pageable) {
+    @Override
+    public Window<Medication> scrollByUserIdAndIsActive(long userId, boolean isActive, ScrollPosition position, Sort sort, int limit) {
+        List<Medication> filtered = store.values().stream()
+                .filter(medication -> medication.getUserId() == userId &&
+                                    !medication.isDeleted() &&
+                                    medication.isActive() == isActive)
+                .collect(Collectors.toList());
+
+        return createWindow(filtered, position, sort, limit);
+    }
+
+    @Override
+    public Window<Medication> scrollByUserId(long userId, ScrollPosition position, Sort sort, int limit) {
+        List<Medication> filtered = store.values().stream()
+                .filter(medication -> medication.getUserId() == userId && !medication.isDeleted())
+                .collect(Collectors.toList());
+
+        return createWindow(filtered, position, sort, limit);
+    }
+
+    private Window<Medication> createWindow(List<Medication> medications, ScrollPosition position, Sort sort, int limit) {
+        Comparator<Medication> comparator = comparatorOf(sort);
+        List<Medication> sorted = new ArrayList<>(medications);
+        sorted.sort(comparator);
+
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        List<Medication> remaining = sorted;
+        if (!keyset.isInitial()) {
+            Medication last = sorted.stream()
+                    .filter(medication -> sort.stream().allMatch(order ->
+                            Objects.equals(keyOf(medication, order.getProperty()), keyset.getKeys().get(order.getProperty()))))
+                    .findFirst()
+                    .orElseThrow();
+            remaining = sorted.subList(sorted.indexOf(last) + 1, sorted.size());
+        }
+
+        List<Medication> content = remaining.subList(0, Math.min(limit, remaining.size()));
+        return Window.from(content, index -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            sort.forEach(order -> keys.put(order.getProperty(), keyOf(content.get(index), order.getProperty())));
+            return ScrollPosition.forward(keys);
+        }, remaining.size() > limit);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<Medication> comparatorOf(Sort sort) {
+        Comparator<Medication> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Medication> next = Comparator.comparing(medication -> (Comparable) keyOf(medication, order.getProperty()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private Object keyOf(Medication medication, String property) {
+        return switch (property) {
+            case "medicationId" -> medication.getMedicationId();
+            case "name" -> medication.getName();
+            case "createdAt" -> medication.getCreatedAt();
+            case "updatedAt" -> medication.getUpdatedAt();
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + property);
+        };
+    }
+
+    private Slice<MedicationSummary> createSlice(List<Medication> medications, Pageable pageable) {
+        int start = (int) pageable.getOffset();
+        if (start >= medications.size()) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+
+        int end = Math.min(start + pageable.getPageSize(), medications.size());
+        return new SliceImpl<>(toSummaries(medications.subList(start, end)), pageable, end < medications.size());
+    }
+
+    private Page<MedicationSummary> createPage(List<Medication> medications, Pageable pageable) {
+        countQueries++;
         int start = (int) pageable.getOffset();
         int end = Math.min((start + pageable.getPageSize()), medications.size());
         
@@ -90,13 +307,42 @@ public class FakeMedicationRepository implements MedicationRepository {
             return new PageImpl<>(Collections.emptyList(), pageable, medications.size());
         }
         
-        List<Medication> pageContent = medications.subList(start, end);
+        List<MedicationSummary> pageContent = toSummaries(medications.subList(start, end));
         return new PageImpl<>(pageContent, pageable, medications.size());
     }
 
+    private List<MedicationSummary> toSummaries(List<Medication> medications) {
+        return medications.stream()
+                .map(medication -> new MedicationSummary(
+                        medication.getMedicationId(),
+                        medication.getName(),
+                        medication.getDosage(),
+                        medication.getUnit(),
+                        medication.isActive(),
+                        medication.getCreatedAt(),
+                        medication.getUpdatedAt()))
+                .toList();
+    }
+
     public void clear() {
         store.clear();
         idGenerator.set(1);
+        countQueries = 0;
+        findAllQueries = 0;
+        summaryQueries = 0;
+    }
+
+    // Page 조회와 count 조회는 실제 저장소에서 COUNT 쿼리를 실행하므로 횟수를 기록
+    public int getCountQueries() {
+        return countQueries;
+    }
+
+    public int getFindAllQueries() {
+        return findAllQueries;
+    }
+
+    public int getSummaryQueries() {
+        return summaryQueries;
     }
 
     public void saveAll(List<Medication> medications) {
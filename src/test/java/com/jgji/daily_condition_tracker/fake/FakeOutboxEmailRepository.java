@@ -0,0 +1,80 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.shared.domain.OutboxEmail;
+import com.jgji.daily_condition_tracker.domain.shared.infrastructure.OutboxEmailRepository;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.navercorp.fixturemonkey.api.expression.JavaGetterMethodPropertySelector.javaGetter;
+
+public class FakeOutboxEmailRepository implements OutboxEmailRepository {
+
+    private final Map<Long, OutboxEmail> store = new LinkedHashMap<>();
+    private final Map<Long, OffsetDateTime> leases = new HashMap<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+
+    FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
+            .objectIntrospector(BuilderArbitraryIntrospector.INSTANCE)
+            .build();
+
+    @Override
+    public OutboxEmail save(OutboxEmail outboxEmail) {
+        if (outboxEmail.getOutboxEmailId() == null) {
+            long newId = idGenerator.getAndIncrement();
+
+            OutboxEmail newOutboxEmail = fixtureMonkey.giveMeBuilder(OutboxEmail.class)
+                    .set(javaGetter(OutboxEmail::getOutboxEmailId), newId)
+                    .set("recipient", outboxEmail.getRecipient())
+                    .set("subject", outboxEmail.getSubject())
+                    .set("body", outboxEmail.getBody())
+                    .set("status", outboxEmail.getStatus())
+                    .set("attempts", outboxEmail.getAttempts())
+                    .set("nextAttemptAt", outboxEmail.getNextAttemptAt())
+                    .setNull("lastError")
+                    .setNull("sentAt")
+                    .sample();
+
+            store.put(newId, newOutboxEmail);
+            return newOutboxEmail;
+        }
+
+        store.put(outboxEmail.getOutboxEmailId(), outboxEmail);
+        leases.remove(outboxEmail.getOutboxEmailId());
+        return outboxEmail;
+    }
+
+    @Override
+    public List<OutboxEmail> claimDue(int limit, OffsetDateTime now, OffsetDateTime leaseUntil) {
+        List<OutboxEmail> claimed = store.values().stream()
+                .filter(email -> email.getStatus() == OutboxEmail.Status.PENDING)
+                .filter(email -> !leases.getOrDefault(email.getOutboxEmailId(), email.getNextAttemptAt()).isAfter(now))
+                .sorted(Comparator.comparing(OutboxEmail::getNextAttemptAt))
+                .limit(limit)
+                .toList();
+
+        claimed.forEach(email -> leases.put(email.getOutboxEmailId(), leaseUntil));
+        return claimed;
+    }
+
+    @Override
+    public int deleteSentBefore(OffsetDateTime before) {
+        List<Long> ids = store.values().stream()
+                .filter(email -> email.getStatus() == OutboxEmail.Status.SENT && email.getSentAt().isBefore(before))
+                .map(OutboxEmail::getOutboxEmailId)
+                .toList();
+        ids.forEach(store::remove);
+        return ids.size();
+    }
+
+    public Optional<OutboxEmail> findById(long outboxEmailId) {
+        return Optional.ofNullable(store.get(outboxEmailId));
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
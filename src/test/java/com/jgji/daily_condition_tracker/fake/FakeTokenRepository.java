@@ -0,0 +1,41 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.auth.infrastructure.TokenRepository;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FakeTokenRepository implements TokenRepository {
+
+    private final Map<String, Long> expiryByToken = new HashMap<>();
+    private final Map<Long, Long> userEpochs = new HashMap<>();
+    private final Clock clock;
+
+    public FakeTokenRepository(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void addToBlacklist(String token, long expiresAtMillis) {
+        expiryByToken.merge(token, expiresAtMillis, Math::max);
+    }
+
+    @Override
+    public boolean isBlacklisted(String token) {
+        Long expiresAtMillis = expiryByToken.get(token);
+        return expiresAtMillis != null && expiresAtMillis > clock.millis();
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        long epochMillis = (Math.floorDiv(clock.millis(), 1_000L) + 1) * 1_000L;
+        userEpochs.merge(userId, epochMillis, Math::max);
+    }
+
+    @Override
+    public boolean isRevokedForUser(Long userId, long issuedAtMillis) {
+        Long epochMillis = userId != null ? userEpochs.get(userId) : null;
+        return epochMillis != null && issuedAtMillis < epochMillis;
+    }
+}
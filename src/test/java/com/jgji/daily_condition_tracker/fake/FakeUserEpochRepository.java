@@ -0,0 +1,38 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.auth.infrastructure.UserEpochRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+public class FakeUserEpochRepository implements UserEpochRepository {
+
+    private final Map<Long, Long> epochs = new HashMap<>();
+    private int findCount = 0;
+
+    @Override
+    public void raise(long userId, long epochMillis) {
+        epochs.merge(userId, epochMillis, Math::max);
+    }
+
+    @Override
+    public OptionalLong findByUserId(long userId) {
+        findCount++;
+        Long epochMillis = epochs.get(userId);
+        return epochMillis != null ? OptionalLong.of(epochMillis) : OptionalLong.empty();
+    }
+
+    @Override
+    public void forEachAfter(long thresholdMillis, EpochConsumer consumer) {
+        epochs.forEach((userId, epochMillis) -> {
+            if (epochMillis > thresholdMillis) {
+                consumer.accept(userId, epochMillis);
+            }
+        });
+    }
+
+    public int getFindCount() {
+        return findCount;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jgji.daily_condition_tracker.fake;
+
+import com.jgji.daily_condition_tracker.domain.user.domain.User;
+import com.jgji.daily_condition_tracker.domain.user.infrastructure.UserRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class FakeUserRepository implements UserRepository {
+
+    private final Map<String, User> store = new HashMap<>();
+    private int queryCount = 0;
+
+    @Override
+    public boolean existsByEmail(String email) {
+        queryCount++;
+        return store.containsKey(email);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        queryCount++;
+        return Optional.ofNullable(store.get(email));
+    }
+
+    @Override
+    public Optional<User> findByUserId(Long userId) {
+        queryCount++;
+        return store.values().stream()
+                .filter(user -> Objects.equals(user.getUserId(), userId))
+                .findFirst();
+    }
+
+    @Override
+    public User create(User user) {
+        store.put(user.getEmail().getValue(), user);
+        return user;
+    }
+
+    @Override
+    public User update(User user) {
+        store.put(user.getEmail().getValue(), user);
+        return user;
+    }
+
+    @Override
+    public boolean updatePasswordHashIfUnchanged(Long userId, String expectedPasswordHash, String newPasswordHash) {
+        return false;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jgji.daily_condition_tracker.global.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.ApiResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponse;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageResponseStreamWriter;
+import com.jgji.daily_condition_tracker.global.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageResponseStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @DisplayName("스트리밍 응답은 ApiResponse<PageResponse> 를 직렬화한 결과와 같은 JSON")
+    @ParameterizedTest(name = "{index} => {0}")
+    @MethodSource("pageScenarios")
+    void sameShapeAsPageResponse(String scenario, PageResponse<Row> expected, Long totalElements, boolean hasNext) throws IOException {
+        String streamed = stream(expected.content(), expected.page(), expected.size(), totalElements, hasNext);
+
+        JsonNode actual = objectMapper.readTree(streamed);
+        assertThat(actual).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(ApiResponse.success(expected))));
+    }
+
+    static Stream<Arguments> pageScenarios() {
+        List<Row> rows = List.of(
+                new Row(1L, "아스피린", OffsetDateTime.of(2025, 5, 1, 9, 0, 0, 0, ZoneOffset.UTC)),
+                new Row(2L, "타이레놀", null)
+        );
+        return Stream.of(
+                Arguments.of("개수 포함, 다음 페이지 있음", PageResponse.of(rows, 0, 2, 5L, true), 5L, true),
+                Arguments.of("개수 포함, 마지막 페이지", PageResponse.of(rows, 2, 2, 6L, false), 6L, false),
+                Arguments.of("개수 없음", PageResponse.withoutTotal(rows, 1, 2, true), null, true),
+                Arguments.of("빈 페이지", PageResponse.withoutTotal(List.<Row>of(), 3, 2, false), null, false)
+        );
+    }
+
+    @DisplayName("필드 이름은 snake_case 로 변환됨")
+    @Test
+    void usesSnakeCase() throws IOException {
+        String streamed = stream(List.of(new Row(1L, "아스피린", null)), 0, 10, 1L, false);
+
+        assertThat(streamed)
+                .contains("\"total_elements\":1")
+                .contains("\"medication_id\":1")
+                .doesNotContain("totalElements")
+                .doesNotContain("medicationId");
+    }
+
+    @DisplayName("finish 전에 닫으면 열린 배열/객체를 닫지 않음")
+    @Test
+    void unfinishedStreamIsNotValidJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PageResponseStreamWriter<Row> writer = PageResponseStreamWriter.open(objectMapper, out)) {
+            writer.write(new Row(1L, "아스피린", null));
+        }
+
+        assertThatThrownBy(() -> objectMapper.readTree(out.toString(StandardCharsets.UTF_8)))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private String stream(List<Row> rows, int page, int size, Long totalElements, boolean hasNext) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PageResponseStreamWriter<Row> writer = PageResponseStreamWriter.open(objectMapper, out)) {
+            for (Row row : rows) {
+                writer.write(row);
+            }
+            writer.finish(page, size, totalElements, hasNext);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    record Row(long medicationId, String name, OffsetDateTime createdAt) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.jgji.daily_condition_tracker.global.common;
+
+import com.jgji.daily_condition_tracker.domain.medication.application.MedicationSortKeys;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.PageRequest;
+import com.jgji.daily_condition_tracker.domain.shared.presentation.dto.SortKeyRegistry;
+import com.jgji.daily_condition_tracker.global.exception.BusinessRuleViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortKeyRegistryTest {
+
+    private final SortKeyRegistry registry = MedicationSortKeys.REGISTRY;
+
+    @DisplayName("허용된 정렬 기준")
+    @Nested
+    class Success {
+
+        @DisplayName("보조 정렬로 medicationId 가 같은 방향으로 추가됨")
+        @Test
+        void appendTiebreaker() {
+            Sort sort = registry.sort("createdAt", "asc");
+
+            assertThat(sort).containsExactly(Sort.Order.asc("createdAt"), Sort.Order.asc("medicationId"));
+        }
+
+        @DisplayName("보조 정렬 속성으로 정렬하면 중복 추가하지 않음")
+        @Test
+        void tiebreakerOnly() {
+            Sort sort = registry.sort("medicationId", "desc");
+
+            assertThat(sort).containsExactly(Sort.Order.desc("medicationId"));
+        }
+
+        @DisplayName("방향이 asc 가 아니면 내림차순")
+        @Test
+        void defaultDescending() {
+            PageRequest pageRequest = PageRequest.of(-1, 0, "name", null, registry);
+
+            assertThat(pageRequest.page()).isZero();
+            assertThat(pageRequest.size()).isEqualTo(1);
+            assertThat(pageRequest.toPageable().getSort())
+                    .containsExactly(Sort.Order.desc("name"), Sort.Order.desc("medicationId"));
+        }
+    }
+
+    @DisplayName("허용되지 않은 정렬 기준")
+    @Nested
+    class Failure {
+
+        @DisplayName("인덱스가 없는 컬럼이나 알 수 없는 키는 쿼리 전에 거부")
+        @ParameterizedTest(name = "{index} => sortBy={0}")
+        @NullAndEmptySource
+        @ValueSource(strings = {"description", "dosage", "userId", "isDeleted", "medication_id", "name desc"})
+        void rejectUnknownKey(String sortBy) {
+            assertThatThrownBy(() -> PageRequest.of(0, 10, sortBy, "desc", registry))
+                    .isInstanceOf(BusinessRuleViolationException.class)
+                    .hasMessageContaining("지원하지 않는 정렬 기준입니다");
+        }
+
+        @DisplayName("보조 정렬 속성이 허용 목록에 없으면 생성 실패")
+        @Test
+        void tiebreakerMustBeAllowed() {
+            assertThatThrownBy(() -> SortKeyRegistry.of("id", Map.of("name", "name")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserDetailsService;
+import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.fake.FakeJwtProperties;
+import com.jgji.daily_condition_tracker.fake.FakeTokenRepository;
+import com.jgji.daily_condition_tracker.fake.FakeUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-authentication-filter-0123";
+    private static final long ONE_MINUTE = 60_000L;
+
+    private FakeClock clock;
+    private JwtClaimsCache claimsCache;
+    private JwtTokenProvider jwtTokenProvider;
+    private FakeTokenRepository tokenRepository;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(System.currentTimeMillis());
+        FakeJwtProperties properties = new FakeJwtProperties(SECRET, ONE_MINUTE);
+        claimsCache = new JwtClaimsCache(new SimpleMeterRegistry(), clock);
+        jwtTokenProvider = new JwtTokenProvider(properties, claimsCache, new JwtKeyring(properties, properties, clock));
+        tokenRepository = new FakeTokenRepository(clock);
+        filter = new JwtAuthenticationFilter(
+                jwtTokenProvider,
+                new CustomUserDetailsService(new FakeUserRepository(), jwtTokenProvider),
+                tokenRepository
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이면 토큰의 사용자로 인증한다")
+    void authenticateValidToken() throws ServletException, IOException {
+        String token = issueToken(1L, "user@example.com");
+
+        MockFilterChain chain = doFilter(token);
+
+        assertThat(authenticatedUsername()).isEqualTo("user@example.com");
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("클레임이 캐시된 토큰이라도 블랙리스트에 등록되면 인증하지 않는다")
+    void rejectBlacklistedTokenWithCachedClaims() throws ServletException, IOException {
+        String token = issueToken(1L, "user@example.com");
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+
+        VerifiedClaims cached = claimsCache.get(TokenDigest.of(token));
+        tokenRepository.addToBlacklist(token, cached.expiresAtMillis());
+        MockFilterChain chain = doFilter(token);
+
+        assertThat(claimsCache.get(TokenDigest.of(token))).isSameAs(cached);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("클레임이 캐시된 토큰이라도 사용자 전체 폐기 이전에 발급되었으면 인증하지 않는다")
+    void rejectUserRevokedTokenWithCachedClaims() throws ServletException, IOException {
+        String token = issueToken(1L, "user@example.com");
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+
+        // 토큰 발급 중 초가 바뀌어도 기준 시각이 발급 시각보다 늦도록 시계를 진행
+        clock.advance(1_000L);
+        tokenRepository.revokeAllForUser(1L);
+        doFilter(token);
+
+        assertThat(claimsCache.get(TokenDigest.of(token))).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰 폐기는 영향을 주지 않는다")
+    void otherUsersRevocationDoesNotAffect() throws ServletException, IOException {
+        String token = issueToken(1L, "user@example.com");
+        String otherToken = issueToken(2L, "other@example.com");
+
+        tokenRepository.addToBlacklist(otherToken, System.currentTimeMillis() + ONE_MINUTE);
+        tokenRepository.revokeAllForUser(2L);
+        doFilter(token);
+
+        assertThat(authenticatedUsername()).isEqualTo("user@example.com");
+    }
+
+    private MockFilterChain doFilter(String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    private String issueToken(Long userId, String email) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, email, "사용자", false);
+        return jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static String authenticatedUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long ONE_MINUTE = 60_000L;
+
+    private FakeClock clock;
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(NOW);
+        cache = new JwtClaimsCache(new SimpleMeterRegistry(), clock);
+    }
+
+    @DisplayName("캐시 항목 만료")
+    @Nested
+    class Expiry {
+
+        @Test
+        @DisplayName("토큰의 exp 직전까지는 캐시된 클레임이 조회된다")
+        void hitUntilExpiry() {
+            TokenDigest digest = TokenDigest.of("token-a");
+            VerifiedClaims claims = claimsExpiringAt(NOW + ONE_MINUTE);
+            cache.put(digest, claims);
+
+            clock.advance(ONE_MINUTE - 1);
+
+            assertThat(cache.get(digest)).isSameAs(claims);
+        }
+
+        @Test
+        @DisplayName("토큰의 exp 시점이 되면 캐시 정리 전이라도 조회되지 않는다")
+        void missAtExpiryBeforeCleanup() {
+            TokenDigest digest = TokenDigest.of("token-a");
+            cache.put(digest, claimsExpiringAt(NOW + ONE_MINUTE));
+
+            // Caffeine 의 만료 정리는 실제 시간을 따르므로 아직 항목이 남아있는 상태
+            clock.advance(ONE_MINUTE);
+
+            assertThat(cache.get(digest)).isNull();
+            assertThat(cache.get(digest)).isNull();
+        }
+
+        @Test
+        @DisplayName("이미 만료된 클레임은 저장하지 않는다")
+        void ignoreExpiredClaims() {
+            TokenDigest digest = TokenDigest.of("token-a");
+
+            cache.put(digest, claimsExpiringAt(NOW));
+            clock.advance(-1);
+
+            assertThat(cache.get(digest)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 토큰의 다이제스트로는 캐시된 클레임이 조회되지 않는다")
+    void missForDifferentDigest() {
+        cache.put(TokenDigest.of("token-a"), claimsExpiringAt(NOW + ONE_MINUTE));
+
+        assertThat(cache.get(TokenDigest.of("token-b"))).isNull();
+    }
+
+    private static VerifiedClaims claimsExpiringAt(long expiresAtMillis) {
+        return new VerifiedClaims("user@example.com", 1L, "user@example.com", "사용자", false, "ROLE_USER", null, NOW, expiresAtMillis);
+    }
+}
@@ -0,0 +1,149 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.global.security.value.JwtProperties;
+import com.jgji.daily_condition_tracker.global.security.value.JwtSigningProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyringTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+    private static final long ACCESS_TOKEN_MS = 180_000L;
+    private static final long REFRESH_TOKEN_MS = 3_600_000L;
+    private static final long ROTATION_INTERVAL_MS = 600_000L;
+
+    private final FakeClock clock = new FakeClock(NOW);
+
+    @DisplayName("비대칭 서명")
+    @Nested
+    class Asymmetric {
+
+        @Test
+        @DisplayName("kid 헤더와 함께 서명하고 같은 키링으로 검증된다")
+        void signWithKid() {
+            JwtKeyring keyring = keyring(JwtSigningAlgorithm.EDDSA, true);
+
+            String token = keyring.sign(Jwts.builder().subject("user@test.com")).compact();
+
+            JwtParser parser = Jwts.parser().keyLocator(keyring).build();
+            assertThat(parser.parseSignedClaims(token).getHeader().getKeyId()).isEqualTo(keyring.currentKid());
+            assertThat(parser.parseSignedClaims(token).getPayload().getSubject()).isEqualTo("user@test.com");
+        }
+
+        @Test
+        @DisplayName("교체 주기가 지나면 새 키로 서명하고, 이전 키로 서명된 토큰도 계속 검증된다")
+        void rotateKeepsPreviousKey() {
+            JwtKeyring keyring = keyring(JwtSigningAlgorithm.ES256, true);
+            String previousKid = keyring.currentKid();
+            String previousToken = keyring.sign(Jwts.builder().subject("user@test.com")).compact();
+
+            clock.advance(ROTATION_INTERVAL_MS);
+            keyring.rotate();
+
+            JwtParser parser = Jwts.parser().keyLocator(keyring).build();
+            assertThat(keyring.currentKid()).isNotEqualTo(previousKid);
+            assertThat(parser.parseSignedClaims(previousToken).getPayload().getSubject()).isEqualTo("user@test.com");
+            assertThat(keyring.publicJwks()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("보존 기간이 지난 이전 키는 검증 키 목록에서 제거된다")
+        void removeRetiredKey() {
+            JwtKeyring keyring = keyring(JwtSigningAlgorithm.EDDSA, true);
+            String previousToken = keyring.sign(Jwts.builder().subject("user@test.com")).compact();
+
+            clock.advance(ROTATION_INTERVAL_MS);
+            keyring.rotate();
+            clock.advance(REFRESH_TOKEN_MS);
+            keyring.rotate();
+
+            JwtParser parser = Jwts.parser().keyLocator(keyring).build();
+            assertThatThrownBy(() -> parser.parseSignedClaims(previousToken))
+                    .isInstanceOf(io.jsonwebtoken.JwtException.class);
+        }
+    }
+
+    @DisplayName("기존 HS256 토큰")
+    @Nested
+    class LegacyHs256 {
+
+        @Test
+        @DisplayName("허용된 경우 kid 가 없는 HS256 토큰을 검증한다")
+        void acceptLegacy() {
+            JwtKeyring keyring = keyring(JwtSigningAlgorithm.EDDSA, true);
+
+            JwtParser parser = Jwts.parser().keyLocator(keyring).build();
+            assertThat(parser.parseSignedClaims(legacyToken()).getPayload().getSubject()).isEqualTo("user@test.com");
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 경우 kid 가 없는 토큰을 거부한다")
+        void rejectLegacy() {
+            JwtKeyring keyring = keyring(JwtSigningAlgorithm.EDDSA, false);
+
+            JwtParser parser = Jwts.parser().keyLocator(keyring).build();
+            assertThatThrownBy(() -> parser.parseSignedClaims(legacyToken()))
+                    .isInstanceOf(io.jsonwebtoken.JwtException.class);
+        }
+    }
+
+    private JwtKeyring keyring(JwtSigningAlgorithm algorithm, boolean acceptLegacyHs256) {
+        JwtProperties jwtProperties = new JwtProperties() {
+            @Override
+            public String getSecret() {
+                return SECRET;
+            }
+
+            @Override
+            public long getAccessTokenExpirationMs() {
+                return ACCESS_TOKEN_MS;
+            }
+
+            @Override
+            public long getRefreshTokenExpirationMs() {
+                return REFRESH_TOKEN_MS;
+            }
+        };
+        JwtSigningProperties signingProperties = new JwtSigningProperties() {
+            @Override
+            public JwtSigningAlgorithm getAlgorithm() {
+                return algorithm;
+            }
+
+            @Override
+            public long getRotationIntervalMs() {
+                return ROTATION_INTERVAL_MS;
+            }
+
+            @Override
+            public boolean isAcceptLegacyHs256() {
+                return acceptLegacyHs256;
+            }
+
+            @Override
+            public List<ConfiguredKey> getKeys() {
+                return List.of();
+            }
+        };
+        return new JwtKeyring(jwtProperties, signingProperties, clock);
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder()
+                .subject("user@test.com")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+}
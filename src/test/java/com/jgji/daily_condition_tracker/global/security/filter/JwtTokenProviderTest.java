@@ -0,0 +1,115 @@
+package com.jgji.daily_condition_tracker.global.security.filter;
+
+import com.jgji.daily_condition_tracker.domain.auth.application.CustomUserPrincipal;
+import com.jgji.daily_condition_tracker.fake.FakeClock;
+import com.jgji.daily_condition_tracker.fake.FakeJwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-0123456789";
+    private static final long ONE_MINUTE = 60_000L;
+
+    private JwtKeyring keyring;
+    private JwtClaimsCache claimsCache;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        // 토큰 발급과 서명 검증은 실제 시간을 사용하므로 캐시 시계도 현재 시각에서 시작
+        FakeClock clock = new FakeClock(System.currentTimeMillis());
+        FakeJwtProperties properties = new FakeJwtProperties(SECRET, ONE_MINUTE);
+        keyring = new JwtKeyring(properties, properties, clock);
+        claimsCache = new JwtClaimsCache(new SimpleMeterRegistry(), clock);
+        jwtTokenProvider = new JwtTokenProvider(properties, claimsCache, keyring);
+    }
+
+    @DisplayName("검증된 클레임 캐시")
+    @Nested
+    class Caching {
+
+        @Test
+        @DisplayName("서명을 검증한 클레임을 캐시에 저장하고 같은 토큰은 캐시에서 반환한다")
+        void cacheVerifiedClaims() {
+            String token = jwtTokenProvider.generateAccessToken(authentication(1L, "user@example.com"));
+
+            VerifiedClaims claims = jwtTokenProvider.parseVerified(token);
+
+            assertThat(claims.userId()).isEqualTo(1L);
+            assertThat(claims.email()).isEqualTo("user@example.com");
+            assertThat(claimsCache.get(TokenDigest.of(token))).isSameAs(claims);
+            assertThat(jwtTokenProvider.parseVerified(token)).isSameAs(claims);
+        }
+
+        @Test
+        @DisplayName("서명을 바꾼 토큰은 다이제스트가 달라 캐시에 적중하지 않고 서명 검증에 실패한다")
+        void tamperedTokenMissesCacheAndFailsVerification() {
+            String token = jwtTokenProvider.generateAccessToken(authentication(1L, "user@example.com"));
+            String other = jwtTokenProvider.generateAccessToken(authentication(2L, "admin@example.com"));
+            jwtTokenProvider.parseVerified(token);
+
+            // 캐시된 토큰의 헤더/서명에 다른 사용자의 페이로드를 붙임
+            String[] parts = token.split("\\.");
+            String tampered = parts[0] + "." + other.split("\\.")[1] + "." + parts[2];
+            TokenDigest tamperedDigest = TokenDigest.of(tampered);
+
+            assertThat(tamperedDigest).isNotEqualTo(TokenDigest.of(token));
+            assertThat(claimsCache.get(tamperedDigest)).isNull();
+            assertThatThrownBy(() -> jwtTokenProvider.parseVerified(tampered))
+                    .isInstanceOf(SignatureException.class);
+            assertThat(jwtTokenProvider.tryParseVerified(tampered)).isEmpty();
+            assertThat(claimsCache.get(tamperedDigest)).isNull();
+        }
+    }
+
+    @DisplayName("검증 실패")
+    @Nested
+    class VerificationFailure {
+
+        @Test
+        @DisplayName("만료된 토큰은 빈 값을 반환하고 캐시에 저장하지 않는다")
+        void expiredToken() {
+            long now = System.currentTimeMillis();
+            String token = keyring.sign(Jwts.builder()
+                    .subject("user@example.com")
+                    .claim("userId", 1L)
+                    .issuedAt(new Date(now - 2 * ONE_MINUTE))
+                    .expiration(new Date(now - ONE_MINUTE))).compact();
+
+            assertThat(jwtTokenProvider.tryParseVerified(token)).isEmpty();
+            assertThat(claimsCache.get(TokenDigest.of(token))).isNull();
+        }
+
+        @Test
+        @DisplayName("빈 토큰은 파싱하지 않고 거부한다")
+        void blankToken() {
+            assertThatThrownBy(() -> jwtTokenProvider.parseVerified(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(jwtTokenProvider.tryParseVerified("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 빈 값을 반환한다")
+        void malformedToken() {
+            assertThat(jwtTokenProvider.tryParseVerified("not-a-jwt")).isEmpty();
+        }
+    }
+
+    private static Authentication authentication(Long userId, String email) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, email, "사용자", false);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,96 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import com.jgji.daily_condition_tracker.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlledPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private AdmissionControlledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("위임한 인코더의 결과를 그대로 반환한다")
+    void delegate() {
+        encoder = new AdmissionControlledPasswordEncoder(new PlainPasswordEncoder(), 1, 1, 1_000, new SimpleMeterRegistry());
+
+        assertThat(encoder.encode("password")).isEqualTo("encoded:password");
+        assertThat(encoder.matches("password", "encoded:password")).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 모두 차면 429 예외로 즉시 거부한다")
+    void rejectWhenSaturated() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        encoder = new AdmissionControlledPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 5_000, meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitUntilQueued(meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 429 예외로 거부한다")
+    void rejectOnTimeout() {
+        encoder = new AdmissionControlledPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 50, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.encode("slow"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private static void waitUntilQueued(SimpleMeterRegistry meterRegistry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("auth.password.hash.queue.depth").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingPasswordEncoder extends PlainPasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import com.jgji.daily_condition_tracker.fake.FakePasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Sha512PasswordEncoderTest {
+
+    private static final String PEPPER = "test-pepper";
+    private static final String RAW_PASSWORD = "Password123!";
+
+    @DisplayName("인코딩")
+    @Nested
+    class Encode {
+
+        @Test
+        @DisplayName("반복 횟수를 해시 앞에 기록한다")
+        void recordIterations() {
+            Sha512PasswordEncoder encoder = new Sha512PasswordEncoder(PEPPER, 1_000);
+
+            String encoded = encoder.encode(RAW_PASSWORD);
+
+            assertThat(encoded).startsWith("i=1000$");
+            assertThat(encoded.split("\\$")).hasSize(3);
+            assertThat(encoder.matches(RAW_PASSWORD, encoded)).isTrue();
+            assertThat(encoder.matches("Wrong123!", encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("반복 횟수 설정이 바뀌어도 저장된 반복 횟수로 검증한다")
+        void verifyWithStoredIterations() {
+            String encoded = new Sha512PasswordEncoder(PEPPER, 1_000).encode(RAW_PASSWORD);
+
+            Sha512PasswordEncoder tuned = new Sha512PasswordEncoder(PEPPER, 2_000);
+
+            assertThat(tuned.matches(RAW_PASSWORD, encoded)).isTrue();
+            assertThat(tuned.upgradeEncoding(encoded)).isTrue();
+        }
+
+        @Test
+        @DisplayName("저장된 반복 횟수가 현재 설정보다 많으면 재해시하지 않는다")
+        void notUpgradeStrongerHash() {
+            String encoded = new Sha512PasswordEncoder(PEPPER, 2_000).encode(RAW_PASSWORD);
+
+            assertThat(new Sha512PasswordEncoder(PEPPER, 1_000).upgradeEncoding(encoded)).isFalse();
+        }
+    }
+
+    @DisplayName("기존 형식 호환")
+    @Nested
+    class Legacy {
+
+        @Test
+        @DisplayName("반복 횟수가 없는 기존 {salt}${hash} 형식을 검증한다")
+        void matchLegacyFormat() {
+            String legacy = new FakePasswordEncoder(PEPPER).encode(RAW_PASSWORD);
+
+            Sha512PasswordEncoder encoder = new Sha512PasswordEncoder(PEPPER, 1_000);
+
+            assertThat(encoder.matches(RAW_PASSWORD, legacy)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("접두사 없이 반복 횟수를 기록한 {iterations}${salt}${hash} 형식을 검증한다")
+        void matchIterationsWithoutPrefix() {
+            Sha512PasswordEncoder encoder = new Sha512PasswordEncoder(PEPPER, 1_000);
+            String encoded = encoder.encode(RAW_PASSWORD).substring("i=".length());
+
+            assertThat(encoder.matches(RAW_PASSWORD, encoded)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.jgji.daily_condition_tracker.global.security.password;
+
+import com.jgji.daily_condition_tracker.fake.FakePasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedPasswordEncoderTest {
+
+    private static final String PEPPER = "test-pepper";
+    private static final String RAW_PASSWORD = "Password123!";
+
+    private final Sha512PasswordEncoder sha512 = new Sha512PasswordEncoder(PEPPER, 1_000);
+    private final Pbkdf2Sha512PasswordEncoder pbkdf2 = new Pbkdf2Sha512PasswordEncoder(PEPPER, 1_000);
+    private final Argon2idPasswordEncoder argon2id = new Argon2idPasswordEncoder(PEPPER, 1_024, 1, 1);
+
+    private VersionedPasswordEncoder encoderFor(String id) {
+        Map<String, PasswordEncoder> encoders = Map.of(
+                Sha512PasswordEncoder.ID, sha512,
+                Pbkdf2Sha512PasswordEncoder.ID, pbkdf2,
+                Argon2idPasswordEncoder.ID, argon2id
+        );
+        return new VersionedPasswordEncoder(id, encoders, sha512);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 알고리즘으로는 생성할 수 없다")
+    void unknownAlgorithm() {
+        assertThatThrownBy(() -> encoderFor("md5"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("인코딩")
+    @Nested
+    class Encode {
+
+        @Test
+        @DisplayName("argon2id 해시는 알고리즘과 파라미터를 접두사로 기록한다")
+        void argon2idFormat() {
+            String encoded = encoderFor(Argon2idPasswordEncoder.ID).encode(RAW_PASSWORD);
+
+            assertThat(encoded).startsWith("$argon2id$v=19$m=1024,t=1,p=1$");
+            assertThat(encoded.split("\\$")).hasSize(6);
+        }
+
+        @Test
+        @DisplayName("pbkdf2-sha512 해시는 알고리즘과 반복 횟수를 접두사로 기록한다")
+        void pbkdf2Format() {
+            String encoded = encoderFor(Pbkdf2Sha512PasswordEncoder.ID).encode(RAW_PASSWORD);
+
+            assertThat(encoded).startsWith("$pbkdf2-sha512$i=1000$");
+        }
+
+        @Test
+        @DisplayName("모든 알고리즘의 해시를 검증한다")
+        void matchAllAlgorithms() {
+            VersionedPasswordEncoder encoder = encoderFor(Argon2idPasswordEncoder.ID);
+
+            for (String id : new String[]{Argon2idPasswordEncoder.ID, Pbkdf2Sha512PasswordEncoder.ID, Sha512PasswordEncoder.ID}) {
+                String encoded = encoderFor(id).encode(RAW_PASSWORD);
+                assertThat(encoder.matches(RAW_PASSWORD, encoded)).as(id).isTrue();
+                assertThat(encoder.matches("Wrong123!", encoded)).as(id).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("알 수 없는 알고리즘 접두사는 검증에 실패한다")
+        void unknownPrefix() {
+            assertThat(encoderFor(Sha512PasswordEncoder.ID).matches(RAW_PASSWORD, "$md5$abc$def")).isFalse();
+        }
+    }
+
+    @DisplayName("재해시 판단")
+    @Nested
+    class UpgradeEncoding {
+
+        @Test
+        @DisplayName("접두사 없는 기존 해시는 검증되고 재해시 대상이다")
+        void legacyHash() {
+            String legacy = new FakePasswordEncoder(PEPPER).encode(RAW_PASSWORD);
+            VersionedPasswordEncoder encoder = encoderFor(Argon2idPasswordEncoder.ID);
+
+            assertThat(encoder.matches(RAW_PASSWORD, legacy)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 알고리즘의 해시는 재해시 대상이다")
+        void otherAlgorithm() {
+            String encoded = encoderFor(Sha512PasswordEncoder.ID).encode(RAW_PASSWORD);
+
+            assertThat(encoderFor(Argon2idPasswordEncoder.ID).upgradeEncoding(encoded)).isTrue();
+        }
+
+        @Test
+        @DisplayName("현재 설정으로 만든 해시는 재해시 대상이 아니다")
+        void currentSettings() {
+            VersionedPasswordEncoder encoder = encoderFor(Argon2idPasswordEncoder.ID);
+
+            assertThat(encoder.upgradeEncoding(encoder.encode(RAW_PASSWORD))).isFalse();
+        }
+
+        @Test
+        @DisplayName("현재 설정보다 약한 파라미터의 해시는 재해시 대상이다")
+        void weakerParameters() {
+            String weaker = encoderFor(Argon2idPasswordEncoder.ID).encode(RAW_PASSWORD);
+            Argon2idPasswordEncoder stronger = new Argon2idPasswordEncoder(PEPPER, 2_048, 1, 1);
+            VersionedPasswordEncoder encoder = new VersionedPasswordEncoder(Argon2idPasswordEncoder.ID,
+                    Map.of(Argon2idPasswordEncoder.ID, stronger), sha512);
+
+            assertThat(encoder.matches(RAW_PASSWORD, weaker)).isTrue();
+            assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        }
+    }
+}